@@ -5,6 +5,7 @@ import com.tz.rental.landlord_management.api.rest.dto.StandardErrorResponse;
 import com.tz.rental.landlord_management.application.dto.*;
 import com.tz.rental.landlord_management.application.service.AuthService;
 import com.tz.rental.landlord_management.application.service.JwtUtil;
+import com.tz.rental.landlord_management.application.service.UserCache;
 import com.tz.rental.landlord_management.application.service.UserDetailsServiceImpl;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
@@ -38,6 +39,7 @@ public class AuthController {
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthService authService;
     private final JwtUtil jwtUtil;
+    private final UserCache userCache;
 
     @PostMapping("/login")
     @Operation(summary = "Authenticate user and get JWT", description = "Authenticates a user with username and password, and returns a JWT token along with user profile details.")
@@ -142,7 +144,9 @@ public class AuthController {
         String username = jwtUtil.extractUsername(refreshToken);
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-        if (jwtUtil.validateToken(refreshToken, userDetails)) {
+        // Refresh tokens issued before a password reset or deactivation are refused as well
+        if (jwtUtil.validateToken(refreshToken, userDetails)
+                && !userCache.isTokenRevoked(username, jwtUtil.extractIssuedAt(refreshToken))) {
             String newAccessToken = jwtUtil.generateToken(userDetails);
             String newRefreshToken = jwtUtil.generateRefreshToken(userDetails);
 
@@ -0,0 +1,31 @@
+package com.tz.rental.landlord_management.api.rest.controller;
+
+import com.tz.rental.landlord_management.api.rest.dto.ApiResponse;
+import com.tz.rental.landlord_management.application.dto.CacheRegionStatsResponse;
+import com.tz.rental.landlord_management.application.service.SecondLevelCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Endpoints for inspecting application caches")
+public class CacheController {
+
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    @GetMapping("/second-level")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get second-level cache stats", description = "Hit/miss statistics per Hibernate second-level cache region (entities, natural ids and query results).")
+    public ResponseEntity<ApiResponse<List<CacheRegionStatsResponse>>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success("Second-level cache stats retrieved successfully", secondLevelCacheService.getRegionStats()));
+    }
+}
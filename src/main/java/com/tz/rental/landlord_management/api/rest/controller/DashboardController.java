@@ -1,15 +1,20 @@
 package com.tz.rental.landlord_management.api.rest.controller;
 
 import com.tz.rental.landlord_management.api.rest.dto.ApiResponse;
+import com.tz.rental.landlord_management.application.dto.CacheStatsResponse;
 import com.tz.rental.landlord_management.application.dto.DashboardResponse;
 import com.tz.rental.landlord_management.application.service.DashboardService;
+import com.tz.rental.landlord_management.application.service.DashboardStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/dashboard")
@@ -18,6 +23,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardStreamService dashboardStreamService;
 
     @GetMapping("/stats")
     @Operation(summary = "Get dashboard stats", description = "Retrieves key statistics for the landlord's dashboard.")
@@ -25,4 +31,17 @@ public class DashboardController {
         DashboardResponse response = dashboardService.getDashboardStats();
         return ResponseEntity.ok(ApiResponse.success("Dashboard stats retrieved successfully", response));
     }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream dashboard stats", description = "Server-Sent Events stream: a 'stats' event with the full dashboard on connect, then 'delta' events with only the figures that changed.")
+    public SseEmitter streamDashboardStats() {
+        return dashboardStreamService.subscribe();
+    }
+
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get dashboard cache stats", description = "Hit/miss statistics of the in-memory dashboard snapshot cache.")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success("Dashboard cache stats retrieved successfully", dashboardService.getCacheStats()));
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.tz.rental.landlord_management.api.rest.controller;
 import com.tz.rental.landlord_management.api.rest.dto.ApiResponse;
 import com.tz.rental.landlord_management.api.rest.dto.StandardErrorResponse;
 import com.tz.rental.landlord_management.application.dto.CreateHouseRequest;
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.HouseResponse;
 import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.RoomResponse;
@@ -19,8 +20,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -67,15 +70,33 @@ public class HouseController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all houses", description = "Retrieves a paginated list of all houses for the current landlord.")
+    @Operation(summary = "Get all houses", description = "Retrieves a paginated list of all houses for the current landlord. Sortable by name, propertyCode and createdAt; at most 100 per page. Image URLs are only included when includeImages is set.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Houses retrieved successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginatedResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandardErrorResponse.class)))
     })
-    public ResponseEntity<ApiResponse<PaginatedResponse<List<HouseResponse>>>> getAllHouses(Pageable pageable, @RequestParam(required = false) String status) {
-        PaginatedResponse<List<HouseResponse>> response = houseService.getAllHouses(pageable, status);
+    public ResponseEntity<ApiResponse<PaginatedResponse<List<HouseResponse>>>> getAllHouses(Pageable pageable, @RequestParam(required = false) String status,
+                                                                                            @RequestParam(defaultValue = "false") boolean includeImages) {
+        PaginatedResponse<List<HouseResponse>> response = houseService.getAllHouses(pageable, status, includeImages);
+        return ResponseEntity.ok(ApiResponse.success("Houses retrieved successfully", response));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Get houses by cursor", description = "Retrieves houses of the current landlord in creation order, one keyset page at a time. Pass the nextCursor or previousCursor of a response to move between pages; the total is only counted when includeTotal is set, and image URLs are only included when includeImages is set.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Houses retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPaginatedResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor or limit",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandardErrorResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<List<HouseResponse>>>> getHousesByCursor(@RequestParam(required = false) String cursor,
+                                                                                                      @RequestParam(defaultValue = "20") int limit,
+                                                                                                      @RequestParam(required = false) String status,
+                                                                                                      @RequestParam(defaultValue = "false") boolean includeTotal,
+                                                                                                      @RequestParam(defaultValue = "false") boolean includeImages) {
+        CursorPaginatedResponse<List<HouseResponse>> response = houseService.getHousesByCursor(cursor, limit, status, includeTotal, includeImages);
         return ResponseEntity.ok(ApiResponse.success("Houses retrieved successfully", response));
     }
 
@@ -113,17 +134,55 @@ public class HouseController {
     }
 
     @GetMapping("/{houseId}/rooms")
-    @Operation(summary = "Get all rooms for a house", description = "Retrieves a list of all rooms for a specific house.")
+    @Operation(summary = "Get all rooms for a house", description = "Retrieves a page of rooms for a specific house, optionally filtered by status and rent range. Sortable by roomNumber, monthlyRent, status and createdAt; at most 100 per page. Image URLs are only included when includeImages is set.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Rooms retrieved successfully",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = RoomResponse.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginatedResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid filter or sort field",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandardErrorResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "House not found",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandardErrorResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandardErrorResponse.class)))
     })
-    public ResponseEntity<ApiResponse<List<RoomResponse>>> getAllRoomsForHouse(@PathVariable UUID houseId, @RequestParam(required = false) RoomStatus status) {
-        List<RoomResponse> response = roomService.getAllRoomsForHouse(houseId, status);
+    public ResponseEntity<ApiResponse<PaginatedResponse<List<RoomResponse>>>> getAllRoomsForHouse(@PathVariable UUID houseId,
+                                                                                               @RequestParam(required = false) RoomStatus status,
+                                                                                               @RequestParam(required = false) BigDecimal minRent,
+                                                                                               @RequestParam(required = false) BigDecimal maxRent,
+                                                                                               Pageable pageable,
+                                                                                               @RequestParam(defaultValue = "false") boolean includeImages) {
+        PaginatedResponse<List<RoomResponse>> response = roomService.getAllRoomsForHouse(houseId, status, minRent, maxRent, pageable, includeImages);
+        return ResponseEntity.ok(ApiResponse.success("Rooms retrieved successfully", response));
+    }
+
+    @GetMapping("/{houseId}/rooms/cursor")
+    @Operation(summary = "Get rooms for a house by cursor", description = "Retrieves the rooms of a house in creation order, one keyset page at a time. Image URLs are only included when includeImages is set.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Rooms retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPaginatedResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor or limit",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandardErrorResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "House not found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = StandardErrorResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<List<RoomResponse>>>> getRoomsForHouseByCursor(@PathVariable UUID houseId,
+                                                                                                            @RequestParam(required = false) RoomStatus status,
+                                                                                                            @RequestParam(required = false) BigDecimal minRent,
+                                                                                                            @RequestParam(required = false) BigDecimal maxRent,
+                                                                                                            @RequestParam(required = false) String cursor,
+                                                                                                            @RequestParam(defaultValue = "20") int limit,
+                                                                                                            @RequestParam(defaultValue = "false") boolean includeTotal,
+                                                                                                            @RequestParam(defaultValue = "false") boolean includeImages) {
+        CursorPaginatedResponse<List<RoomResponse>> response = roomService.getRoomsForHouseByCursor(houseId, status, minRent, maxRent, cursor, limit,
+                includeTotal, includeImages);
         return ResponseEntity.ok(ApiResponse.success("Rooms retrieved successfully", response));
     }
-}
\ No newline at end of file
+
+    @PostMapping("/room-stats/recalculate")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Recalculate house room stats", description = "Recomputes the stored room counts and occupied income of every house from its rooms. Use for backfill or repair. Admin only.")
+    public ResponseEntity<ApiResponse<Integer>> recalculateRoomStats() {
+        int houses = houseService.recalculateAllRoomStats();
+        return ResponseEntity.ok(ApiResponse.success("House room stats recalculated successfully", houses));
+    }
+}
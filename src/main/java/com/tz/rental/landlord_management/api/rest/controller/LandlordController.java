@@ -3,12 +3,15 @@ package com.tz.rental.landlord_management.api.rest.controller;
 import com.tz.rental.landlord_management.api.rest.dto.ApiResponse;
 import com.tz.rental.landlord_management.application.dto.CreateLandlordRequest;
 import com.tz.rental.landlord_management.application.dto.LandlordResponse;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.service.LandlordService;
+import com.tz.rental.landlord_management.domain.repository.LandlordFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -60,9 +63,12 @@ public class LandlordController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get all landlords (Admin only)",
-            description = "Retrieve a list of all landlords in the system. This is an admin-only endpoint.")
-    public ResponseEntity<ApiResponse<List<LandlordResponse>>> getAllLandlords() {
-        List<LandlordResponse> response = landlordService.getAllLandlords();
+            description = "Retrieve a page of landlords in the system, optionally filtered by active flag or a name/email search. Sortable by firstName, lastName, email and createdAt; at most 100 per page. This is an admin-only endpoint.")
+    public ResponseEntity<ApiResponse<PaginatedResponse<List<LandlordResponse>>>> getAllLandlords(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String search,
+            Pageable pageable) {
+        PaginatedResponse<List<LandlordResponse>> response = landlordService.getAllLandlords(new LandlordFilter(active, search), pageable);
         return ResponseEntity.ok(
                 ApiResponse.success("Landlords retrieved successfully", response)
         );
@@ -2,8 +2,12 @@ package com.tz.rental.landlord_management.api.rest.controller;
 
 import com.tz.rental.landlord_management.api.rest.dto.ApiResponse;
 import com.tz.rental.landlord_management.application.dto.CreateLeaseRequest;
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.LeaseResponse;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.service.LeaseService;
+import com.tz.rental.landlord_management.domain.model.valueobject.LeaseStatus;
+import com.tz.rental.landlord_management.domain.repository.LeaseFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +17,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -52,6 +61,59 @@ public class LeaseController {
         return ResponseEntity.ok(ApiResponse.success("Lease retrieved successfully", response));
     }
 
+    @GetMapping
+    @Operation(summary = "Get leases", description = "Retrieve a page of the current landlord's leases, optionally filtered by status, start date and rent range. Sortable by startDate, endDate, rentAmount, status and createdAt; at most 100 per page.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Leases retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid filter or sort field")
+    })
+    public ResponseEntity<ApiResponse<PaginatedResponse<List<LeaseResponse>>>> getLeases(
+            @RequestParam(required = false) LeaseStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startTo,
+            @RequestParam(required = false) BigDecimal minRent,
+            @RequestParam(required = false) BigDecimal maxRent,
+            Pageable pageable) {
+        LeaseFilter filter = new LeaseFilter(status, startFrom, startTo, minRent, maxRent);
+        PaginatedResponse<List<LeaseResponse>> response = leaseService.getLeases(filter, pageable);
+        return ResponseEntity.ok(ApiResponse.success("Leases retrieved successfully", response));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Get leases by cursor", description = "Retrieve the current landlord's leases in creation order, one keyset page at a time. Pass the nextCursor or previousCursor of a response to move between pages; the total is only counted when includeTotal is set.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Leases retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor, limit or filter")
+    })
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<List<LeaseResponse>>>> getLeasesByCursor(
+            @RequestParam(required = false) LeaseStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startTo,
+            @RequestParam(required = false) BigDecimal minRent,
+            @RequestParam(required = false) BigDecimal maxRent,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        LeaseFilter filter = new LeaseFilter(status, startFrom, startTo, minRent, maxRent);
+        CursorPaginatedResponse<List<LeaseResponse>> response = leaseService.getLeasesByCursor(filter, cursor, limit, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success("Leases retrieved successfully", response));
+    }
+
+    @PostMapping("/{id}/terminate")
+    @Operation(summary = "Terminate a lease", description = "Ends an active lease early and frees up its room.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lease terminated successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Lease is not active or date is outside the lease period"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Lease not found")
+    })
+    public ResponseEntity<ApiResponse<LeaseResponse>> terminateLease(
+            @PathVariable UUID id,
+            @Parameter(description = "Date the lease ends. Defaults to today.", example = "2025-06-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate terminationDate) {
+        LeaseResponse response = leaseService.terminateLease(id, terminationDate != null ? terminationDate : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("Lease terminated successfully", response));
+    }
+
     @PostMapping("/{id}/generate-contract")
     @Operation(summary = "Generate PDF contract",
             description = "Generates a PDF rental agreement for the specified lease using an optional template and attaches its URL to the lease record.")
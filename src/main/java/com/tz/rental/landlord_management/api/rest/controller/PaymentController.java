@@ -2,16 +2,24 @@ package com.tz.rental.landlord_management.api.rest.controller;
 
 import com.tz.rental.landlord_management.api.rest.dto.ApiResponse;
 import com.tz.rental.landlord_management.application.dto.CreatePaymentRequest;
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.PaymentResponse;
 import com.tz.rental.landlord_management.application.service.PaymentService;
+import com.tz.rental.landlord_management.domain.model.valueobject.PaymentStatus;
+import com.tz.rental.landlord_management.domain.repository.PaymentFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,9 +47,34 @@ public class PaymentController {
     }
 
     @GetMapping("/lease/{leaseId}")
-    @Operation(summary = "Get payments by lease ID", description = "Retrieves all payments made for a specific lease.")
-    public ResponseEntity<ApiResponse<List<PaymentResponse>>> getPaymentsByLeaseId(@PathVariable UUID leaseId) {
-        List<PaymentResponse> response = paymentService.getPaymentsByLeaseId(leaseId);
+    @Operation(summary = "Get payments by lease ID", description = "Retrieves a page of payments made for a specific lease, optionally filtered by status, payment date and amount range. Sortable by paymentDate, amountPaid, status and createdAt; at most 100 per page.")
+    public ResponseEntity<ApiResponse<PaginatedResponse<List<PaymentResponse>>>> getPaymentsByLeaseId(
+            @PathVariable UUID leaseId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidTo,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            Pageable pageable) {
+        PaymentFilter filter = new PaymentFilter(status, paidFrom, paidTo, minAmount, maxAmount);
+        PaginatedResponse<List<PaymentResponse>> response = paymentService.getPaymentsByLeaseId(leaseId, filter, pageable);
+        return ResponseEntity.ok(ApiResponse.success("Payments retrieved successfully for lease", response));
+    }
+
+    @GetMapping("/lease/{leaseId}/cursor")
+    @Operation(summary = "Get payments by lease ID by cursor", description = "Retrieves the payments of a lease in creation order, one keyset page at a time. The total is only counted when includeTotal is set.")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<List<PaymentResponse>>>> getPaymentsByLeaseIdAndCursor(
+            @PathVariable UUID leaseId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate paidTo,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        PaymentFilter filter = new PaymentFilter(status, paidFrom, paidTo, minAmount, maxAmount);
+        CursorPaginatedResponse<List<PaymentResponse>> response = paymentService.getPaymentsByLeaseIdAndCursor(leaseId, filter, cursor, limit, includeTotal);
         return ResponseEntity.ok(ApiResponse.success("Payments retrieved successfully for lease", response));
     }
 
@@ -1,24 +1,38 @@
 package com.tz.rental.landlord_management.api.rest.controller;
 
 import com.tz.rental.landlord_management.api.rest.dto.ApiResponse;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReport;
 import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReport;
+import com.tz.rental.landlord_management.application.dto.PortfolioIncomeReport;
+import com.tz.rental.landlord_management.application.dto.PortfolioVacancyReport;
 import com.tz.rental.landlord_management.application.dto.VacancyReport;
 import com.tz.rental.landlord_management.application.service.ExcelGenerationService;
+import com.tz.rental.landlord_management.application.service.LandlordIncomeService;
 import com.tz.rental.landlord_management.application.service.PdfGenerationService;
+import com.tz.rental.landlord_management.application.service.PortfolioReportingService;
+import com.tz.rental.landlord_management.application.service.RentLedgerService;
+import com.tz.rental.landlord_management.application.service.ReportExportService;
+import com.tz.rental.landlord_management.application.service.ReportCacheService;
 import com.tz.rental.landlord_management.application.service.ReportingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
@@ -32,6 +46,33 @@ public class ReportController {
     private final ReportingService reportingService;
     private final PdfGenerationService pdfGenerationService;
     private final ExcelGenerationService excelGenerationService;
+    private final RentLedgerService rentLedgerService;
+    private final LandlordIncomeService landlordIncomeService;
+    private final ReportCacheService reportCacheService;
+    private final ReportExportService reportExportService;
+    private final PortfolioReportingService portfolioReportingService;
+
+    // Closed months carry ETag/Last-Modified; Spring answers matching conditional requests with 304
+    private static void applyValidators(ResponseEntity.BodyBuilder builder, ReportCacheService.CachedReport<?> report) {
+        if (report.etag() != null) {
+            builder.eTag(report.etag()).lastModified(report.lastModified())
+                    .cacheControl(CacheControl.noCache().cachePrivate());
+        }
+    }
+
+    private static HttpHeaders fileHeaders(MediaType contentType, String filename, ReportCacheService.CachedReport<?> report) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        headers.setContentDispositionFormData("attachment", filename);
+        if (report.etag() != null) {
+            headers.setETag(report.etag());
+            headers.setLastModified(report.lastModified());
+            headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        } else {
+            headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        }
+        return headers;
+    }
 
     @GetMapping("/income/monthly")
     @Operation(summary = "Generate Monthly Income Report",
@@ -42,8 +83,10 @@ public class ReportController {
             @Parameter(description = "Month for the report (1-12, e.g., 1 for January)", example = "1")
             @RequestParam int month) {
         YearMonth yearMonth = YearMonth.of(year, month);
-        MonthlyIncomeReport report = reportingService.generateMonthlyIncomeReport(yearMonth);
-        return ResponseEntity.ok(ApiResponse.success("Monthly income report generated successfully", report));
+        ReportCacheService.CachedReport<MonthlyIncomeReport> report = reportCacheService.getMonthlyIncomeReport(yearMonth);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        applyValidators(builder, report);
+        return builder.body(ApiResponse.success("Monthly income report generated successfully", report.content()));
     }
 
     @GetMapping("/income/monthly/pdf")
@@ -55,15 +98,11 @@ public class ReportController {
             @Parameter(description = "Month for the report (1-12, e.g., 1 for January)", example = "1")
             @RequestParam int month) throws IOException {
         YearMonth yearMonth = YearMonth.of(year, month);
-        MonthlyIncomeReport report = reportingService.generateMonthlyIncomeReport(yearMonth);
-        byte[] pdfBytes = pdfGenerationService.generateMonthlyIncomePdf(report);
+        ReportCacheService.CachedReport<byte[]> pdf = reportCacheService.getMonthlyIncomePdf(yearMonth);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
         String filename = "monthly_income_report_" + yearMonth.format(DateTimeFormatter.ofPattern("yyyy_MM")) + ".pdf";
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-        return new ResponseEntity<>(pdfBytes, headers, org.springframework.http.HttpStatus.OK);
+        HttpHeaders headers = fileHeaders(MediaType.APPLICATION_PDF, filename, pdf);
+        return new ResponseEntity<>(pdf.content(), headers, org.springframework.http.HttpStatus.OK);
     }
 
     @GetMapping("/income/monthly/excel")
@@ -75,17 +114,104 @@ public class ReportController {
             @Parameter(description = "Month for the report (1-12, e.g., 1 for January)", example = "1")
             @RequestParam int month) throws IOException {
         YearMonth yearMonth = YearMonth.of(year, month);
-        MonthlyIncomeReport report = reportingService.generateMonthlyIncomeReport(yearMonth);
-        byte[] excelBytes = excelGenerationService.generateMonthlyIncomeExcel(report);
+        ReportCacheService.CachedReport<byte[]> excel = reportCacheService.getMonthlyIncomeExcel(yearMonth);
+
+        String filename = "monthly_income_report_" + yearMonth.format(DateTimeFormatter.ofPattern("yyyy_MM")) + ".xlsx";
+        HttpHeaders headers = fileHeaders(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"), filename, excel);
+        return new ResponseEntity<>(excel.content(), headers, org.springframework.http.HttpStatus.OK);
+    }
+
+    @GetMapping("/income/monthly/pdf/stream")
+    @Operation(summary = "Stream Monthly Income Report as PDF",
+            description = "Streams the monthly income report as a PDF file, writing pages as rows are read. Intended for large portfolios.")
+    public ResponseEntity<StreamingResponseBody> streamMonthlyIncomeReportPdf(
+            @Parameter(description = "Year for the report (e.g., 2025)", example = "2025")
+            @RequestParam int year,
+            @Parameter(description = "Month for the report (1-12, e.g., 1 for January)", example = "1")
+            @RequestParam int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        String filename = "monthly_income_report_" + yearMonth.format(DateTimeFormatter.ofPattern("yyyy_MM")) + ".pdf";
+        headers.setContentDispositionFormData("attachment", filename);
+        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        StreamingResponseBody body = out -> reportExportService.writeMonthlyIncomePdf(yearMonth, out);
+        return new ResponseEntity<>(body, headers, org.springframework.http.HttpStatus.OK);
+    }
+
+    @GetMapping("/income/monthly/excel/stream")
+    @Operation(summary = "Stream Monthly Income Report as Excel",
+            description = "Streams the monthly income report as an Excel (XLSX) file with constant memory use. Intended for large portfolios.")
+    public ResponseEntity<StreamingResponseBody> streamMonthlyIncomeReportExcel(
+            @Parameter(description = "Year for the report (e.g., 2025)", example = "2025")
+            @RequestParam int year,
+            @Parameter(description = "Month for the report (1-12, e.g., 1 for January)", example = "1")
+            @RequestParam int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
         String filename = "monthly_income_report_" + yearMonth.format(DateTimeFormatter.ofPattern("yyyy_MM")) + ".xlsx";
         headers.setContentDispositionFormData("attachment", filename);
         headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        StreamingResponseBody body = out -> reportExportService.writeMonthlyIncomeExcel(yearMonth, out);
+        return new ResponseEntity<>(body, headers, org.springframework.http.HttpStatus.OK);
+    }
+
+    @GetMapping("/income/range")
+    @Operation(summary = "Generate Income Range Report",
+            description = "Generates an income statement over a range of months (e.g. a quarter or a year) with a month-by-month breakdown and per-lease totals.")
+    public ResponseEntity<ApiResponse<IncomeRangeReport>> getIncomeRangeReport(
+            @Parameter(description = "First month of the range (yyyy-MM)", example = "2025-01")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Last month of the range, inclusive (yyyy-MM)", example = "2025-12")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        IncomeRangeReport report = reportingService.generateIncomeRangeReport(from, to);
+        return ResponseEntity.ok(ApiResponse.success("Income range report generated successfully", report));
+    }
+
+    @GetMapping("/income/range/pdf")
+    @Operation(summary = "Export Income Range Report as PDF",
+            description = "Exports the income range report as a PDF file.")
+    public ResponseEntity<byte[]> exportIncomeRangeReportPdf(
+            @Parameter(description = "First month of the range (yyyy-MM)", example = "2025-01")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Last month of the range, inclusive (yyyy-MM)", example = "2025-12")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) throws IOException {
+        IncomeRangeReport report = reportingService.generateIncomeRangeReport(from, to);
+        byte[] pdfBytes = pdfGenerationService.generateIncomeRangePdf(report);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData("attachment", incomeRangeFilename(from, to) + ".pdf");
+        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        return new ResponseEntity<>(pdfBytes, headers, org.springframework.http.HttpStatus.OK);
+    }
+
+    @GetMapping("/income/range/excel")
+    @Operation(summary = "Export Income Range Report as Excel",
+            description = "Exports the income range report as an Excel (XLSX) file.")
+    public ResponseEntity<byte[]> exportIncomeRangeReportExcel(
+            @Parameter(description = "First month of the range (yyyy-MM)", example = "2025-01")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Last month of the range, inclusive (yyyy-MM)", example = "2025-12")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) throws IOException {
+        IncomeRangeReport report = reportingService.generateIncomeRangeReport(from, to);
+        byte[] excelBytes = excelGenerationService.generateIncomeRangeExcel(report);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+        headers.setContentDispositionFormData("attachment", incomeRangeFilename(from, to) + ".xlsx");
+        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
         return new ResponseEntity<>(excelBytes, headers, org.springframework.http.HttpStatus.OK);
     }
 
+    private static String incomeRangeFilename(YearMonth from, YearMonth to) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy_MM");
+        return "income_report_" + from.format(formatter) + "_to_" + to.format(formatter);
+    }
+
     @GetMapping("/vacancies")
     @Operation(summary = "Generate Vacancy Report",
             description = "Generates a report detailing all currently vacant rooms.")
@@ -123,4 +249,128 @@ public class ReportController {
         headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
         return new ResponseEntity<>(excelBytes, headers, org.springframework.http.HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/vacancies/pdf/stream")
+    @Operation(summary = "Stream Vacancy Report as PDF",
+            description = "Streams the vacancy report as a PDF file, writing pages as rows are read. Intended for large portfolios.")
+    public ResponseEntity<StreamingResponseBody> streamVacancyReportPdf() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        String filename = "vacancy_report_" + LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE) + ".pdf";
+        headers.setContentDispositionFormData("attachment", filename);
+        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        StreamingResponseBody body = reportExportService::writeVacancyPdf;
+        return new ResponseEntity<>(body, headers, org.springframework.http.HttpStatus.OK);
+    }
+
+    @GetMapping("/vacancies/excel/stream")
+    @Operation(summary = "Stream Vacancy Report as Excel",
+            description = "Streams the vacancy report as an Excel (XLSX) file with constant memory use. Intended for large portfolios.")
+    public ResponseEntity<StreamingResponseBody> streamVacancyReportExcel() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+        String filename = "vacancy_report_" + LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE) + ".xlsx";
+        headers.setContentDispositionFormData("attachment", filename);
+        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        StreamingResponseBody body = reportExportService::writeVacancyExcel;
+        return new ResponseEntity<>(body, headers, org.springframework.http.HttpStatus.OK);
+    }
+
+    @GetMapping("/income/monthly/export")
+    @Operation(summary = "Export Monthly Income Data",
+            description = "Streams the monthly income rows (one per lease) as CSV or newline-delimited JSON for use in external tools.")
+    public ResponseEntity<StreamingResponseBody> exportMonthlyIncomeData(
+            @Parameter(description = "Year for the report (e.g., 2025)", example = "2025")
+            @RequestParam int year,
+            @Parameter(description = "Month for the report (1-12, e.g., 1 for January)", example = "1")
+            @RequestParam int month,
+            @Parameter(description = "Output format", example = "CSV")
+            @RequestParam(defaultValue = "CSV") ReportExportService.ExportFormat format) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        String filename = "monthly_income_" + yearMonth.format(DateTimeFormatter.ofPattern("yyyy_MM"));
+        StreamingResponseBody body = out -> reportExportService.writeMonthlyIncomeRows(yearMonth, format, out);
+        return new ResponseEntity<>(body, dataExportHeaders(format, filename), org.springframework.http.HttpStatus.OK);
+    }
+
+    @GetMapping("/vacancies/export")
+    @Operation(summary = "Export Vacancy Data",
+            description = "Streams the vacant rooms as CSV or newline-delimited JSON for use in external tools.")
+    public ResponseEntity<StreamingResponseBody> exportVacancyData(
+            @Parameter(description = "Output format", example = "CSV")
+            @RequestParam(defaultValue = "CSV") ReportExportService.ExportFormat format) {
+        String filename = "vacancies_" + LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
+        StreamingResponseBody body = out -> reportExportService.writeVacancyRows(format, out);
+        return new ResponseEntity<>(body, dataExportHeaders(format, filename), org.springframework.http.HttpStatus.OK);
+    }
+
+    @GetMapping("/payments/export")
+    @Operation(summary = "Export Payment History",
+            description = "Streams every payment between two dates, with lease, tenant, room and house, as CSV or newline-delimited JSON.")
+    public ResponseEntity<StreamingResponseBody> exportPaymentHistory(
+            @Parameter(description = "First payment date to include", example = "2025-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment date to include", example = "2025-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Output format", example = "CSV")
+            @RequestParam(defaultValue = "CSV") ReportExportService.ExportFormat format) {
+        // Checked here: once the body starts streaming the 200 is already on the wire
+        reportingService.validatePaymentHistoryRange(from, to);
+        String filename = "payments_" + from.format(DateTimeFormatter.ISO_LOCAL_DATE) + "_to_" + to.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        StreamingResponseBody body = out -> reportExportService.writePaymentHistoryRows(from, to, format, out);
+        return new ResponseEntity<>(body, dataExportHeaders(format, filename), org.springframework.http.HttpStatus.OK);
+    }
+
+    private static HttpHeaders dataExportHeaders(ReportExportService.ExportFormat format, String filename) {
+        HttpHeaders headers = new HttpHeaders();
+        if (format == ReportExportService.ExportFormat.CSV) {
+            headers.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8));
+            headers.setContentDispositionFormData("attachment", filename + ".csv");
+        } else {
+            headers.setContentType(MediaType.APPLICATION_NDJSON);
+            headers.setContentDispositionFormData("attachment", filename + ".ndjson");
+        }
+        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        return headers;
+    }
+
+    @GetMapping("/admin/income/monthly")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Generate Portfolio Monthly Income Report",
+            description = "Generates a system-wide monthly income report with totals for every landlord. Admin only.")
+    public ResponseEntity<ApiResponse<PortfolioIncomeReport>> getPortfolioMonthlyIncomeReport(
+            @Parameter(description = "Year for the report (e.g., 2025)", example = "2025")
+            @RequestParam int year,
+            @Parameter(description = "Month for the report (1-12, e.g., 1 for January)", example = "1")
+            @RequestParam int month) {
+        PortfolioIncomeReport report = portfolioReportingService.generateMonthlyIncomeReport(YearMonth.of(year, month));
+        return ResponseEntity.ok(ApiResponse.success("Portfolio income report generated successfully", report));
+    }
+
+    @GetMapping("/admin/vacancies")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Generate Portfolio Vacancy Report",
+            description = "Generates a system-wide vacancy report with room counts for every landlord. Admin only.")
+    public ResponseEntity<ApiResponse<PortfolioVacancyReport>> getPortfolioVacancyReport() {
+        PortfolioVacancyReport report = portfolioReportingService.generateVacancyReport();
+        return ResponseEntity.ok(ApiResponse.success("Portfolio vacancy report generated successfully", report));
+    }
+
+    @PostMapping("/ledger/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild the rent ledger",
+            description = "Recomputes the per-lease monthly rent ledger from all leases and payments. Use for backfill or repair.")
+    public ResponseEntity<ApiResponse<Integer>> rebuildRentLedger() {
+        int rows = rentLedgerService.rebuild();
+        reportCacheService.evictAll();
+        return ResponseEntity.ok(ApiResponse.success("Rent ledger rebuilt successfully", rows));
+    }
+
+    @PostMapping("/income/counters/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reconcile monthly income counters",
+            description = "Recomputes every landlord's monthly collected income from payments and corrects drifted counters. Runs nightly; use for backfill or repair. Returns the number of corrected counters.")
+    public ResponseEntity<ApiResponse<Integer>> reconcileIncomeCounters() {
+        int corrected = landlordIncomeService.reconcile();
+        return ResponseEntity.ok(ApiResponse.success("Income counters reconciled successfully", corrected));
+    }
+}
@@ -0,0 +1,71 @@
+package com.tz.rental.landlord_management.api.rest.controller;
+
+import com.tz.rental.landlord_management.api.rest.dto.ApiResponse;
+import com.tz.rental.landlord_management.application.dto.ReportJobMetrics;
+import com.tz.rental.landlord_management.application.dto.ReportJobRequest;
+import com.tz.rental.landlord_management.application.dto.ReportJobResponse;
+import com.tz.rental.landlord_management.application.service.ReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/reports/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Report Jobs", description = "Endpoints for generating report files in the background and downloading them when ready")
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    @PostMapping
+    @Operation(summary = "Submit a report job",
+            description = "Queues a PDF or Excel report for background generation and returns the job ID to poll.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Report job accepted"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid report request"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Report queue is full")
+    })
+    public ResponseEntity<ApiResponse<ReportJobResponse>> submitJob(@Valid @RequestBody ReportJobRequest request) {
+        ReportJobResponse response = reportJobService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Report job accepted", response));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get report job status", description = "Returns the current status of a report job.")
+    public ResponseEntity<ApiResponse<ReportJobResponse>> getJobStatus(@PathVariable UUID id) {
+        ReportJobResponse response = reportJobService.getStatus(id);
+        return ResponseEntity.ok(ApiResponse.success("Report job status retrieved successfully", response));
+    }
+
+    @GetMapping("/{id}/download")
+    @Operation(summary = "Download a generated report", description = "Downloads the file of a completed report job.")
+    public ResponseEntity<Resource> downloadJobResult(@PathVariable UUID id) {
+        ReportJobService.JobFile file = reportJobService.getFile(id);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(file.contentType()));
+        headers.setContentDispositionFormData("attachment", file.filename());
+        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        return new ResponseEntity<>(new FileSystemResource(file.path()), headers, HttpStatus.OK);
+    }
+
+    @GetMapping("/metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get report job metrics", description = "Queue depth, throughput and duration metrics of the report job executor.")
+    public ResponseEntity<ApiResponse<ReportJobMetrics>> getJobMetrics() {
+        return ResponseEntity.ok(ApiResponse.success("Report job metrics retrieved successfully", reportJobService.getMetrics()));
+    }
+}
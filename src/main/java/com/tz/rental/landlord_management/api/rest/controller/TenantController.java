@@ -2,12 +2,16 @@ package com.tz.rental.landlord_management.api.rest.controller;
 
 import com.tz.rental.landlord_management.api.rest.dto.ApiResponse;
 import com.tz.rental.landlord_management.application.dto.CreateTenantRequest;
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.TenantResponse;
 import com.tz.rental.landlord_management.application.service.TenantService;
+import com.tz.rental.landlord_management.domain.repository.TenantFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -39,9 +43,24 @@ public class TenantController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all tenants", description = "Retrieve a list of all tenants in the system.")
-    public ResponseEntity<ApiResponse<List<TenantResponse>>> getAllTenants() {
-        List<TenantResponse> response = tenantService.getAllTenants();
+    @Operation(summary = "Get all tenants", description = "Retrieve a page of the current landlord's tenants, optionally filtered by active flag or a name/email/phone search. Sortable by firstName, lastName and createdAt; at most 100 per page.")
+    public ResponseEntity<ApiResponse<PaginatedResponse<List<TenantResponse>>>> getAllTenants(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String search,
+            Pageable pageable) {
+        PaginatedResponse<List<TenantResponse>> response = tenantService.getAllTenants(new TenantFilter(active, search), pageable);
+        return ResponseEntity.ok(ApiResponse.success("Tenants retrieved successfully", response));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Get tenants by cursor", description = "Retrieve the current landlord's tenants in creation order, one keyset page at a time. The total is only counted when includeTotal is set.")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<List<TenantResponse>>>> getTenantsByCursor(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPaginatedResponse<List<TenantResponse>> response = tenantService.getTenantsByCursor(new TenantFilter(active, search), cursor, limit, includeTotal);
         return ResponseEntity.ok(ApiResponse.success("Tenants retrieved successfully", response));
     }
 
@@ -0,0 +1,25 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Hit/miss statistics of a Hibernate second-level cache region since startup.")
+public class CacheRegionStatsResponse {
+    @Schema(description = "The cache region name", example = "users")
+    private String region;
+
+    @Schema(description = "Lookups served from the region", example = "970")
+    private long hitCount;
+
+    @Schema(description = "Lookups that had to go to the database", example = "30")
+    private long missCount;
+
+    @Schema(description = "Entries written to the region", example = "30")
+    private long putCount;
+
+    @Schema(description = "Fraction of lookups served from the region", example = "0.97")
+    private double hitRatio;
+}
@@ -0,0 +1,31 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Hit/miss statistics of an in-memory cache.")
+public class CacheStatsResponse {
+    @Schema(description = "The cache name", example = "dashboard")
+    private String name;
+
+    @Schema(description = "Number of entries currently held", example = "42")
+    private long size;
+
+    @Schema(description = "Lookups served from memory", example = "970")
+    private long hitCount;
+
+    @Schema(description = "Lookups that had to go to the database", example = "30")
+    private long missCount;
+
+    @Schema(description = "Fraction of lookups served from memory", example = "0.97")
+    private double hitRate;
+
+    @Schema(description = "Entries dropped because of size or age", example = "0")
+    private long evictionCount;
+
+    @Schema(description = "Entries dropped because the underlying data changed", example = "12")
+    private long invalidationCount;
+}
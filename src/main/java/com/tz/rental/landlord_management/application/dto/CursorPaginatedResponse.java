@@ -0,0 +1,21 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CursorPaginatedResponse<T> {
+    private T data;
+    private Pagination pagination;
+
+    @Data
+    @Builder
+    public static class Pagination {
+        private String nextCursor;
+        private String previousCursor;
+        private int limit;
+        // Only counted when the client asks for it
+        private Long totalItems;
+    }
+}
@@ -0,0 +1,28 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Data
+@Builder
+@Schema(description = "Income totals for one month of an income range report.")
+public class IncomeRangeMonth {
+    @Schema(description = "The month these totals cover", example = "2025-01")
+    private YearMonth month;
+
+    @Schema(description = "Number of leases billed in the month", example = "8")
+    private int leaseCount;
+
+    @Schema(description = "Total expected income for the month", example = "1000000.00")
+    private BigDecimal expectedIncome;
+
+    @Schema(description = "Total actual income received in the month", example = "950000.00")
+    private BigDecimal actualIncome;
+
+    @Schema(description = "Outstanding balance for the month", example = "50000.00")
+    private BigDecimal outstandingBalance;
+}
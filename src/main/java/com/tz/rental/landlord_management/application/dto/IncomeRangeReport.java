@@ -0,0 +1,35 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "Income statement over a range of months (e.g. a quarter or a year), with a month-by-month breakdown.")
+public class IncomeRangeReport {
+    @Schema(description = "First month covered by the report", example = "2025-01")
+    private YearMonth fromMonth;
+
+    @Schema(description = "Last month covered by the report", example = "2025-12")
+    private YearMonth toMonth;
+
+    @Schema(description = "Total expected income over the whole range", example = "12000000.00")
+    private BigDecimal totalExpectedIncome;
+
+    @Schema(description = "Total actual income received over the whole range", example = "11400000.00")
+    private BigDecimal totalActualIncome;
+
+    @Schema(description = "Total outstanding balance over the whole range", example = "600000.00")
+    private BigDecimal totalOutstandingBalance;
+
+    @Schema(description = "Totals for each month in the range, in calendar order")
+    private List<IncomeRangeMonth> months;
+
+    @Schema(description = "Totals for each lease over the whole range")
+    private List<IncomeRangeReportEntry> entries;
+}
@@ -0,0 +1,37 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@Schema(description = "Income from a single lease summed over all months of an income range report.")
+public class IncomeRangeReportEntry {
+    @Schema(description = "ID of the lease", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID leaseId;
+
+    @Schema(description = "Name of the tenant", example = "Jane Smith")
+    private String tenantName;
+
+    @Schema(description = "Room number", example = "R101")
+    private String roomNumber;
+
+    @Schema(description = "House name", example = "Kigamboni Beach House")
+    private String houseName;
+
+    @Schema(description = "Number of months in the range the lease was billed for", example = "3")
+    private int monthsBilled;
+
+    @Schema(description = "Expected rent for the lease over the range", example = "750000.00")
+    private BigDecimal expectedRent;
+
+    @Schema(description = "Amount paid for the lease over the range", example = "500000.00")
+    private BigDecimal amountPaid;
+
+    @Schema(description = "Balance remaining for the lease over the range", example = "250000.00")
+    private BigDecimal balance;
+}
@@ -0,0 +1,28 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@Schema(description = "Monthly income totals of a single landlord within a portfolio report.")
+public class LandlordIncomeSummary {
+    @Schema(description = "ID of the landlord", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID landlordId;
+
+    @Schema(description = "Full name of the landlord", example = "John Doe")
+    private String landlordName;
+
+    @Schema(description = "Total expected income for the month", example = "1000000.00")
+    private BigDecimal totalExpectedIncome;
+
+    @Schema(description = "Total actual income received in the month", example = "950000.00")
+    private BigDecimal totalActualIncome;
+
+    @Schema(description = "Total outstanding balance for the month", example = "50000.00")
+    private BigDecimal totalOutstandingBalance;
+}
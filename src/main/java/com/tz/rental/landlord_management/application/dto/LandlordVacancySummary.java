@@ -0,0 +1,24 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@Schema(description = "Vacancy counts of a single landlord within a portfolio report.")
+public class LandlordVacancySummary {
+    @Schema(description = "ID of the landlord", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID landlordId;
+
+    @Schema(description = "Full name of the landlord", example = "John Doe")
+    private String landlordName;
+
+    @Schema(description = "Total number of rooms of the landlord", example = "12")
+    private long totalRooms;
+
+    @Schema(description = "Number of vacant rooms of the landlord", example = "2")
+    private long vacantRooms;
+}
@@ -0,0 +1,42 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import com.tz.rental.landlord_management.domain.model.valueobject.PaymentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@Schema(description = "A single payment with its lease, tenant, room and house, as written by payment history exports.")
+public class PaymentHistoryEntry {
+    @Schema(description = "ID of the payment", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID paymentId;
+
+    @Schema(description = "ID of the lease the payment belongs to", example = "b1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID leaseId;
+
+    @Schema(description = "Name of the tenant", example = "Jane Smith")
+    private String tenantName;
+
+    @Schema(description = "Room number", example = "R101")
+    private String roomNumber;
+
+    @Schema(description = "House name", example = "Kigamboni Beach House")
+    private String houseName;
+
+    @Schema(description = "Amount paid", example = "250000.00")
+    private BigDecimal amountPaid;
+
+    @Schema(description = "Date of the payment", example = "2025-01-05")
+    private LocalDate paymentDate;
+
+    @Schema(description = "Status of the payment", example = "PAID")
+    private PaymentStatus status;
+
+    @Schema(description = "Transaction reference", example = "MPESA-QWE123RTY")
+    private String transactionReference;
+}
@@ -0,0 +1,32 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "System-wide monthly income report across all landlords (admin only).")
+public class PortfolioIncomeReport {
+    @Schema(description = "The month and year this report covers", example = "2025-01")
+    private YearMonth reportMonth;
+
+    @Schema(description = "Number of landlords included in the report", example = "42")
+    private int landlordCount;
+
+    @Schema(description = "Total expected income across all landlords", example = "42000000.00")
+    private BigDecimal totalExpectedIncome;
+
+    @Schema(description = "Total actual income received across all landlords", example = "39500000.00")
+    private BigDecimal totalActualIncome;
+
+    @Schema(description = "Total outstanding balance across all landlords", example = "2500000.00")
+    private BigDecimal totalOutstandingBalance;
+
+    @Schema(description = "Income totals for each landlord")
+    private List<LandlordIncomeSummary> landlords;
+}
@@ -0,0 +1,28 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "System-wide vacancy report across all landlords (admin only).")
+public class PortfolioVacancyReport {
+    @Schema(description = "The date the report was generated", example = "2025-01-10")
+    private LocalDate reportDate;
+
+    @Schema(description = "Number of landlords included in the report", example = "42")
+    private int landlordCount;
+
+    @Schema(description = "Total number of rooms across all landlords", example = "600")
+    private long totalRooms;
+
+    @Schema(description = "Total number of vacant rooms across all landlords", example = "35")
+    private long totalVacantRooms;
+
+    @Schema(description = "Vacancy counts for each landlord")
+    private List<LandlordVacancySummary> landlords;
+}
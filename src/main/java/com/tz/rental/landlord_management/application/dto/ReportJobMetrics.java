@@ -0,0 +1,40 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Operational metrics of the report job executor and job store")
+public class ReportJobMetrics {
+    @Schema(description = "Jobs waiting in the executor queue", example = "3")
+    private int queueDepth;
+
+    @Schema(description = "Remaining queue capacity before submissions are rejected", example = "47")
+    private int queueRemainingCapacity;
+
+    @Schema(description = "Jobs currently being generated", example = "2")
+    private int activeJobs;
+
+    @Schema(description = "Jobs held in the job store (any status)", example = "12")
+    private int storedJobs;
+
+    @Schema(description = "Jobs completed successfully since startup", example = "120")
+    private long completedJobs;
+
+    @Schema(description = "Jobs that failed since startup", example = "1")
+    private long failedJobs;
+
+    @Schema(description = "Submissions rejected because the queue was full", example = "0")
+    private long rejectedJobs;
+
+    @Schema(description = "Average generation time of finished jobs in milliseconds", example = "850")
+    private long averageDurationMillis;
+
+    @Schema(description = "Longest generation time of finished jobs in milliseconds", example = "4200")
+    private long maxDurationMillis;
+
+    @Schema(description = "Average time jobs spent queued before starting in milliseconds", example = "120")
+    private long averageQueueWaitMillis;
+}
@@ -0,0 +1,38 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Schema(description = "Request to generate a report file in the background")
+public class ReportJobRequest {
+
+    public enum ReportType {
+        MONTHLY_INCOME,
+        VACANCY
+    }
+
+    public enum ReportFormat {
+        PDF,
+        EXCEL
+    }
+
+    @NotNull(message = "Report type is required")
+    @Schema(description = "Which report to generate", example = "MONTHLY_INCOME")
+    private ReportType type;
+
+    @NotNull(message = "Report format is required")
+    @Schema(description = "Output file format", example = "PDF")
+    private ReportFormat format;
+
+    @Schema(description = "Year for monthly reports (e.g., 2025)", example = "2025")
+    private Integer year;
+
+    @Min(value = 1, message = "Month must be between 1 and 12")
+    @Max(value = 12, message = "Month must be between 1 and 12")
+    @Schema(description = "Month for monthly reports (1-12)", example = "1")
+    private Integer month;
+}
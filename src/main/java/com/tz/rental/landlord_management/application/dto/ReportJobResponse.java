@@ -0,0 +1,51 @@
+package com.tz.rental.landlord_management.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Status of a background report generation job")
+public class ReportJobResponse {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Schema(description = "ID of the job", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID jobId;
+
+    @Schema(description = "Report being generated", example = "MONTHLY_INCOME")
+    private ReportJobRequest.ReportType type;
+
+    @Schema(description = "Output file format", example = "PDF")
+    private ReportJobRequest.ReportFormat format;
+
+    @Schema(description = "Current job status", example = "QUEUED")
+    private Status status;
+
+    @Schema(description = "When the job was submitted")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "When generation started")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When generation finished (successfully or not)")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "Error message if the job failed")
+    private String error;
+
+    @Schema(description = "Relative URL to download the file once the job is completed",
+            example = "/api/v1/reports/jobs/a1b2c3d4-e5f6-7890-1234-567890abcdef/download")
+    private String downloadUrl;
+}
@@ -1,7 +1,9 @@
 package com.tz.rental.landlord_management.application.service;
 
 import com.tz.rental.landlord_management.application.dto.LandlordRegistrationRequest;
+import com.tz.rental.landlord_management.domain.event.UserSecurityChangedEvent;
 import com.tz.rental.landlord_management.domain.model.valueobject.Role;
+import com.tz.rental.landlord_management.domain.service.Ids;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.PasswordResetToken;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
@@ -10,6 +12,7 @@ import com.tz.rental.landlord_management.infrastructure.persistence.repository.j
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +29,7 @@ public class AuthService {
     private final JpaLandlordRepository landlordRepository;
     private final JpaPasswordResetTokenRepository passwordResetTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserEntity registerLandlord(LandlordRegistrationRequest request) {
@@ -42,7 +46,7 @@ public class AuthService {
 
         // 1. Create the Landlord data entity
         LandlordEntity landlordEntity = new LandlordEntity();
-        landlordEntity.setId(UUID.randomUUID());
+        landlordEntity.setId(Ids.next());
         landlordEntity.setFirstName(request.getFirstName());
         landlordEntity.setLastName(request.getLastName());
         landlordEntity.setEmail(request.getEmail());
@@ -87,8 +91,10 @@ public class AuthService {
 
         UserEntity user = passwordResetToken.getUser();
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.revokeTokens();
         userRepository.save(user);
 
         passwordResetTokenRepository.delete(passwordResetToken);
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(user.getUsername(), UserSecurityChangedEvent.Reason.PASSWORD_RESET));
     }
 }
\ No newline at end of file
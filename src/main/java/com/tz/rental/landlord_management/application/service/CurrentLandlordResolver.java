@@ -0,0 +1,65 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.UUID;
+
+// Resolves the landlord of the authenticated user without a query: the id comes from the principal that
+// JwtRequestFilter already loaded, is memoised on the current request, and only principals that carry a
+// bare username fall back to a bounded username -> landlord id cache.
+@Service
+@RequiredArgsConstructor
+public class CurrentLandlordResolver {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentLandlordResolver.class.getName() + ".landlordId";
+    private static final long MAX_CACHED_USERNAMES = 10_000;
+
+    private final JpaLandlordRepository landlordRepository;
+
+    // A username always belongs to the same landlord, so entries never go stale
+    private final Cache<String, UUID> landlordIdsByUsername = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_USERNAMES)
+            .build();
+
+    public UUID getCurrentLandlordId() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof UUID memo) {
+            return memo;
+        }
+        UUID landlordId = resolve(SecurityContextHolder.getContext().getAuthentication());
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, landlordId, RequestAttributes.SCOPE_REQUEST);
+        }
+        return landlordId;
+    }
+
+    // An uninitialised proxy: enough to set an association or compare by id, and never loads the row
+    public LandlordEntity getCurrentLandlordReference() {
+        return landlordRepository.getReferenceById(getCurrentLandlordId());
+    }
+
+    private UUID resolve(Authentication authentication) {
+        if (authentication == null) {
+            throw new IllegalStateException("No authenticated user.");
+        }
+        if (authentication.getPrincipal() instanceof UserEntity user) {
+            if (user.getLandlord() == null) {
+                throw new IllegalStateException("The current user is not a landlord.");
+            }
+            return user.getLandlord().getId();
+        }
+        return landlordIdsByUsername.get(authentication.getName(), username -> landlordRepository.findByUserUsername(username)
+                .map(LandlordEntity::getId)
+                .orElseThrow(() -> new IllegalStateException("Landlord not found for current user.")));
+    }
+}
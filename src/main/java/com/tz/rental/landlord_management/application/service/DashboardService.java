@@ -1,55 +1,94 @@
 package com.tz.rental.landlord_management.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.tz.rental.landlord_management.application.dto.CacheStatsResponse;
 import com.tz.rental.landlord_management.application.dto.DashboardResponse;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
 import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
-import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
-import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.DashboardStatsProjection;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
-import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
-import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaTenantRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
+// Dashboard figures are kept per landlord in memory and dropped whenever a house, room, tenant,
+// lease or payment write for that landlord commits. The expiry is only a safety net for writes
+// that bypass the services.
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class DashboardService {
 
-    private final JpaHouseRepository houseRepository;
-    private final JpaRoomRepository roomRepository;
-    private final JpaTenantRepository tenantRepository;
+    private static final long MAX_CACHED_LANDLORDS = 10_000;
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(15);
+
     private final JpaLandlordRepository landlordRepository;
+    private final CurrentLandlordResolver currentLandlordResolver;
+
+    private final Cache<UUID, DashboardResponse> snapshots = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_LANDLORDS)
+            .expireAfterWrite(SNAPSHOT_TTL)
+            .recordStats()
+            .build();
+    private final AtomicLong invalidations = new AtomicLong();
 
-    @Transactional(readOnly = true)
+    // No surrounding transaction: a cache hit must not borrow a database connection
     public DashboardResponse getDashboardStats() {
-        LandlordEntity landlord = getCurrentLandlord();
+        return getDashboardStats(currentLandlordResolver.getCurrentLandlordId());
+    }
+
+    public DashboardResponse getDashboardStats(UUID landlordId) {
+        return snapshots.get(landlordId, this::loadDashboardStats);
+    }
+
+    // Recomputes the snapshot regardless of listener order, for callers reacting to the same change event
+    public DashboardResponse refreshDashboardStats(UUID landlordId) {
+        snapshots.invalidate(landlordId);
+        return snapshots.get(landlordId, this::loadDashboardStats);
+    }
 
-        long totalProperties = houseRepository.countByLandlord(landlord);
-        long totalRooms = roomRepository.countByHouseLandlord(landlord);
-        long occupiedRooms = roomRepository.countByHouseLandlordAndStatus(landlord, RoomStatus.OCCUPIED);
-        long vacantRooms = totalRooms - occupiedRooms;
-        long totalTenants = tenantRepository.countByLandlord(landlord);
-        BigDecimal expectedMonthlyIncome = roomRepository.sumMonthlyRentByLandlordAndStatus(landlord, RoomStatus.OCCUPIED);
-        // Actual monthly income would be calculated from payments, which is not yet implemented
-        BigDecimal actualMonthlyIncome = BigDecimal.ZERO;
+    // Runs after the writing transaction commits, so the next read cannot pick up pre-commit figures
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLandlordDataChanged(LandlordDataChangedEvent event) {
+        snapshots.invalidate(event.landlordId().value());
+        invalidations.incrementAndGet();
+        log.debug("Dropped dashboard snapshot of landlord {} after a {} change", event.landlordId().value(), event.source());
+    }
+
+    public CacheStatsResponse getCacheStats() {
+        CacheStats stats = snapshots.stats();
+        return CacheStatsResponse.builder()
+                .name("dashboard")
+                .size(snapshots.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .invalidationCount(invalidations.get())
+                .build();
+    }
+
+    private DashboardResponse loadDashboardStats(UUID landlordId) {
+        DashboardStatsProjection stats = landlordRepository.findDashboardStats(landlordId, RoomStatus.OCCUPIED, YearMonth.now().atDay(1));
+        long totalRooms = stats.getTotalRooms();
+        long occupiedRooms = stats.getOccupiedRooms();
 
         return DashboardResponse.builder()
-                .totalProperties(totalProperties)
+                .totalProperties(stats.getTotalProperties())
                 .totalRooms(totalRooms)
                 .occupiedRooms(occupiedRooms)
-                .vacantRooms(vacantRooms)
-                .totalTenants(totalTenants)
-                .expectedMonthlyIncome(expectedMonthlyIncome)
-                .actualMonthlyIncome(actualMonthlyIncome)
+                .vacantRooms(totalRooms - occupiedRooms)
+                .totalTenants(stats.getTotalTenants())
+                .expectedMonthlyIncome(stats.getExpectedMonthlyIncome())
+                .actualMonthlyIncome(stats.getActualMonthlyIncome())
                 .build();
     }
-
-    private LandlordEntity getCurrentLandlord() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        return landlordRepository.findByUserUsername(username)
-                .orElseThrow(() -> new IllegalStateException("Landlord not found for current user."));
-    }
-}
\ No newline at end of file
+}
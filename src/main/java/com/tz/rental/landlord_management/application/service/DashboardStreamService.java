@@ -0,0 +1,185 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.DashboardResponse;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Pushes dashboard changes to a landlord's open tabs over Server-Sent Events. Idle connections hold
+// no thread (the servlet response is async); sends run on virtual threads so one slow client cannot
+// hold up the writer's request or the other subscribers. Refreshes run one at a time per landlord and
+// each client's events are written in order, so an older snapshot can never be sent after a newer one.
+@Service
+@Slf4j
+public class DashboardStreamService {
+
+    private final DashboardService dashboardService;
+    private final CurrentLandlordResolver currentLandlordResolver;
+    private final long emitterTimeoutMillis;
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<UUID, DashboardResponse> lastSent = new ConcurrentHashMap<>();
+    // Changes not yet covered by a refresh, per landlord; non-zero while that landlord's refresh loop runs
+    private final Map<UUID, AtomicInteger> pendingRefreshes = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DashboardStreamService(DashboardService dashboardService,
+                                  CurrentLandlordResolver currentLandlordResolver,
+                                  @Value("${app.dashboard.stream.timeout:PT30M}") Duration emitterTimeout) {
+        this.dashboardService = dashboardService;
+        this.currentLandlordResolver = currentLandlordResolver;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+    }
+
+    // Opens a stream for the current landlord; the first event carries the full dashboard
+    public SseEmitter subscribe() {
+        UUID landlordId = currentLandlordResolver.getCurrentLandlordId();
+        DashboardResponse stats = dashboardService.getDashboardStats(landlordId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(landlordId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(landlordId, subscriber));
+        emitter.onError(e -> unsubscribe(landlordId, subscriber));
+        // Registered under the same lock publishDelta sends under: the first event is the snapshot the
+        // next delta is computed against, and no delta can be queued ahead of it
+        subscribers.compute(landlordId, (id, registered) -> {
+            Set<Subscriber> updated = registered != null ? registered : ConcurrentHashMap.newKeySet();
+            DashboardResponse baseline = lastSent.computeIfAbsent(id, key -> stats);
+            subscriber.enqueue(id, SseEmitter.event().name("stats").data(baseline));
+            updated.add(subscriber);
+            return updated;
+        });
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLandlordDataChanged(LandlordDataChangedEvent event) {
+        UUID landlordId = event.landlordId().value();
+        if (!subscribers.containsKey(landlordId)) {
+            return;
+        }
+        // Single flight per landlord: a refresh that is already running picks this change up on its next pass
+        AtomicInteger pending = pendingRefreshes.computeIfAbsent(landlordId, id -> new AtomicInteger());
+        if (pending.getAndIncrement() == 0) {
+            executor.execute(() -> refreshUntilCurrent(landlordId, pending));
+        }
+    }
+
+    // Keeps proxies from closing idle streams and clears out clients that went away
+    @Scheduled(fixedDelayString = "${app.dashboard.stream.heartbeat-interval:PT25S}")
+    public void sendHeartbeats() {
+        subscribers.forEach((landlordId, registered) ->
+                registered.forEach(subscriber -> subscriber.enqueue(landlordId, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(registered -> registered.forEach(subscriber -> subscriber.emitter.complete()));
+        executor.shutdownNow();
+    }
+
+    // Each pass reads the dashboard after every change counted before it started; changes that arrive
+    // meanwhile trigger one more pass rather than a concurrent refresh
+    private void refreshUntilCurrent(UUID landlordId, AtomicInteger pending) {
+        int handled;
+        do {
+            handled = pending.get();
+            publishDelta(landlordId);
+        } while (pending.addAndGet(-handled) > 0);
+    }
+
+    private void publishDelta(UUID landlordId) {
+        try {
+            DashboardResponse current = dashboardService.refreshDashboardStats(landlordId);
+            subscribers.computeIfPresent(landlordId, (id, registered) -> {
+                Map<String, Object> delta = diff(lastSent.put(id, current), current);
+                if (!delta.isEmpty()) {
+                    registered.forEach(subscriber -> subscriber.enqueue(id, SseEmitter.event().name("delta").data(delta)));
+                }
+                return registered;
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to push dashboard update for landlord {}", landlordId, e);
+        }
+    }
+
+    private void send(UUID landlordId, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // The client disconnected or the emitter already completed
+            unsubscribe(landlordId, subscriber);
+        }
+    }
+
+    private void unsubscribe(UUID landlordId, Subscriber subscriber) {
+        subscribers.computeIfPresent(landlordId, (id, registered) -> {
+            registered.remove(subscriber);
+            if (registered.isEmpty()) {
+                lastSent.remove(id);
+                return null;
+            }
+            return registered;
+        });
+    }
+
+    // One open stream. Its events are chained so they are written one at a time, in the order queued.
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private synchronized void enqueue(UUID landlordId, SseEmitter.SseEventBuilder event) {
+            tail = tail.exceptionally(e -> null).thenRunAsync(() -> send(landlordId, this, event), executor);
+        }
+    }
+
+    // Only the figures that changed since the last push; a full snapshot when there is nothing to compare with
+    static Map<String, Object> diff(DashboardResponse previous, DashboardResponse current) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        putIfChanged(delta, "totalProperties", previous == null ? null : previous.getTotalProperties(), current.getTotalProperties());
+        putIfChanged(delta, "totalRooms", previous == null ? null : previous.getTotalRooms(), current.getTotalRooms());
+        putIfChanged(delta, "occupiedRooms", previous == null ? null : previous.getOccupiedRooms(), current.getOccupiedRooms());
+        putIfChanged(delta, "vacantRooms", previous == null ? null : previous.getVacantRooms(), current.getVacantRooms());
+        putIfChanged(delta, "totalTenants", previous == null ? null : previous.getTotalTenants(), current.getTotalTenants());
+        putIfChanged(delta, "expectedMonthlyIncome", previous == null ? null : previous.getExpectedMonthlyIncome(), current.getExpectedMonthlyIncome());
+        putIfChanged(delta, "actualMonthlyIncome", previous == null ? null : previous.getActualMonthlyIncome(), current.getActualMonthlyIncome());
+        return delta;
+    }
+
+    // Amounts are compared by value so 100.0 and 100.00 do not count as a change
+    private static void putIfChanged(Map<String, Object> delta, String field, Object previous, Object current) {
+        boolean changed = previous instanceof BigDecimal previousAmount && current instanceof BigDecimal currentAmount
+                ? previousAmount.compareTo(currentAmount) != 0
+                : !Objects.equals(previous, current);
+        if (changed) {
+            delta.put(field, current);
+        }
+    }
+}
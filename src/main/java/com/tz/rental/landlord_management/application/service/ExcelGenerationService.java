@@ -1,25 +1,36 @@
 package com.tz.rental.landlord_management.application.service;
 
+import com.tz.rental.landlord_management.application.dto.IncomeRangeMonth;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReport;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReportEntry;
 import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReport;
 import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReportEntry;
 import com.tz.rental.landlord_management.application.dto.VacancyReport;
 import com.tz.rental.landlord_management.application.dto.VacancyReportEntry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 public class ExcelGenerationService {
 
     private static final String REPORTS_DIR = "reports"; // Directory to save reports
+    private static final int STREAMING_WINDOW_SIZE = 100; // Rows kept in memory by streamed exports
+    private static final int COLUMN_WIDTH_SAMPLE_SIZE = 200; // Rows measured to size columns in streamed exports
+    private static final int MAX_COLUMN_CHARS = 60;
 
     public byte[] generateMonthlyIncomeExcel(MonthlyIncomeReport report) throws IOException {
         try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
@@ -152,6 +163,221 @@ public class ExcelGenerationService {
         }
     }
 
+    public byte[] generateIncomeRangeExcel(IncomeRangeReport report) throws IOException {
+        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            CellStyle headerCellStyle = createHeaderStyle(workbook);
+            CellStyle currencyCellStyle = createCurrencyStyle(workbook);
+            DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMMM yyyy");
+
+            // Summary and month-by-month breakdown
+            Sheet sheet = workbook.createSheet("Monthly Breakdown");
+            Row titleRow = sheet.createRow(0);
+            Cell titleCell = titleRow.createCell(0);
+            titleCell.setCellValue("Income Report for " + report.getFromMonth().format(monthFormatter)
+                    + " to " + report.getToMonth().format(monthFormatter));
+            titleCell.setCellStyle(headerCellStyle);
+
+            int rowNum = 2;
+            createSummaryRow(sheet, rowNum++, "Total Expected Income:", report.getTotalExpectedIncome(), currencyCellStyle, headerCellStyle);
+            createSummaryRow(sheet, rowNum++, "Total Actual Income:", report.getTotalActualIncome(), currencyCellStyle, headerCellStyle);
+            createSummaryRow(sheet, rowNum++, "Total Outstanding Balance:", report.getTotalOutstandingBalance(), currencyCellStyle, headerCellStyle);
+            rowNum++;
+
+            String[] monthHeaders = {"Month", "Leases", "Expected (TZS)", "Paid (TZS)", "Balance (TZS)"};
+            Row monthHeaderRow = sheet.createRow(rowNum++);
+            for (int i = 0; i < monthHeaders.length; i++) {
+                Cell cell = monthHeaderRow.createCell(i);
+                cell.setCellValue(monthHeaders[i]);
+                cell.setCellStyle(headerCellStyle);
+            }
+            for (IncomeRangeMonth month : report.getMonths()) {
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(month.getMonth().format(monthFormatter));
+                row.createCell(1).setCellValue(month.getLeaseCount());
+                createCellAndSetValue(row, 2, month.getExpectedIncome(), currencyCellStyle);
+                createCellAndSetValue(row, 3, month.getActualIncome(), currencyCellStyle);
+                createCellAndSetValue(row, 4, month.getOutstandingBalance(), currencyCellStyle);
+            }
+            for (int i = 0; i < monthHeaders.length; i++) {
+                sheet.autoSizeColumn(i);
+            }
+
+            // Per-lease totals over the range
+            Sheet leaseSheet = workbook.createSheet("Lease Details");
+            String[] leaseHeaders = {"Lease ID", "Tenant Name", "Room Number", "House Name", "Months Billed", "Expected Rent (TZS)", "Amount Paid (TZS)", "Balance (TZS)"};
+            Row leaseHeaderRow = leaseSheet.createRow(0);
+            for (int i = 0; i < leaseHeaders.length; i++) {
+                Cell cell = leaseHeaderRow.createCell(i);
+                cell.setCellValue(leaseHeaders[i]);
+                cell.setCellStyle(headerCellStyle);
+            }
+            int leaseRowNum = 1;
+            for (IncomeRangeReportEntry entry : report.getEntries()) {
+                Row row = leaseSheet.createRow(leaseRowNum++);
+                row.createCell(0).setCellValue(entry.getLeaseId().toString());
+                row.createCell(1).setCellValue(entry.getTenantName());
+                row.createCell(2).setCellValue(entry.getRoomNumber());
+                row.createCell(3).setCellValue(entry.getHouseName());
+                row.createCell(4).setCellValue(entry.getMonthsBilled());
+                createCellAndSetValue(row, 5, entry.getExpectedRent(), currencyCellStyle);
+                createCellAndSetValue(row, 6, entry.getAmountPaid(), currencyCellStyle);
+                createCellAndSetValue(row, 7, entry.getBalance(), currencyCellStyle);
+            }
+            for (int i = 0; i < leaseHeaders.length; i++) {
+                leaseSheet.autoSizeColumn(i);
+            }
+
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    // Streaming variant: rows are flushed to temp files in a small window and the workbook
+    // is written straight to the given stream, so memory does not grow with the row count
+    public void writeMonthlyIncomeExcel(MonthlyIncomeReport summary, Stream<MonthlyIncomeReportEntry> entries, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(STREAMING_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Monthly Income Report");
+            CellStyle headerCellStyle = createHeaderStyle(workbook);
+            CellStyle currencyCellStyle = createCurrencyStyle(workbook);
+
+            Row titleRow = sheet.createRow(0);
+            Cell titleCell = titleRow.createCell(0);
+            titleCell.setCellValue("Monthly Income Report for " + summary.getReportMonth().format(DateTimeFormatter.ofPattern("MMMM yyyy")));
+            titleCell.setCellStyle(headerCellStyle);
+
+            int rowNum = 2;
+            createSummaryRow(sheet, rowNum++, "Total Expected Income:", summary.getTotalExpectedIncome(), currencyCellStyle, headerCellStyle);
+            createSummaryRow(sheet, rowNum++, "Total Actual Income:", summary.getTotalActualIncome(), currencyCellStyle, headerCellStyle);
+            createSummaryRow(sheet, rowNum++, "Total Outstanding Balance:", summary.getTotalOutstandingBalance(), currencyCellStyle, headerCellStyle);
+            rowNum++;
+
+            String[] headers = {"Lease ID", "Tenant Name", "Room Number", "House Name", "Expected Rent (TZS)", "Amount Paid (TZS)", "Balance (TZS)"};
+            int[] columnChars = createStreamingHeaderRow(sheet, rowNum++, headers, headerCellStyle);
+
+            int sampled = 0;
+            Iterator<MonthlyIncomeReportEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                MonthlyIncomeReportEntry entry = iterator.next();
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(entry.getLeaseId().toString());
+                row.createCell(1).setCellValue(entry.getTenantName());
+                row.createCell(2).setCellValue(entry.getRoomNumber());
+                row.createCell(3).setCellValue(entry.getHouseName());
+                createCellAndSetValue(row, 4, entry.getExpectedRent(), currencyCellStyle);
+                createCellAndSetValue(row, 5, entry.getAmountPaid(), currencyCellStyle);
+                createCellAndSetValue(row, 6, entry.getBalance(), currencyCellStyle);
+                if (sampled++ < COLUMN_WIDTH_SAMPLE_SIZE) {
+                    measure(columnChars, entry.getLeaseId().toString(), entry.getTenantName(), entry.getRoomNumber(), entry.getHouseName(),
+                            formatAmount(entry.getExpectedRent()), formatAmount(entry.getAmountPaid()), formatAmount(entry.getBalance()));
+                }
+            }
+
+            applyColumnWidths(sheet, columnChars);
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    public void writeVacancyExcel(VacancyReport summary, Stream<VacancyReportEntry> entries, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(STREAMING_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Vacancy Report");
+            CellStyle headerCellStyle = createHeaderStyle(workbook);
+
+            Row titleRow = sheet.createRow(0);
+            Cell titleCell = titleRow.createCell(0);
+            titleCell.setCellValue("Vacancy Report as of " + summary.getReportDate().format(DateTimeFormatter.ISO_LOCAL_DATE));
+            titleCell.setCellStyle(headerCellStyle);
+
+            Row summaryRow = sheet.createRow(2);
+            Cell summaryLabelCell = summaryRow.createCell(0);
+            summaryLabelCell.setCellValue("Total Vacant Rooms:");
+            summaryLabelCell.setCellStyle(headerCellStyle);
+            summaryRow.createCell(1).setCellValue(summary.getTotalVacantRooms());
+
+            int rowNum = 4;
+            String[] headers = {"Room ID", "Room Number", "House Name", "House ID", "Description"};
+            int[] columnChars = createStreamingHeaderRow(sheet, rowNum++, headers, headerCellStyle);
+
+            int sampled = 0;
+            Iterator<VacancyReportEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                VacancyReportEntry entry = iterator.next();
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(entry.getRoomId().toString());
+                row.createCell(1).setCellValue(entry.getRoomNumber());
+                row.createCell(2).setCellValue(entry.getHouseName());
+                row.createCell(3).setCellValue(entry.getHouseId().toString());
+                row.createCell(4).setCellValue(entry.getRoomDescription());
+                if (sampled++ < COLUMN_WIDTH_SAMPLE_SIZE) {
+                    measure(columnChars, entry.getRoomId().toString(), entry.getRoomNumber(), entry.getHouseName(),
+                            entry.getHouseId().toString(), entry.getRoomDescription());
+                }
+            }
+
+            applyColumnWidths(sheet, columnChars);
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private CellStyle createHeaderStyle(Workbook workbook) {
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerFont.setColor(IndexedColors.WHITE.getIndex());
+        CellStyle headerCellStyle = workbook.createCellStyle();
+        headerCellStyle.setFont(headerFont);
+        headerCellStyle.setFillForegroundColor(IndexedColors.DARK_BLUE.getIndex());
+        headerCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        headerCellStyle.setAlignment(HorizontalAlignment.CENTER);
+        return headerCellStyle;
+    }
+
+    private CellStyle createCurrencyStyle(Workbook workbook) {
+        CellStyle currencyCellStyle = workbook.createCellStyle();
+        currencyCellStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+        currencyCellStyle.setAlignment(HorizontalAlignment.RIGHT);
+        return currencyCellStyle;
+    }
+
+    // autoSizeColumn needs every row in memory, so streamed sheets are sized from the header and a sample of rows
+    private int[] createStreamingHeaderRow(Sheet sheet, int rowNum, String[] headers, CellStyle headerCellStyle) {
+        Row headerRow = sheet.createRow(rowNum);
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerCellStyle);
+        }
+        int[] columnChars = new int[headers.length];
+        measure(columnChars, headers);
+        return columnChars;
+    }
+
+    private void measure(int[] columnChars, String... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                columnChars[i] = Math.max(columnChars[i], Math.min(values[i].length(), MAX_COLUMN_CHARS));
+            }
+        }
+    }
+
+    private void applyColumnWidths(Sheet sheet, int[] columnChars) {
+        for (int i = 0; i < columnChars.length; i++) {
+            sheet.setColumnWidth(i, (columnChars[i] + 2) * 256);
+        }
+    }
+
+    private String formatAmount(BigDecimal value) {
+        return value != null ? String.format("%,.2f", value) : "0.00";
+    }
+
     private void createSummaryRow(Sheet sheet, int rowNum, String label, BigDecimal value, CellStyle valueStyle, CellStyle labelStyle) {
         Row row = sheet.createRow(rowNum);
         Cell labelCell = row.createCell(0);
@@ -0,0 +1,95 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.HouseOccupancyProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+// In-memory room counters per house, grouped by landlord, so status-filtered house listings pick their
+// candidate ids without asking the database. A landlord's entry is rebuilt from the stored house stats
+// in one narrow query and dropped once a house, room or lease write for that landlord commits.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HouseOccupancyIndex {
+
+    private static final long MAX_INDEXED_LANDLORDS = 10_000;
+
+    private final JpaHouseRepository houseRepository;
+
+    private final Cache<UUID, Map<UUID, Occupancy>> occupancyByLandlord = Caffeine.newBuilder()
+            .maximumSize(MAX_INDEXED_LANDLORDS)
+            .build();
+
+    // Houses with at least one vacant room
+    public List<UUID> findVacantHouseIds(UUID landlordId) {
+        return findHouseIds(landlordId, Occupancy::hasVacancy);
+    }
+
+    // Houses whose rooms are all occupied (and that have at least one room)
+    public List<UUID> findFullyOccupiedHouseIds(UUID landlordId) {
+        return findHouseIds(landlordId, Occupancy::isFullyOccupied);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLandlordDataChanged(LandlordDataChangedEvent event) {
+        switch (event.source()) {
+            case HOUSE, ROOM, LEASE -> occupancyByLandlord.invalidate(event.landlordId().value());
+            default -> {
+                // Tenant and payment writes do not move room statuses
+            }
+        }
+    }
+
+    // Dropping entries before commit would let a concurrent listing index the old stats again
+    public void invalidateAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    occupancyByLandlord.invalidateAll();
+                }
+            });
+        } else {
+            occupancyByLandlord.invalidateAll();
+        }
+    }
+
+    private List<UUID> findHouseIds(UUID landlordId, Predicate<Occupancy> filter) {
+        return occupancyByLandlord.get(landlordId, this::load).entrySet().stream()
+                .filter(entry -> filter.test(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Map<UUID, Occupancy> load(UUID landlordId) {
+        List<HouseOccupancyProjection> houses = houseRepository.findOccupancyByLandlordId(landlordId);
+        log.debug("Indexed occupancy of {} houses for landlord {}", houses.size(), landlordId);
+        return houses.stream().collect(Collectors.toUnmodifiableMap(HouseOccupancyProjection::getId,
+                house -> new Occupancy(house.getTotalRooms(), house.getVacantRooms(), house.getOccupiedRooms())));
+    }
+
+    record Occupancy(int totalRooms, int vacantRooms, int occupiedRooms) {
+
+        boolean hasVacancy() {
+            return vacantRooms > 0;
+        }
+
+        boolean isFullyOccupied() {
+            return totalRooms > 0 && occupiedRooms == totalRooms;
+        }
+    }
+}
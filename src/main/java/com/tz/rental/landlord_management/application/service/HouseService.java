@@ -1,40 +1,49 @@
 package com.tz.rental.landlord_management.application.service;
 
 import com.tz.rental.landlord_management.application.dto.CreateHouseRequest;
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.HouseResponse;
 import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
 import com.tz.rental.landlord_management.domain.exception.AlreadyExistsException;
 import com.tz.rental.landlord_management.domain.exception.NotFoundException;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
 import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.KeysetSlice;
+import com.tz.rental.landlord_management.domain.service.Ids;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
-import com.tz.rental.landlord_management.infrastructure.persistence.entity.RoomEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.KeysetQueries;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
-import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
 import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;
-import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class HouseService {
 
-    private static final String HOUSE_FIELD = "house";
     private static final String HOUSE_NOT_FOUND_MSG = "House not found with ID: ";
+    private static final Set<String> SORTABLE_FIELDS = Set.of("name", "propertyCode", "createdAt");
+    private static final Sort DEFAULT_SORT = Sort.by("createdAt");
     private final JpaHouseRepository houseRepository;
-    private final JpaLandlordRepository landlordRepository;
+    private final CurrentLandlordResolver currentLandlordResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HouseOccupancyIndex occupancyIndex;
 
     @Transactional
     public HouseResponse createHouse(CreateHouseRequest request) {
@@ -42,83 +51,63 @@ public class HouseService {
             throw new AlreadyExistsException("House with property code " + request.getPropertyCode() + " already exists.");
         });
 
-        LandlordEntity landlord = getCurrentLandlord();
+        LandlordEntity landlord = currentLandlordResolver.getCurrentLandlordReference();
 
         HouseEntity houseEntity = new HouseEntity();
-        houseEntity.setId(UUID.randomUUID());
+        houseEntity.setId(Ids.next());
         houseEntity.setLandlord(landlord);
         // Map request to entity
         mapRequestToEntity(request, houseEntity);
 
         HouseEntity savedHouse = houseRepository.save(houseEntity);
-        return mapEntityToResponse(savedHouse, false);
+        publishLandlordDataChanged(landlord.getId());
+        return mapEntityToResponse(savedHouse, false, true);
     }
 
     @Transactional(readOnly = true)
     public HouseResponse getHouseById(UUID id, Boolean includeRooms) {
         HouseEntity houseEntity = houseRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(HOUSE_NOT_FOUND_MSG + id));
-        return mapEntityToResponse(houseEntity, includeRooms != null && includeRooms);
+        return mapEntityToResponse(houseEntity, includeRooms != null && includeRooms, true);
     }
 
     @Transactional(readOnly = true)
-    public PaginatedResponse<List<HouseResponse>> getAllHouses(Pageable pageable, String status) {
-        LandlordEntity landlord = getCurrentLandlord();
+    public PaginatedResponse<List<HouseResponse>> getAllHouses(Pageable pageable, String status, boolean includeImages) {
+        Pageable page = PageRequests.bounded(pageable, SORTABLE_FIELDS, DEFAULT_SORT);
+        UUID landlordId = currentLandlordResolver.getCurrentLandlordId();
+        List<UUID> houseIds = findCandidateHouseIds(landlordId, status);
+
+        Page<HouseEntity> housePage;
+        if (houseIds != null && houseIds.isEmpty()) {
+            housePage = Page.empty(page);
+        } else {
+            housePage = houseRepository.findAll(houseSpecification(landlordId, houseIds), page);
+        }
 
-        Specification<HouseEntity> spec = (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            predicates.add(cb.equal(root.get("landlord"), landlord));
-
-            if (status != null && !status.equalsIgnoreCase("ALL")) {
-                if (status.equalsIgnoreCase("VACANT")) {
-                    // Find houses that have at least one vacant room
-                    Subquery<RoomEntity> subquery = query.subquery(RoomEntity.class);
-                    Root<RoomEntity> subRoot = subquery.from(RoomEntity.class);
-                    subquery.select(subRoot);
-                    subquery.where(
-                            cb.equal(subRoot.get(HOUSE_FIELD), root), // Correlated subquery
-                            cb.equal(subRoot.get("status"), RoomStatus.VACANT)
-                    );
-                    predicates.add(cb.exists(subquery));
-
-                } else if (status.equalsIgnoreCase("OCCUPIED")) {
-                    // Find houses where all rooms are occupied (and there's at least one room)
-                    // 1. House must have rooms
-                    Subquery<Long> countSubquery = query.subquery(Long.class);
-                    Root<RoomEntity> countSubRoot = countSubquery.from(RoomEntity.class);
-                    countSubquery.select(cb.count(countSubRoot));
-                    countSubquery.where(cb.equal(countSubRoot.get(HOUSE_FIELD), root));
-                    predicates.add(cb.greaterThan(countSubquery, 0L));
-
-                    // 2. No room exists with a status other than OCCUPIED
-                    Subquery<RoomEntity> subquery = query.subquery(RoomEntity.class);
-                    Root<RoomEntity> subRoot = subquery.from(RoomEntity.class);
-                    subquery.select(subRoot);
-                    subquery.where(
-                            cb.equal(subRoot.get(HOUSE_FIELD), root), // Correlated subquery
-                            cb.notEqual(subRoot.get("status"), RoomStatus.OCCUPIED)
-                    );
-                    predicates.add(cb.not(cb.exists(subquery)));
-                }
-            }
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+        return PageRequests.toResponse(housePage.map(house -> mapEntityToResponse(house, false, includeImages)));
+    }
 
-        Page<HouseEntity> housePage = houseRepository.findAll(spec, pageable);
-
-        List<HouseResponse> houseResponses = housePage.getContent().stream()
-                .map(house -> mapEntityToResponse(house, false))
-                .toList();
-
-        return PaginatedResponse.<List<HouseResponse>>builder()
-                .data(houseResponses)
-                .pagination(PaginatedResponse.Pagination.builder()
-                        .currentPage(housePage.getNumber())
-                        .totalPages(housePage.getTotalPages())
-                        .totalItems(housePage.getTotalElements())
-                        .itemsPerPage(housePage.getSize())
-                        .build())
-                .build();
+    // Seeks on (createdAt, id), so a deep page costs the same as the first; the total is only counted on request
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<List<HouseResponse>> getHousesByCursor(String cursor, int limit, String status, boolean includeTotal,
+                                                                       boolean includeImages) {
+        KeysetRequest request = KeysetCursors.decode(cursor, limit);
+        UUID landlordId = currentLandlordResolver.getCurrentLandlordId();
+        List<UUID> houseIds = findCandidateHouseIds(landlordId, status);
+
+        KeysetSlice<HouseEntity> slice;
+        Long totalItems;
+        if (houseIds != null && houseIds.isEmpty()) {
+            slice = new KeysetSlice<>(List.of(), false, false);
+            totalItems = includeTotal ? 0L : null;
+        } else {
+            Specification<HouseEntity> spec = houseSpecification(landlordId, houseIds);
+            slice = KeysetQueries.fetch(houseRepository, spec, request);
+            totalItems = includeTotal ? houseRepository.count(spec) : null;
+        }
+
+        return KeysetCursors.toResponse(slice.map(house -> mapEntityToResponse(house, false, includeImages)), limit, totalItems,
+                HouseResponse::getCreatedAt, HouseResponse::getId);
     }
 
     @Transactional
@@ -135,7 +124,16 @@ public class HouseService {
 
         mapRequestToEntity(request, houseEntity);
         HouseEntity updatedHouse = houseRepository.save(houseEntity);
-        return mapEntityToResponse(updatedHouse, false);
+        publishLandlordDataChanged(updatedHouse.getLandlord().getId());
+        return mapEntityToResponse(updatedHouse, false, true);
+    }
+
+    @Transactional
+    public int recalculateAllRoomStats() {
+        int houses = houseRepository.recalculateAllRoomStats(RoomStatus.VACANT, RoomStatus.OCCUPIED);
+        occupancyIndex.invalidateAll();
+        log.info("Recalculated room stats of {} houses", houses);
+        return houses;
     }
 
     @Transactional
@@ -143,12 +141,37 @@ public class HouseService {
         HouseEntity houseEntity = houseRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(HOUSE_NOT_FOUND_MSG + id));
         houseRepository.delete(houseEntity);
+        publishLandlordDataChanged(houseEntity.getLandlord().getId());
     }
 
-    private LandlordEntity getCurrentLandlord() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        return landlordRepository.findByUserUsername(username)
-                .orElseThrow(() -> new IllegalStateException("Landlord not found for current user."));
+    // Status filters take their candidate ids from the occupancy index, so the database only fetches by id.
+    // Null means no status filter.
+    private List<UUID> findCandidateHouseIds(UUID landlordId, String status) {
+        if (status == null || status.equalsIgnoreCase("ALL")) {
+            return null;
+        }
+        if (status.equalsIgnoreCase("VACANT")) {
+            return occupancyIndex.findVacantHouseIds(landlordId);
+        }
+        if (status.equalsIgnoreCase("OCCUPIED")) {
+            return occupancyIndex.findFullyOccupiedHouseIds(landlordId);
+        }
+        return null;
+    }
+
+    private Specification<HouseEntity> houseSpecification(UUID landlordId, List<UUID> candidateIds) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("landlord").get("id"), landlordId));
+            if (candidateIds != null) {
+                predicates.add(root.get("id").in(candidateIds));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private void publishLandlordDataChanged(UUID landlordId) {
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(new Landlord.LandlordId(landlordId), LandlordDataChangedEvent.Source.HOUSE));
     }
 
     private void mapRequestToEntity(CreateHouseRequest request, HouseEntity entity) {
@@ -170,7 +193,8 @@ public class HouseService {
         entity.setMonthlyCommonCharges(request.getMonthlyCommonCharges());
     }
 
-    private HouseResponse mapEntityToResponse(HouseEntity entity, boolean includeRooms) {
+    // Touching imageUrls loads them, so list pages only do it when the client asked for images
+    private HouseResponse mapEntityToResponse(HouseEntity entity, boolean includeRooms, boolean includeImages) {
         HouseResponse.HouseResponseBuilder builder = HouseResponse.builder()
                 .id(entity.getId())
                 .propertyCode(entity.getPropertyCode())
@@ -188,23 +212,16 @@ public class HouseService {
                 .hasWater(entity.getHasWater())
                 .hasElectricity(entity.getHasElectricity())
                 .monthlyCommonCharges(entity.getMonthlyCommonCharges())
-                .imageUrls(entity.getImageUrls())
+                .imageUrls(includeImages && entity.getImageUrls() != null ? new ArrayList<>(entity.getImageUrls()) : null)
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt());
 
-        int totalRooms = entity.getRooms().size();
-        int occupiedRooms = (int) entity.getRooms().stream().filter(r -> r.getStatus() == RoomStatus.OCCUPIED).count();
-        int vacantRooms = totalRooms - occupiedRooms;
-        BigDecimal monthlyIncome = entity.getRooms().stream()
-                .filter(r -> r.getStatus() == RoomStatus.OCCUPIED)
-                .map(RoomEntity::getMonthlyRent)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
+        // Stored stats: listing a page of houses does not load their rooms
         builder.stats(HouseResponse.Stats.builder()
-                .totalRooms(totalRooms)
-                .occupiedRooms(occupiedRooms)
-                .vacantRooms(vacantRooms)
-                .monthlyIncome(monthlyIncome)
+                .totalRooms(entity.getTotalRooms())
+                .occupiedRooms(entity.getOccupiedRooms())
+                .vacantRooms(entity.getTotalRooms() - entity.getOccupiedRooms())
+                .monthlyIncome(entity.getOccupiedMonthlyIncome())
                 .build());
 
         if (includeRooms) {
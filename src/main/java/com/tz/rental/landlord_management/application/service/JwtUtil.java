@@ -1,20 +1,44 @@
 package com.tz.rental.landlord_management.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tz.rental.landlord_management.domain.model.valueobject.Role;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtUtil {
 
+    // Access tokens carry enough of the user to authenticate a request without loading it
+    private static final String CLAIM_USER_ID = "userId";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_LANDLORD_ID = "landlordId";
+    private static final long MAX_VERIFIED_TOKENS = 10_000;
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -24,6 +48,24 @@ public class JwtUtil {
     @Value("${jwt.refresh.expiration}")
     private Long refreshExpiration;
 
+    // Built once from the base64 secret; the same key bytes the string-based API derived on every call
+    private Key signingKey;
+    private JwtParser parser;
+
+    // Verified claims by token digest, each kept until its token expires. Callers only read the shared
+    // Claims; revocation is checked separately (UserCache), so a cached token can still be refused.
+    private final Cache<String, Claims> verifiedClaims = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(Expiry.<String, Claims>creating((digest, claims) ->
+                    Duration.ofMillis(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()))))
+            .build();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -32,21 +74,29 @@ public class JwtUtil {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    public Date extractIssuedAt(String token) {
+        return extractClaim(token, Claims::getIssuedAt);
+    }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // Verifies the signature and expiry on first sight; throws for a tampered or expired token
+    public Claims extractAllClaims(String token) {
+        return verifiedClaims.get(digest(token), key -> parser.parseClaimsJws(token).getBody());
     }
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof UserEntity user) {
+            claims.put(CLAIM_USER_ID, user.getId().toString());
+            claims.put(CLAIM_ROLE, user.getRole().name());
+            if (user.getLandlord() != null) {
+                claims.put(CLAIM_LANDLORD_ID, user.getLandlord().getId().toString());
+            }
+        }
         return createToken(claims, userDetails.getUsername(), expiration);
     }
 
@@ -58,11 +108,40 @@ public class JwtUtil {
     private String createToken(Map<String, Object> claims, String subject, Long expirationTime) {
         return Jwts.builder().setClaims(claims).setSubject(subject).setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(SignatureAlgorithm.HS256, secret).compact();
+                .signWith(signingKey, SignatureAlgorithm.HS256).compact();
+    }
+
+    // A detached user holding only id, username, role and landlord id; empty for tokens issued without these claims
+    public Optional<UserEntity> buildPrincipal(Claims claims) {
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
+        UserEntity user = new UserEntity();
+        user.setId(UUID.fromString(userId));
+        user.setUsername(claims.getSubject());
+        user.setRole(Role.valueOf(role));
+        String landlordId = claims.get(CLAIM_LANDLORD_ID, String.class);
+        if (landlordId != null) {
+            LandlordEntity landlord = new LandlordEntity();
+            landlord.setId(UUID.fromString(landlordId));
+            user.setLandlord(landlord);
+        }
+        return Optional.of(user);
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date()));
+    }
+
+    // Keys the cache without holding bearer tokens in memory
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.KeysetSlice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Opaque page cursors: base64url of "<n|p>|<createdAt>|<id>", where n pages forward from the row and p backward
+public final class KeysetCursors {
+
+    public static final int MAX_LIMIT = PageRequests.MAX_PAGE_SIZE;
+
+    private static final String NEXT = "n";
+    private static final String PREVIOUS = "p";
+
+    private KeysetCursors() {
+    }
+
+    public static KeysetRequest decode(String cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return KeysetRequest.first(limit);
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !(parts[0].equals(NEXT) || parts[0].equals(PREVIOUS))) {
+                throw new ValidationException("Invalid cursor.");
+            }
+            return new KeysetRequest(LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]), parts[0].equals(PREVIOUS), limit);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor.");
+        }
+    }
+
+    public static <T> CursorPaginatedResponse<List<T>> toResponse(KeysetSlice<T> slice, int limit, Long totalItems,
+                                                                  Function<T, LocalDateTime> createdAt, Function<T, UUID> id) {
+        List<T> items = slice.items();
+        String nextCursor = null;
+        String previousCursor = null;
+        if (!items.isEmpty()) {
+            T last = items.get(items.size() - 1);
+            T first = items.get(0);
+            nextCursor = slice.hasNext() ? encode(NEXT, createdAt.apply(last), id.apply(last)) : null;
+            previousCursor = slice.hasPrevious() ? encode(PREVIOUS, createdAt.apply(first), id.apply(first)) : null;
+        }
+        return CursorPaginatedResponse.<List<T>>builder()
+                .data(items)
+                .pagination(CursorPaginatedResponse.Pagination.builder()
+                        .nextCursor(nextCursor)
+                        .previousCursor(previousCursor)
+                        .limit(limit)
+                        .totalItems(totalItems)
+                        .build())
+                .build();
+    }
+
+    private static String encode(String direction, LocalDateTime createdAt, UUID id) {
+        String key = direction + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.domain.service.Ids;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordIncomeEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.LandlordMonthlyPaymentTotalProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordIncomeRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaPaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Per-landlord, per-month collected income, moved by payment writes so the dashboard never scans payments.
+// Write methods join the caller's transaction; a nightly job recomputes every month from the payments
+// table and corrects any counter that drifted, one landlord per short transaction.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LandlordIncomeService {
+
+    private final JpaLandlordIncomeRepository incomeRepository;
+    private final JpaLandlordRepository landlordRepository;
+    private final JpaPaymentRepository paymentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public void recordPayment(Landlord.LandlordId landlordId, LocalDate paymentDate, BigDecimal amount) {
+        adjustCollected(landlordId.value(), paymentDate, amount);
+    }
+
+    @Transactional
+    public void reversePayment(Landlord.LandlordId landlordId, LocalDate paymentDate, BigDecimal amount) {
+        adjustCollected(landlordId.value(), paymentDate, amount.negate());
+    }
+
+    // Returns the number of counters that had to be corrected
+    @Scheduled(cron = "${app.income.reconcile-cron:0 30 2 * * *}")
+    public int reconcile() {
+        long start = System.nanoTime();
+        List<UUID> landlordIds = landlordRepository.findAllIds();
+        int corrected = 0;
+        for (UUID landlordId : landlordIds) {
+            Integer landlordCorrected = transactionTemplate.execute(status -> reconcileLandlord(landlordId));
+            corrected += landlordCorrected != null ? landlordCorrected : 0;
+        }
+        log.info("Reconciled income counters of {} landlords in {} ms, {} corrected",
+                landlordIds.size(), (System.nanoTime() - start) / 1_000_000, corrected);
+        return corrected;
+    }
+
+    // Locks only this landlord's counters before summing their payments: a payment write either finished
+    // before the lock (and is in the sum) or waits and applies its delta on top of the corrected value
+    private int reconcileLandlord(UUID landlordId) {
+        List<LandlordIncomeEntity> counters = new ArrayList<>(incomeRepository.findByLandlordIdForUpdate(landlordId));
+
+        Map<LocalDate, BigDecimal> recomputed = new HashMap<>();
+        for (LandlordMonthlyPaymentTotalProjection total : paymentRepository.sumAmountByLandlordIdGroupedByMonth(landlordId)) {
+            recomputed.put(LocalDate.of(total.getPaymentYear(), total.getPaymentMonth(), 1), total.getAmountPaid());
+        }
+
+        int corrected = 0;
+        for (LandlordIncomeEntity counter : counters) {
+            BigDecimal expected = recomputed.remove(counter.getPeriodStart());
+            if (expected == null) {
+                expected = BigDecimal.ZERO;
+            }
+            if (counter.getAmountCollected().compareTo(expected) != 0) {
+                log.warn("Income counter of landlord {} for {} was {}, recomputed {}",
+                        landlordId, YearMonth.from(counter.getPeriodStart()), counter.getAmountCollected(), expected);
+                counter.setAmountCollected(expected);
+                corrected++;
+            }
+        }
+        // Months with payments but no counter yet; added through the upsert in case a payment creates the row meanwhile
+        for (Map.Entry<LocalDate, BigDecimal> missing : recomputed.entrySet()) {
+            incomeRepository.addCollected(Ids.next(), landlordId, missing.getKey(), missing.getValue());
+            corrected++;
+        }
+        incomeRepository.saveAll(counters);
+
+        if (corrected > 0) {
+            eventPublisher.publishEvent(
+                    new LandlordDataChangedEvent(new Landlord.LandlordId(landlordId), LandlordDataChangedEvent.Source.PAYMENT));
+        }
+        return corrected;
+    }
+
+    private void adjustCollected(UUID landlordId, LocalDate paymentDate, BigDecimal delta) {
+        incomeRepository.addCollected(Ids.next(), landlordId, YearMonth.from(paymentDate).atDay(1), delta);
+    }
+}
@@ -2,7 +2,9 @@ package com.tz.rental.landlord_management.application.service;
 
 import com.tz.rental.landlord_management.application.dto.CreateLandlordRequest;
 import com.tz.rental.landlord_management.application.dto.LandlordResponse;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.mapper.ApplicationLandlordMapper; // Corrected import
+import com.tz.rental.landlord_management.domain.event.UserSecurityChangedEvent;
 import com.tz.rental.landlord_management.domain.exception.AlreadyExistsException;
 import com.tz.rental.landlord_management.domain.exception.NotFoundException;
 import com.tz.rental.landlord_management.domain.exception.UnauthorizedException;
@@ -10,15 +12,21 @@ import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
 import com.tz.rental.landlord_management.domain.model.valueobject.Email;
 import com.tz.rental.landlord_management.domain.model.valueobject.PhoneNumber;
 import com.tz.rental.landlord_management.domain.model.valueobject.Role;
+import com.tz.rental.landlord_management.domain.repository.LandlordFilter;
 import com.tz.rental.landlord_management.domain.repository.LandlordRepository;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -26,8 +34,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class LandlordService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("firstName", "lastName", "email", "createdAt");
+    private static final Sort DEFAULT_SORT = Sort.by("lastName", "firstName");
+
     private final LandlordRepository landlordRepository;
     private final ApplicationLandlordMapper applicationLandlordMapper; // Injected application mapper
+    private final JpaUserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private UserEntity getCurrentUser() {
         return (UserEntity) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -73,7 +86,7 @@ public class LandlordService {
         return applicationLandlordMapper.toResponse(landlord);
     }
 
-    public List<LandlordResponse> getAllLandlords() {
+    public PaginatedResponse<List<LandlordResponse>> getAllLandlords(LandlordFilter filter, Pageable pageable) {
         log.info("Getting all landlords");
         UserEntity currentUser = getCurrentUser();
 
@@ -82,10 +95,9 @@ public class LandlordService {
             throw new UnauthorizedException("You are not authorized to view all landlords.");
         }
 
-        List<Landlord> landlords = landlordRepository.findAll();
-        return landlords.stream()
-                .map(applicationLandlordMapper::toResponse)
-                .toList();
+        return PageRequests.toResponse(landlordRepository
+                .findAll(filter, PageRequests.toPageQuery(pageable, SORTABLE_FIELDS, DEFAULT_SORT))
+                .map(applicationLandlordMapper::toResponse));
     }
 
     @Transactional
@@ -125,6 +137,9 @@ public class LandlordService {
         if (landlordRepository.findById(landlordId).isEmpty()) {
             throw new NotFoundException("Landlord", id);
         }
+        // The login goes with the landlord; its tokens are refused once the delete commits
+        userRepository.findByLandlordId(id).ifPresent(user -> eventPublisher.publishEvent(
+                new UserSecurityChangedEvent(user.getUsername(), UserSecurityChangedEvent.Reason.DELETED)));
         landlordRepository.delete(landlordId);
     }
 
@@ -143,6 +158,13 @@ public class LandlordService {
         Landlord landlord = landlordRepository.findById(new Landlord.LandlordId(id))
                 .orElseThrow(() -> new NotFoundException("Landlord", id));
         landlord.deactivate();
-        return applicationLandlordMapper.toResponse(landlordRepository.save(landlord));
+        LandlordResponse response = applicationLandlordMapper.toResponse(landlordRepository.save(landlord));
+        // Tokens already handed out to the landlord's login stop working once this commits
+        userRepository.findByLandlordId(id).ifPresent(user -> {
+            user.revokeTokens();
+            userRepository.save(user);
+            eventPublisher.publishEvent(new UserSecurityChangedEvent(user.getUsername(), UserSecurityChangedEvent.Reason.DEACTIVATED));
+        });
+        return response;
     }
 }
\ No newline at end of file
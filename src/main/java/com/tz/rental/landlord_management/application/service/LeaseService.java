@@ -1,30 +1,44 @@
 package com.tz.rental.landlord_management.application.service;
 
 import com.tz.rental.landlord_management.application.dto.CreateLeaseRequest;
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.LeaseResponse;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
 import com.tz.rental.landlord_management.domain.exception.NotFoundException;
 import com.tz.rental.landlord_management.domain.exception.UnauthorizedException;
 import com.tz.rental.landlord_management.domain.model.aggregate.*;
 import com.tz.rental.landlord_management.domain.model.valueobject.NotificationType;
 import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
 import com.tz.rental.landlord_management.domain.repository.HouseRepository;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.LeaseFilter;
 import com.tz.rental.landlord_management.domain.repository.LeaseRepository;
 import com.tz.rental.landlord_management.domain.repository.RoomRepository;
 import com.tz.rental.landlord_management.domain.repository.TenantRepository;
 import com.tz.rental.landlord_management.domain.service.NotificationService;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class LeaseService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("startDate", "endDate", "rentAmount", "status", "createdAt");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "startDate");
+
     private final LeaseRepository leaseRepository;
     private final RoomRepository roomRepository;
     private final TenantRepository tenantRepository;
@@ -32,6 +46,9 @@ public class LeaseService {
     private final PdfGenerationService pdfGenerationService;
     private final LeaseMapper applicationLeaseMapper;
     private final NotificationService notificationService;
+    private final RentLedgerService rentLedgerService;
+    private final ReportCacheService reportCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Landlord.LandlordId getCurrentLandlordId() {
         UserEntity currentUser = (UserEntity) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -75,13 +92,40 @@ public class LeaseService {
                 request.getPaymentPeriod()
         );
         Lease savedLease = leaseRepository.save(lease);
+        rentLedgerService.openLease(savedLease);
+        reportCacheService.evictMonths(getCurrentLandlordId(), savedLease.getStartDate(), savedLease.getEndDate());
 
         room.changeStatus(RoomStatus.OCCUPIED);
         roomRepository.save(room);
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(getCurrentLandlordId(), LandlordDataChangedEvent.Source.LEASE));
 
         return applicationLeaseMapper.toResponse(savedLease);
     }
 
+    @Transactional
+    public LeaseResponse terminateLease(UUID id, LocalDate terminationDate) {
+        Lease lease = leaseRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Lease", id));
+        authorizeLandlordForLease(lease); // Security check
+
+        // The original end date bounds the months whose reports change
+        LocalDate previousEndDate = lease.getEndDate();
+        lease.terminate(terminationDate);
+        Lease terminatedLease = leaseRepository.save(lease);
+        rentLedgerService.closeLease(terminatedLease);
+        reportCacheService.evictMonths(getCurrentLandlordId(), terminatedLease.getStartDate(), previousEndDate);
+
+        Room room = roomRepository.findById(lease.getRoomId().value())
+                .orElseThrow(() -> new NotFoundException("Room", lease.getRoomId().value()));
+        if (room.getStatus() == RoomStatus.OCCUPIED) {
+            room.changeStatus(RoomStatus.VACANT);
+            roomRepository.save(room);
+        }
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(getCurrentLandlordId(), LandlordDataChangedEvent.Source.LEASE));
+
+        return applicationLeaseMapper.toResponse(terminatedLease);
+    }
+
     @Transactional(readOnly = true)
     public LeaseResponse getLease(UUID id) {
         Lease lease = leaseRepository.findById(id)
@@ -90,6 +134,24 @@ public class LeaseService {
         return applicationLeaseMapper.toResponse(lease);
     }
 
+    @Transactional(readOnly = true)
+    public PaginatedResponse<List<LeaseResponse>> getLeases(LeaseFilter filter, Pageable pageable) {
+        Landlord.LandlordId currentLandlordId = getCurrentLandlordId();
+        return PageRequests.toResponse(leaseRepository
+                .findByLandlordId(currentLandlordId, filter, PageRequests.toPageQuery(pageable, SORTABLE_FIELDS, DEFAULT_SORT))
+                .map(applicationLeaseMapper::toResponse));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<List<LeaseResponse>> getLeasesByCursor(LeaseFilter filter, String cursor, int limit, boolean includeTotal) {
+        KeysetRequest request = KeysetCursors.decode(cursor, limit);
+        Landlord.LandlordId currentLandlordId = getCurrentLandlordId();
+        Long totalItems = includeTotal ? leaseRepository.countByLandlordId(currentLandlordId, filter) : null;
+
+        return KeysetCursors.toResponse(leaseRepository.findByLandlordId(currentLandlordId, filter, request).map(applicationLeaseMapper::toResponse),
+                limit, totalItems, LeaseResponse::getCreatedAt, LeaseResponse::getId);
+    }
+
     @Transactional
     public LeaseResponse generateContract(UUID leaseId, UUID templateId) {
         Lease lease = leaseRepository.findById(leaseId)
@@ -0,0 +1,72 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.repository.PageQuery;
+import com.tz.rental.landlord_management.domain.repository.PageResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Bounds every listing: the page size is capped, and only whitelisted properties can be sorted on,
+// so a client cannot ask for an unbounded page or an ORDER BY on an unindexed or unknown column
+public final class PageRequests {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private PageRequests() {
+    }
+
+    public static Pageable bounded(Pageable pageable, Set<String> sortableProperties, Sort defaultSort) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return PageRequest.of(0, DEFAULT_PAGE_SIZE, defaultSort.and(Sort.by("id")));
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!sortableProperties.contains(order.getProperty())) {
+                throw new ValidationException("Cannot sort by '" + order.getProperty() + "'. Sortable fields: "
+                        + String.join(", ", new TreeSet<>(sortableProperties)) + ".");
+            }
+        }
+        // id last, so rows with equal sort values keep their order from one page to the next
+        Sort sort = (pageable.getSort().isSorted() ? pageable.getSort() : defaultSort).and(Sort.by("id"));
+        return PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), sort);
+    }
+
+    public static PageQuery toPageQuery(Pageable pageable, Set<String> sortableProperties, Sort defaultSort) {
+        Pageable page = bounded(pageable, sortableProperties, defaultSort);
+        List<PageQuery.Order> orders = page.getSort().stream()
+                .map(order -> new PageQuery.Order(order.getProperty(), order.isAscending()))
+                .toList();
+        return new PageQuery(page.getPageNumber(), page.getPageSize(), orders);
+    }
+
+    public static <T> PaginatedResponse<List<T>> toResponse(Page<T> page) {
+        return PaginatedResponse.<List<T>>builder()
+                .data(page.getContent())
+                .pagination(PaginatedResponse.Pagination.builder()
+                        .currentPage(page.getNumber())
+                        .totalPages(page.getTotalPages())
+                        .totalItems(page.getTotalElements())
+                        .itemsPerPage(page.getSize())
+                        .build())
+                .build();
+    }
+
+    public static <T> PaginatedResponse<List<T>> toResponse(PageResult<T> page) {
+        return PaginatedResponse.<List<T>>builder()
+                .data(page.items())
+                .pagination(PaginatedResponse.Pagination.builder()
+                        .currentPage(page.page())
+                        .totalPages(page.totalPages())
+                        .totalItems(page.totalItems())
+                        .itemsPerPage(page.size())
+                        .build())
+                .build();
+    }
+}
@@ -1,36 +1,51 @@
 package com.tz.rental.landlord_management.application.service;
 
 import com.tz.rental.landlord_management.application.dto.CreatePaymentRequest;
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.PaymentResponse;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
 import com.tz.rental.landlord_management.domain.exception.NotFoundException;
 import com.tz.rental.landlord_management.domain.exception.UnauthorizedException;
 import com.tz.rental.landlord_management.domain.model.aggregate.*;
 import com.tz.rental.landlord_management.domain.model.valueobject.PaymentStatus;
 import com.tz.rental.landlord_management.domain.repository.HouseRepository;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
 import com.tz.rental.landlord_management.domain.repository.LeaseRepository;
+import com.tz.rental.landlord_management.domain.repository.PaymentFilter;
 import com.tz.rental.landlord_management.domain.repository.PaymentRepository;
 import com.tz.rental.landlord_management.domain.repository.RoomRepository;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("paymentDate", "amountPaid", "status", "createdAt");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "paymentDate");
+
     private final PaymentRepository paymentRepository;
     private final LeaseRepository leaseRepository;
     private final RoomRepository roomRepository; // Added for authorization
     private final HouseRepository houseRepository; // Added for authorization
     @Qualifier("applicationPaymentMapper")
     private final PaymentMapper applicationPaymentMapper;
+    private final RentLedgerService rentLedgerService;
+    private final LandlordIncomeService landlordIncomeService;
+    private final ReportCacheService reportCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Landlord.LandlordId getCurrentLandlordId() {
         UserEntity currentUser = (UserEntity) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -64,6 +79,10 @@ public class PaymentService {
                 request.getTransactionReference()
         );
         Payment savedPayment = paymentRepository.save(payment);
+        rentLedgerService.recordPayment(savedPayment.getLeaseId(), savedPayment.getPaymentDate(), savedPayment.getAmountPaid());
+        landlordIncomeService.recordPayment(getCurrentLandlordId(), savedPayment.getPaymentDate(), savedPayment.getAmountPaid());
+        reportCacheService.evictMonth(getCurrentLandlordId(), savedPayment.getPaymentDate());
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(getCurrentLandlordId(), LandlordDataChangedEvent.Source.PAYMENT));
         return applicationPaymentMapper.toResponse(savedPayment);
     }
 
@@ -78,14 +97,27 @@ public class PaymentService {
     }
 
     @Transactional(readOnly = true)
-    public List<PaymentResponse> getPaymentsByLeaseId(UUID leaseId) {
+    public PaginatedResponse<List<PaymentResponse>> getPaymentsByLeaseId(UUID leaseId, PaymentFilter filter, Pageable pageable) {
+        Lease lease = leaseRepository.findById(leaseId)
+                .orElseThrow(() -> new NotFoundException("Lease", leaseId));
+        authorizeLandlordForLease(lease); // Security check
+
+        return PageRequests.toResponse(paymentRepository
+                .findByLeaseId(leaseId, filter, PageRequests.toPageQuery(pageable, SORTABLE_FIELDS, DEFAULT_SORT))
+                .map(applicationPaymentMapper::toResponse));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<List<PaymentResponse>> getPaymentsByLeaseIdAndCursor(UUID leaseId, PaymentFilter filter, String cursor,
+                                                                                       int limit, boolean includeTotal) {
+        KeysetRequest request = KeysetCursors.decode(cursor, limit);
         Lease lease = leaseRepository.findById(leaseId)
                 .orElseThrow(() -> new NotFoundException("Lease", leaseId));
         authorizeLandlordForLease(lease); // Security check
 
-        return paymentRepository.findByLeaseId(leaseId).stream()
-                .map(applicationPaymentMapper::toResponse)
-                .collect(Collectors.toList());
+        Long totalItems = includeTotal ? paymentRepository.countByLeaseId(leaseId, filter) : null;
+        return KeysetCursors.toResponse(paymentRepository.findByLeaseId(leaseId, filter, request).map(applicationPaymentMapper::toResponse),
+                limit, totalItems, PaymentResponse::getCreatedAt, PaymentResponse::getId);
     }
 
     @Transactional
@@ -96,6 +128,10 @@ public class PaymentService {
                 .orElseThrow(() -> new NotFoundException("Lease", payment.getLeaseId().value()));
         authorizeLandlordForLease(lease); // Security check
 
+        // Move the old amount out of its month before applying the new one
+        rentLedgerService.reversePayment(payment.getLeaseId(), payment.getPaymentDate(), payment.getAmountPaid());
+        landlordIncomeService.reversePayment(getCurrentLandlordId(), payment.getPaymentDate(), payment.getAmountPaid());
+        reportCacheService.evictMonth(getCurrentLandlordId(), payment.getPaymentDate());
         payment.updatePayment(
                 request.getAmountPaid(),
                 request.getPaymentDate(),
@@ -103,6 +139,10 @@ public class PaymentService {
                 PaymentStatus.PAID
         );
         Payment updatedPayment = paymentRepository.save(payment);
+        rentLedgerService.recordPayment(updatedPayment.getLeaseId(), updatedPayment.getPaymentDate(), updatedPayment.getAmountPaid());
+        landlordIncomeService.recordPayment(getCurrentLandlordId(), updatedPayment.getPaymentDate(), updatedPayment.getAmountPaid());
+        reportCacheService.evictMonth(getCurrentLandlordId(), updatedPayment.getPaymentDate());
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(getCurrentLandlordId(), LandlordDataChangedEvent.Source.PAYMENT));
         return applicationPaymentMapper.toResponse(updatedPayment);
     }
 
@@ -114,5 +154,9 @@ public class PaymentService {
                 .orElseThrow(() -> new NotFoundException("Lease", payment.getLeaseId().value()));
         authorizeLandlordForLease(lease); // Security check
         paymentRepository.deleteById(id);
+        rentLedgerService.reversePayment(payment.getLeaseId(), payment.getPaymentDate(), payment.getAmountPaid());
+        landlordIncomeService.reversePayment(getCurrentLandlordId(), payment.getPaymentDate(), payment.getAmountPaid());
+        reportCacheService.evictMonth(getCurrentLandlordId(), payment.getPaymentDate());
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(getCurrentLandlordId(), LandlordDataChangedEvent.Source.PAYMENT));
     }
 }
\ No newline at end of file
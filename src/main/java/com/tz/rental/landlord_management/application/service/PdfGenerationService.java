@@ -11,6 +11,9 @@ import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.HorizontalAlignment; // Added import
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeMonth;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReport;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReportEntry;
 import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReport;
 import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReportEntry;
 import com.tz.rental.landlord_management.application.dto.VacancyReport;
@@ -24,13 +27,16 @@ import org.springframework.stereotype.Service;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate; // Added import
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -39,6 +45,7 @@ public class PdfGenerationService {
 
     private static final String REPORTS_DIR = "reports";
     private static final String CONTRACTS_DIR = "contracts";
+    private static final int LARGE_TABLE_FLUSH_ROWS = 50; // Rows buffered before a streamed table is laid out and flushed
 
     private final ContractTemplateRepository contractTemplateRepository;
     private final TenantRepository tenantRepository;
@@ -231,6 +238,172 @@ public class PdfGenerationService {
         }
     }
 
+    public byte[] generateIncomeRangePdf(IncomeRangeReport report) throws IOException {
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMMM yyyy");
+        try (PdfWriter writer = new PdfWriter(new ByteArrayOutputStream());
+             PdfDocument pdf = new PdfDocument(writer);
+             Document document = new Document(pdf)) {
+
+            document.add(new Paragraph("Income Report")
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setBold()
+                    .setFontSize(24));
+            document.add(new Paragraph(report.getFromMonth().format(monthFormatter) + " - " + report.getToMonth().format(monthFormatter))
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setFontSize(18));
+            document.add(new Paragraph("\n"));
+
+            // Summary Table
+            Table summaryTable = new Table(UnitValue.createPercentArray(new float[]{1, 1}));
+            summaryTable.setWidth(UnitValue.createPercentValue(80)).setHorizontalAlignment(HorizontalAlignment.CENTER);
+            addSummaryRow(summaryTable, "Total Expected Income:", report.getTotalExpectedIncome());
+            addSummaryRow(summaryTable, "Total Actual Income:", report.getTotalActualIncome());
+            addSummaryRow(summaryTable, "Total Outstanding Balance:", report.getTotalOutstandingBalance());
+            document.add(summaryTable);
+            document.add(new Paragraph("\n"));
+
+            // Monthly Breakdown Table
+            document.add(new Paragraph("Monthly Breakdown:")
+                    .setBold()
+                    .setFontSize(14));
+            Table monthsTable = new Table(UnitValue.createPercentArray(new float[]{2, 1, 2, 2, 2}));
+            monthsTable.setWidth(UnitValue.createPercentValue(100));
+            addTableHeader(monthsTable, "Month", "Leases", "Expected (TZS)", "Paid (TZS)", "Balance (TZS)");
+            for (IncomeRangeMonth month : report.getMonths()) {
+                addTableRow(monthsTable,
+                        month.getMonth().format(monthFormatter),
+                        String.valueOf(month.getLeaseCount()),
+                        month.getExpectedIncome().toString(),
+                        month.getActualIncome().toString(),
+                        month.getOutstandingBalance().toString());
+            }
+            document.add(monthsTable);
+            document.add(new Paragraph("\n"));
+
+            // Lease Details Table
+            document.add(new Paragraph("Details:")
+                    .setBold()
+                    .setFontSize(14));
+            Table detailsTable = new Table(UnitValue.createPercentArray(new float[]{1, 2, 1, 2, 1, 1, 1, 1}));
+            detailsTable.setWidth(UnitValue.createPercentValue(100));
+            addTableHeader(detailsTable, "Lease ID", "Tenant Name", "Room", "House", "Months", "Expected (TZS)", "Paid (TZS)", "Balance (TZS)");
+            for (IncomeRangeReportEntry entry : report.getEntries()) {
+                addTableRow(detailsTable,
+                        entry.getLeaseId().toString().substring(0, 8) + "...",
+                        entry.getTenantName(),
+                        entry.getRoomNumber(),
+                        entry.getHouseName(),
+                        String.valueOf(entry.getMonthsBilled()),
+                        entry.getExpectedRent().toString(),
+                        entry.getAmountPaid().toString(),
+                        entry.getBalance().toString());
+            }
+            document.add(detailsTable);
+
+            document.close();
+            return ((ByteArrayOutputStream) writer.getOutputStream()).toByteArray();
+        }
+    }
+
+    // Streaming variant: the details table is added as an iText large table and flushed every few
+    // rows, so finished pages are written to the output stream while rows are still being read
+    public void writeMonthlyIncomePdf(MonthlyIncomeReport summary, Stream<MonthlyIncomeReportEntry> entries, OutputStream out) throws IOException {
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false); // The caller owns the response stream
+        try (PdfDocument pdf = new PdfDocument(writer);
+             Document document = new Document(pdf)) {
+
+            document.add(new Paragraph("Monthly Income Report")
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setBold()
+                    .setFontSize(24));
+            document.add(new Paragraph("For " + summary.getReportMonth().format(DateTimeFormatter.ofPattern("MMMM yyyy")))
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setFontSize(18));
+            document.add(new Paragraph("\n"));
+
+            Table summaryTable = new Table(UnitValue.createPercentArray(new float[]{1, 1}));
+            summaryTable.setWidth(UnitValue.createPercentValue(80)).setHorizontalAlignment(HorizontalAlignment.CENTER);
+            addSummaryRow(summaryTable, "Total Expected Income:", summary.getTotalExpectedIncome());
+            addSummaryRow(summaryTable, "Total Actual Income:", summary.getTotalActualIncome());
+            addSummaryRow(summaryTable, "Total Outstanding Balance:", summary.getTotalOutstandingBalance());
+            document.add(summaryTable);
+            document.add(new Paragraph("\n"));
+
+            document.add(new Paragraph("Details:")
+                    .setBold()
+                    .setFontSize(14));
+            Table detailsTable = new Table(UnitValue.createPercentArray(new float[]{1, 2, 1, 2, 1, 1, 1}), true);
+            detailsTable.setWidth(UnitValue.createPercentValue(100));
+            addTableHeader(detailsTable, "Lease ID", "Tenant Name", "Room", "House", "Expected (TZS)", "Paid (TZS)", "Balance (TZS)");
+            document.add(detailsTable);
+
+            int rows = 0;
+            Iterator<MonthlyIncomeReportEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                MonthlyIncomeReportEntry entry = iterator.next();
+                addTableRow(detailsTable,
+                        entry.getLeaseId().toString().substring(0, 8) + "...",
+                        entry.getTenantName(),
+                        entry.getRoomNumber(),
+                        entry.getHouseName(),
+                        entry.getExpectedRent().toString(),
+                        entry.getAmountPaid().toString(),
+                        entry.getBalance().toString());
+                if (++rows % LARGE_TABLE_FLUSH_ROWS == 0) {
+                    detailsTable.flush();
+                }
+            }
+            detailsTable.complete();
+        }
+    }
+
+    public void writeVacancyPdf(VacancyReport summary, Stream<VacancyReportEntry> entries, OutputStream out) throws IOException {
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false); // The caller owns the response stream
+        try (PdfDocument pdf = new PdfDocument(writer);
+             Document document = new Document(pdf)) {
+
+            document.add(new Paragraph("Vacancy Report")
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setBold()
+                    .setFontSize(24));
+            document.add(new Paragraph("As of " + summary.getReportDate().format(DateTimeFormatter.ISO_LOCAL_DATE))
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setFontSize(18));
+            document.add(new Paragraph("\n"));
+
+            document.add(new Paragraph("Total Vacant Rooms: " + summary.getTotalVacantRooms())
+                    .setBold()
+                    .setFontSize(14));
+            document.add(new Paragraph("\n"));
+
+            document.add(new Paragraph("Vacant Rooms Details:")
+                    .setBold()
+                    .setFontSize(14));
+            Table detailsTable = new Table(UnitValue.createPercentArray(new float[]{1, 1, 2, 1, 3}), true);
+            detailsTable.setWidth(UnitValue.createPercentValue(100));
+            addTableHeader(detailsTable, "Room ID", "Room No.", "House Name", "House ID", "Description");
+            document.add(detailsTable);
+
+            int rows = 0;
+            Iterator<VacancyReportEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                VacancyReportEntry entry = iterator.next();
+                addTableRow(detailsTable,
+                        entry.getRoomId().toString().substring(0, 8) + "...",
+                        entry.getRoomNumber(),
+                        entry.getHouseName(),
+                        entry.getHouseId().toString().substring(0, 8) + "...",
+                        entry.getRoomDescription());
+                if (++rows % LARGE_TABLE_FLUSH_ROWS == 0) {
+                    detailsTable.flush();
+                }
+            }
+            detailsTable.complete();
+        }
+    }
+
     private void addTableHeader(Table table, String... headers) {
         for (String header : headers) {
             table.addHeaderCell(new Cell().add(new Paragraph(header))
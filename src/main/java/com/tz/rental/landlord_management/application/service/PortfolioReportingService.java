@@ -0,0 +1,151 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.LandlordIncomeSummary;
+import com.tz.rental.landlord_management.application.dto.LandlordVacancySummary;
+import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReport;
+import com.tz.rental.landlord_management.application.dto.PortfolioIncomeReport;
+import com.tz.rental.landlord_management.application.dto.PortfolioVacancyReport;
+import com.tz.rental.landlord_management.application.dto.VacancyReport;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.LandlordNameProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+// System-wide reports for admins. Work is split per landlord and run on virtual threads;
+// a semaphore caps how many landlords hit the database at once, so the connection pool
+// (not the landlord count) bounds the wall-clock time.
+@Service
+@Slf4j
+public class PortfolioReportingService {
+
+    private final ReportingService reportingService;
+    private final JpaLandlordRepository jpaLandlordRepository;
+    private final JpaRoomRepository jpaRoomRepository;
+    private final Semaphore dbPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PortfolioReportingService(ReportingService reportingService,
+                                     JpaLandlordRepository jpaLandlordRepository,
+                                     JpaRoomRepository jpaRoomRepository,
+                                     @Value("${app.reports.portfolio.db-concurrency:8}") int dbConcurrency) {
+        this.reportingService = reportingService;
+        this.jpaLandlordRepository = jpaLandlordRepository;
+        this.jpaRoomRepository = jpaRoomRepository;
+        this.dbPermits = new Semaphore(dbConcurrency);
+    }
+
+    public PortfolioIncomeReport generateMonthlyIncomeReport(YearMonth yearMonth) {
+        long start = System.nanoTime();
+        List<LandlordNameProjection> landlords = jpaLandlordRepository.findAllNames();
+
+        List<LandlordIncomeSummary> summaries = forEachLandlord(landlords, landlord -> {
+            MonthlyIncomeReport report = reportingService.generateMonthlyIncomeSummary(new Landlord.LandlordId(landlord.getId()), yearMonth);
+            return LandlordIncomeSummary.builder()
+                    .landlordId(landlord.getId())
+                    .landlordName(landlord.getFirstName() + " " + landlord.getLastName())
+                    .totalExpectedIncome(report.getTotalExpectedIncome())
+                    .totalActualIncome(report.getTotalActualIncome())
+                    .totalOutstandingBalance(report.getTotalOutstandingBalance())
+                    .build();
+        });
+
+        BigDecimal totalExpectedIncome = BigDecimal.ZERO;
+        BigDecimal totalActualIncome = BigDecimal.ZERO;
+        BigDecimal totalOutstandingBalance = BigDecimal.ZERO;
+        for (LandlordIncomeSummary summary : summaries) {
+            totalExpectedIncome = totalExpectedIncome.add(summary.getTotalExpectedIncome());
+            totalActualIncome = totalActualIncome.add(summary.getTotalActualIncome());
+            totalOutstandingBalance = totalOutstandingBalance.add(summary.getTotalOutstandingBalance());
+        }
+
+        log.info("Generated portfolio income report for {} across {} landlords in {} ms",
+                yearMonth, landlords.size(), (System.nanoTime() - start) / 1_000_000);
+        return PortfolioIncomeReport.builder()
+                .reportMonth(yearMonth)
+                .landlordCount(summaries.size())
+                .totalExpectedIncome(totalExpectedIncome)
+                .totalActualIncome(totalActualIncome)
+                .totalOutstandingBalance(totalOutstandingBalance)
+                .landlords(summaries)
+                .build();
+    }
+
+    public PortfolioVacancyReport generateVacancyReport() {
+        long start = System.nanoTime();
+        List<LandlordNameProjection> landlords = jpaLandlordRepository.findAllNames();
+
+        List<LandlordVacancySummary> summaries = forEachLandlord(landlords, landlord -> {
+            VacancyReport report = reportingService.generateVacancySummary(new Landlord.LandlordId(landlord.getId()));
+            return LandlordVacancySummary.builder()
+                    .landlordId(landlord.getId())
+                    .landlordName(landlord.getFirstName() + " " + landlord.getLastName())
+                    .totalRooms(jpaRoomRepository.countByHouseLandlordId(landlord.getId()))
+                    .vacantRooms(report.getTotalVacantRooms())
+                    .build();
+        });
+
+        log.info("Generated portfolio vacancy report across {} landlords in {} ms",
+                landlords.size(), (System.nanoTime() - start) / 1_000_000);
+        return PortfolioVacancyReport.builder()
+                .reportDate(LocalDate.now())
+                .landlordCount(summaries.size())
+                .totalRooms(summaries.stream().mapToLong(LandlordVacancySummary::getTotalRooms).sum())
+                .totalVacantRooms(summaries.stream().mapToLong(LandlordVacancySummary::getVacantRooms).sum())
+                .landlords(summaries)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Runs the task for every landlord concurrently and returns the results in landlord order
+    private <T> List<T> forEachLandlord(List<LandlordNameProjection> landlords, Function<LandlordNameProjection, T> task) {
+        List<Future<T>> futures = new ArrayList<>(landlords.size());
+        for (LandlordNameProjection landlord : landlords) {
+            futures.add(executor.submit(() -> {
+                dbPermits.acquire();
+                try {
+                    return task.apply(landlord);
+                } finally {
+                    dbPermits.release();
+                }
+            }));
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Portfolio report was interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Portfolio report failed", e.getCause());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,92 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.domain.model.aggregate.Lease;
+import com.tz.rental.landlord_management.domain.service.Ids;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.RentLedgerEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLeaseRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRentLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Keeps the per-lease, per-month rent ledger in step with lease and payment writes.
+// All methods join the caller's transaction so the ledger commits or rolls back with the write.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RentLedgerService {
+
+    private final JpaRentLedgerRepository ledgerRepository;
+    private final JpaLeaseRepository leaseRepository;
+
+    @Transactional
+    public void openLease(Lease lease) {
+        UUID leaseId = lease.getId().value();
+        Map<LocalDate, RentLedgerEntity> rowsByPeriod = ledgerRepository.findByLeaseIdForUpdate(leaseId).stream()
+                .collect(Collectors.toMap(RentLedgerEntity::getPeriodStart, Function.identity()));
+
+        YearMonth last = YearMonth.from(lease.getEndDate());
+        for (YearMonth month = YearMonth.from(lease.getStartDate()); !month.isAfter(last); month = month.plusMonths(1)) {
+            RentLedgerEntity row = rowsByPeriod.computeIfAbsent(month.atDay(1), period -> newRow(leaseId, period));
+            row.setExpectedRent(lease.getRentAmount());
+            row.recalculateBalance();
+        }
+        ledgerRepository.saveAll(rowsByPeriod.values());
+    }
+
+    @Transactional
+    public void closeLease(Lease lease) {
+        // Months after the (possibly shortened) end date no longer expect rent
+        YearMonth last = YearMonth.from(lease.getEndDate());
+        List<RentLedgerEntity> rows = ledgerRepository.findByLeaseIdForUpdate(lease.getId().value());
+        for (RentLedgerEntity row : rows) {
+            if (YearMonth.from(row.getPeriodStart()).isAfter(last)) {
+                row.setExpectedRent(BigDecimal.ZERO);
+                row.recalculateBalance();
+            }
+        }
+        ledgerRepository.saveAll(rows);
+    }
+
+    @Transactional
+    public void recordPayment(Lease.LeaseId leaseId, LocalDate paymentDate, BigDecimal amount) {
+        adjustPaid(leaseId.value(), paymentDate, amount);
+    }
+
+    @Transactional
+    public void reversePayment(Lease.LeaseId leaseId, LocalDate paymentDate, BigDecimal amount) {
+        adjustPaid(leaseId.value(), paymentDate, amount.negate());
+    }
+
+    // Drops the ledger and recomputes it from leases and payment history in the database (backfill / repair)
+    @Transactional
+    public int rebuild() {
+        log.info("Rebuilding rent ledger from leases and payments...");
+        ledgerRepository.deleteAllInBatch();
+        int rowCount = ledgerRepository.insertFromLeasesAndPayments();
+        log.info("Rent ledger rebuilt with {} rows.", rowCount);
+        return rowCount;
+    }
+
+    private void adjustPaid(UUID leaseId, LocalDate paymentDate, BigDecimal delta) {
+        ledgerRepository.addPaid(Ids.next(), leaseId, YearMonth.from(paymentDate).atDay(1), delta);
+    }
+
+    private RentLedgerEntity newRow(UUID leaseId, LocalDate periodStart) {
+        RentLedgerEntity row = new RentLedgerEntity();
+        row.setId(Ids.next());
+        row.setLease(leaseRepository.getReferenceById(leaseId));
+        row.setPeriodStart(periodStart);
+        return row;
+    }
+}
@@ -0,0 +1,174 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReport;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Caches monthly income reports of closed months. The current and future months are
+// always generated fresh. Entries are evicted when a payment or lease of the landlord
+// touching the month is written, after the surrounding transaction commits.
+@Service
+@Slf4j
+public class ReportCacheService {
+
+    public enum Format { JSON, PDF, EXCEL }
+
+    public record CachedReport<T>(T content, String etag, Instant lastModified) {
+    }
+
+    private record Key(Landlord.LandlordId landlordId, YearMonth yearMonth, Format format) {
+    }
+
+    @FunctionalInterface
+    private interface ReportLoader<T> {
+        T load() throws IOException;
+    }
+
+    private final ReportingService reportingService;
+    private final PdfGenerationService pdfGenerationService;
+    private final ExcelGenerationService excelGenerationService;
+    private final Cache<Key, CachedReport<?>> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ReportCacheService(ReportingService reportingService,
+                              PdfGenerationService pdfGenerationService,
+                              ExcelGenerationService excelGenerationService,
+                              @Value("${app.reports.cache.max-size:500}") long maxSize,
+                              @Value("${app.reports.cache.ttl:PT12H}") Duration ttl) {
+        this.reportingService = reportingService;
+        this.pdfGenerationService = pdfGenerationService;
+        this.excelGenerationService = excelGenerationService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    private Landlord.LandlordId getCurrentLandlordId() {
+        UserEntity currentUser = (UserEntity) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (currentUser.getLandlord() == null) {
+            throw new IllegalStateException("The current user is not a landlord.");
+        }
+        return new Landlord.LandlordId(currentUser.getLandlord().getId());
+    }
+
+    public CachedReport<MonthlyIncomeReport> getMonthlyIncomeReport(YearMonth yearMonth) {
+        return getMonthlyIncomeReport(getCurrentLandlordId(), yearMonth);
+    }
+
+    public CachedReport<byte[]> getMonthlyIncomePdf(YearMonth yearMonth) throws IOException {
+        return getMonthlyIncomePdf(getCurrentLandlordId(), yearMonth);
+    }
+
+    public CachedReport<byte[]> getMonthlyIncomeExcel(YearMonth yearMonth) throws IOException {
+        return getMonthlyIncomeExcel(getCurrentLandlordId(), yearMonth);
+    }
+
+    public CachedReport<MonthlyIncomeReport> getMonthlyIncomeReport(Landlord.LandlordId landlordId, YearMonth yearMonth) {
+        try {
+            return get(new Key(landlordId, yearMonth, Format.JSON),
+                    () -> reportingService.generateMonthlyIncomeReport(landlordId, yearMonth));
+        } catch (IOException e) {
+            // The JSON report is built from the database only and never throws this
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public CachedReport<byte[]> getMonthlyIncomePdf(Landlord.LandlordId landlordId, YearMonth yearMonth) throws IOException {
+        // File formats are rendered from the cached JSON report
+        return get(new Key(landlordId, yearMonth, Format.PDF),
+                () -> pdfGenerationService.generateMonthlyIncomePdf(getMonthlyIncomeReport(landlordId, yearMonth).content()));
+    }
+
+    public CachedReport<byte[]> getMonthlyIncomeExcel(Landlord.LandlordId landlordId, YearMonth yearMonth) throws IOException {
+        return get(new Key(landlordId, yearMonth, Format.EXCEL),
+                () -> excelGenerationService.generateMonthlyIncomeExcel(getMonthlyIncomeReport(landlordId, yearMonth).content()));
+    }
+
+    // A payment only changes the report of the month it was paid in
+    public void evictMonth(Landlord.LandlordId landlordId, LocalDate date) {
+        YearMonth yearMonth = YearMonth.from(date);
+        afterCommit(() -> cache.asMap().keySet().removeIf(key ->
+                key.landlordId().equals(landlordId) && key.yearMonth().equals(yearMonth)));
+    }
+
+    // A lease changes every month it overlaps; a null end date means open-ended
+    public void evictMonths(Landlord.LandlordId landlordId, LocalDate from, LocalDate to) {
+        YearMonth first = YearMonth.from(from);
+        YearMonth last = to != null ? YearMonth.from(to) : null;
+        afterCommit(() -> cache.asMap().keySet().removeIf(key ->
+                key.landlordId().equals(landlordId)
+                        && !key.yearMonth().isBefore(first)
+                        && (last == null || !key.yearMonth().isAfter(last))));
+    }
+
+    public void evictAll() {
+        afterCommit(cache::invalidateAll);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CachedReport<T> get(Key key, ReportLoader<T> loader) throws IOException {
+        // Open months still change, so they are neither cached nor given validators
+        if (!key.yearMonth().isBefore(YearMonth.now())) {
+            return new CachedReport<>(loader.load(), null, null);
+        }
+        CachedReport<T> cached = (CachedReport<T>) cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Loaded outside the cache because file formats read the cached JSON report while loading.
+        // A load that overlapped an eviction is served but not stored, as it may be stale.
+        long generation = evictions.get();
+        log.debug("Report cache miss for {}", key);
+        CachedReport<T> loaded = wrap(key, loader.load());
+        if (evictions.get() != generation) {
+            return loaded;
+        }
+        CachedReport<T> existing = (CachedReport<T>) cache.asMap().putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private <T> CachedReport<T> wrap(Key key, T content) {
+        // HTTP dates have second precision, so the validators are truncated to match
+        Instant generatedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        String etag = "\"" + key.format().name().toLowerCase() + "-"
+                + Integer.toHexString(key.hashCode()) + "-" + Long.toHexString(generatedAt.getEpochSecond()) + "\"";
+        return new CachedReport<>(content, etag, generatedAt);
+    }
+
+    // Evicting before commit would let a concurrent read cache the old data again
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(eviction);
+                }
+            });
+        } else {
+            evictNow(eviction);
+        }
+    }
+
+    private void evictNow(Runnable eviction) {
+        evictions.incrementAndGet();
+        eviction.run();
+    }
+}
@@ -0,0 +1,168 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReportEntry;
+import com.tz.rental.landlord_management.application.dto.PaymentHistoryEntry;
+import com.tz.rental.landlord_management.application.dto.VacancyReportEntry;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Streamed report exports (Excel, PDF, CSV and NDJSON): rows are read through a database cursor and written straight to the
+// output stream, so neither the rows nor the rendered file are held in memory. The read-only
+// transaction stays open for the whole download.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportExportService {
+
+    public enum ExportFormat { CSV, NDJSON }
+
+    private static final String[] MONTHLY_INCOME_COLUMNS = {"lease_id", "tenant_name", "room_number", "house_name", "expected_rent", "amount_paid", "balance"};
+    private static final String[] VACANCY_COLUMNS = {"room_id", "room_number", "house_name", "house_id", "description"};
+    private static final String[] PAYMENT_HISTORY_COLUMNS = {"payment_id", "lease_id", "tenant_name", "room_number", "house_name", "amount_paid", "payment_date", "status", "transaction_reference"};
+
+    private final ObjectMapper objectMapper;
+    private final ReportingService reportingService;
+    private final ExcelGenerationService excelGenerationService;
+    private final PdfGenerationService pdfGenerationService;
+
+    private Landlord.LandlordId getCurrentLandlordId() {
+        UserEntity currentUser = (UserEntity) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (currentUser.getLandlord() == null) {
+            throw new IllegalStateException("The current user is not a landlord.");
+        }
+        return new Landlord.LandlordId(currentUser.getLandlord().getId());
+    }
+
+    @Transactional(readOnly = true)
+    public void writeMonthlyIncomeExcel(YearMonth yearMonth, OutputStream out) throws IOException {
+        Landlord.LandlordId landlordId = getCurrentLandlordId();
+        log.info("Streaming monthly income Excel for landlord {} and {}", landlordId.value(), yearMonth);
+        try (Stream<MonthlyIncomeReportEntry> entries = reportingService.streamMonthlyIncomeEntries(landlordId, yearMonth)) {
+            excelGenerationService.writeMonthlyIncomeExcel(
+                    reportingService.generateMonthlyIncomeSummary(landlordId, yearMonth), entries, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeVacancyExcel(OutputStream out) throws IOException {
+        Landlord.LandlordId landlordId = getCurrentLandlordId();
+        log.info("Streaming vacancy Excel for landlord {}", landlordId.value());
+        try (Stream<VacancyReportEntry> entries = reportingService.streamVacancyEntries(landlordId)) {
+            excelGenerationService.writeVacancyExcel(reportingService.generateVacancySummary(landlordId), entries, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeMonthlyIncomePdf(YearMonth yearMonth, OutputStream out) throws IOException {
+        Landlord.LandlordId landlordId = getCurrentLandlordId();
+        log.info("Streaming monthly income PDF for landlord {} and {}", landlordId.value(), yearMonth);
+        try (Stream<MonthlyIncomeReportEntry> entries = reportingService.streamMonthlyIncomeEntries(landlordId, yearMonth)) {
+            pdfGenerationService.writeMonthlyIncomePdf(
+                    reportingService.generateMonthlyIncomeSummary(landlordId, yearMonth), entries, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeVacancyPdf(OutputStream out) throws IOException {
+        Landlord.LandlordId landlordId = getCurrentLandlordId();
+        log.info("Streaming vacancy PDF for landlord {}", landlordId.value());
+        try (Stream<VacancyReportEntry> entries = reportingService.streamVacancyEntries(landlordId)) {
+            pdfGenerationService.writeVacancyPdf(reportingService.generateVacancySummary(landlordId), entries, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeMonthlyIncomeRows(YearMonth yearMonth, ExportFormat format, OutputStream out) throws IOException {
+        Landlord.LandlordId landlordId = getCurrentLandlordId();
+        log.info("Streaming monthly income {} for landlord {} and {}", format, landlordId.value(), yearMonth);
+        try (Stream<MonthlyIncomeReportEntry> entries = reportingService.streamMonthlyIncomeEntries(landlordId, yearMonth)) {
+            writeRows(entries, format, MONTHLY_INCOME_COLUMNS, entry -> new Object[]{
+                    entry.getLeaseId(), entry.getTenantName(), entry.getRoomNumber(), entry.getHouseName(),
+                    entry.getExpectedRent(), entry.getAmountPaid(), entry.getBalance()}, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeVacancyRows(ExportFormat format, OutputStream out) throws IOException {
+        Landlord.LandlordId landlordId = getCurrentLandlordId();
+        log.info("Streaming vacancy {} for landlord {}", format, landlordId.value());
+        try (Stream<VacancyReportEntry> entries = reportingService.streamVacancyEntries(landlordId)) {
+            writeRows(entries, format, VACANCY_COLUMNS, entry -> new Object[]{
+                    entry.getRoomId(), entry.getRoomNumber(), entry.getHouseName(), entry.getHouseId(),
+                    entry.getRoomDescription()}, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writePaymentHistoryRows(LocalDate from, LocalDate to, ExportFormat format, OutputStream out) throws IOException {
+        Landlord.LandlordId landlordId = getCurrentLandlordId();
+        log.info("Streaming payment history {} for landlord {} from {} to {}", format, landlordId.value(), from, to);
+        try (Stream<PaymentHistoryEntry> entries = reportingService.streamPaymentHistory(landlordId, from, to)) {
+            writeRows(entries, format, PAYMENT_HISTORY_COLUMNS, entry -> new Object[]{
+                    entry.getPaymentId(), entry.getLeaseId(), entry.getTenantName(), entry.getRoomNumber(),
+                    entry.getHouseName(), entry.getAmountPaid(), entry.getPaymentDate(), entry.getStatus(),
+                    entry.getTransactionReference()}, out);
+        }
+    }
+
+    // One line per row; the writer's buffer is the only thing that grows with the output
+    private <T> void writeRows(Stream<T> rows, ExportFormat format, String[] columns,
+                               Function<T, Object[]> csvValues, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns);
+        }
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, csvValues.apply(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks, and double embedded quotes
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal amount ? amount.toPlainString() : value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
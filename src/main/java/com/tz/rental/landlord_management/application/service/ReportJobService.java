@@ -0,0 +1,276 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.ReportJobMetrics;
+import com.tz.rental.landlord_management.application.dto.ReportJobRequest;
+import com.tz.rental.landlord_management.application.dto.ReportJobResponse;
+import com.tz.rental.landlord_management.application.dto.VacancyReport;
+import com.tz.rental.landlord_management.domain.exception.DomainException;
+import com.tz.rental.landlord_management.domain.exception.NotFoundException;
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Generates PDF/Excel reports off the request thread on a small, bounded pool.
+// Finished files are kept on local disk until the retention period passes.
+@Service
+@Slf4j
+public class ReportJobService {
+
+    private static final String EXCEL_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final String PDF_CONTENT_TYPE = "application/pdf";
+
+    private final ReportingService reportingService;
+    private final ReportCacheService reportCacheService;
+    private final PdfGenerationService pdfGenerationService;
+    private final ExcelGenerationService excelGenerationService;
+    private final Path storageDir;
+    private final Duration retention;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicLong completedJobs = new AtomicLong();
+    private final AtomicLong failedJobs = new AtomicLong();
+    private final AtomicLong rejectedJobs = new AtomicLong();
+    private final AtomicLong totalDurationMillis = new AtomicLong();
+    private final AtomicLong maxDurationMillis = new AtomicLong();
+    private final AtomicLong totalQueueWaitMillis = new AtomicLong();
+
+    public record JobFile(Path path, String filename, String contentType) {
+    }
+
+    public ReportJobService(ReportingService reportingService,
+                            ReportCacheService reportCacheService,
+                            PdfGenerationService pdfGenerationService,
+                            ExcelGenerationService excelGenerationService,
+                            @Value("${app.reports.jobs.pool-size:2}") int poolSize,
+                            @Value("${app.reports.jobs.queue-capacity:50}") int queueCapacity,
+                            @Value("${app.reports.jobs.storage-dir:reports/jobs}") String storageDir,
+                            @Value("${app.reports.jobs.retention:PT24H}") Duration retention) {
+        this.reportingService = reportingService;
+        this.reportCacheService = reportCacheService;
+        this.pdfGenerationService = pdfGenerationService;
+        this.excelGenerationService = excelGenerationService;
+        this.storageDir = Paths.get(storageDir);
+        this.retention = retention;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private Landlord.LandlordId getCurrentLandlordId() {
+        UserEntity currentUser = (UserEntity) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (currentUser.getLandlord() == null) {
+            throw new IllegalStateException("The current user is not a landlord.");
+        }
+        return new Landlord.LandlordId(currentUser.getLandlord().getId());
+    }
+
+    public ReportJobResponse submit(ReportJobRequest request) {
+        YearMonth yearMonth = null;
+        if (request.getType() == ReportJobRequest.ReportType.MONTHLY_INCOME) {
+            if (request.getYear() == null || request.getMonth() == null) {
+                throw new ValidationException("Year and month are required for the monthly income report.");
+            }
+            yearMonth = YearMonth.of(request.getYear(), request.getMonth());
+        }
+
+        ReportJob job = new ReportJob(UUID.randomUUID(), getCurrentLandlordId(), request.getType(), request.getFormat(), yearMonth);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            rejectedJobs.incrementAndGet();
+            log.warn("Report job queue is full, rejecting job {}", job.id);
+            throw new TaskRejectedException("Report queue is full. Please try again shortly.", e);
+        }
+        log.info("Queued {} {} report job {}", job.type, job.format, job.id);
+        return toResponse(job);
+    }
+
+    public ReportJobResponse getStatus(UUID jobId) {
+        return toResponse(findOwnedJob(jobId));
+    }
+
+    public JobFile getFile(UUID jobId) {
+        ReportJob job = findOwnedJob(jobId);
+        if (job.status != ReportJobResponse.Status.COMPLETED) {
+            throw new DomainException("Report job " + jobId + " is not ready for download (status: " + job.status + ").");
+        }
+        return new JobFile(job.file, job.filename(), job.format == ReportJobRequest.ReportFormat.PDF ? PDF_CONTENT_TYPE : EXCEL_CONTENT_TYPE);
+    }
+
+    public ReportJobMetrics getMetrics() {
+        long finished = completedJobs.get() + failedJobs.get();
+        return ReportJobMetrics.builder()
+                .queueDepth(executor.getQueue().size())
+                .queueRemainingCapacity(executor.getQueue().remainingCapacity())
+                .activeJobs(executor.getActiveCount())
+                .storedJobs(jobs.size())
+                .completedJobs(completedJobs.get())
+                .failedJobs(failedJobs.get())
+                .rejectedJobs(rejectedJobs.get())
+                .averageDurationMillis(finished == 0 ? 0 : totalDurationMillis.get() / finished)
+                .maxDurationMillis(maxDurationMillis.get())
+                .averageQueueWaitMillis(finished == 0 ? 0 : totalQueueWaitMillis.get() / finished)
+                .build();
+    }
+
+    // Drop expired jobs and their files once an hour
+    @Scheduled(fixedDelayString = "${app.reports.jobs.cleanup-interval:PT1H}")
+    public void purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (job.completedAt == null || job.completedAt.isAfter(cutoff)) {
+                return false;
+            }
+            if (job.file != null) {
+                try {
+                    Files.deleteIfExists(job.file);
+                } catch (IOException e) {
+                    log.warn("Could not delete expired report file {}: {}", job.file, e.getMessage());
+                }
+            }
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void run(ReportJob job) {
+        long queuedNanos = System.nanoTime() - job.submittedNanos;
+        long startNanos = System.nanoTime();
+        job.startedAt = LocalDateTime.now();
+        job.status = ReportJobResponse.Status.RUNNING;
+        try {
+            byte[] content = render(job);
+            Files.createDirectories(storageDir);
+            Path file = storageDir.resolve(job.id + job.extension());
+            Files.write(file, content);
+            job.file = file;
+            job.status = ReportJobResponse.Status.COMPLETED;
+            completedJobs.incrementAndGet();
+            log.info("Report job {} completed ({} bytes)", job.id, content.length);
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = ReportJobResponse.Status.FAILED;
+            failedJobs.incrementAndGet();
+            log.error("Report job {} failed: {}", job.id, e.getMessage(), e);
+        } finally {
+            job.completedAt = LocalDateTime.now();
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            totalDurationMillis.addAndGet(durationMillis);
+            maxDurationMillis.accumulateAndGet(durationMillis, Math::max);
+            totalQueueWaitMillis.addAndGet(TimeUnit.NANOSECONDS.toMillis(queuedNanos));
+        }
+    }
+
+    private byte[] render(ReportJob job) throws IOException {
+        if (job.type == ReportJobRequest.ReportType.MONTHLY_INCOME) {
+            return job.format == ReportJobRequest.ReportFormat.PDF
+                    ? reportCacheService.getMonthlyIncomePdf(job.landlordId, job.yearMonth).content()
+                    : reportCacheService.getMonthlyIncomeExcel(job.landlordId, job.yearMonth).content();
+        }
+        VacancyReport report = reportingService.generateVacancyReport(job.landlordId);
+        return job.format == ReportJobRequest.ReportFormat.PDF
+                ? pdfGenerationService.generateVacancyPdf(report)
+                : excelGenerationService.generateVacancyExcel(report);
+    }
+
+    private ReportJob findOwnedJob(UUID jobId) {
+        ReportJob job = jobs.get(jobId);
+        // Jobs of other landlords are reported as missing rather than forbidden
+        if (job == null || !job.landlordId.equals(getCurrentLandlordId())) {
+            throw new NotFoundException("Report job", jobId);
+        }
+        return job;
+    }
+
+    private ReportJobResponse toResponse(ReportJob job) {
+        return ReportJobResponse.builder()
+                .jobId(job.id)
+                .type(job.type)
+                .format(job.format)
+                .status(job.status)
+                .submittedAt(job.submittedAt)
+                .startedAt(job.startedAt)
+                .completedAt(job.completedAt)
+                .error(job.error)
+                .downloadUrl(job.status == ReportJobResponse.Status.COMPLETED
+                        ? "/api/v1/reports/jobs/" + job.id + "/download" : null)
+                .build();
+    }
+
+    private static final class ReportJob {
+        private final UUID id;
+        private final Landlord.LandlordId landlordId;
+        private final ReportJobRequest.ReportType type;
+        private final ReportJobRequest.ReportFormat format;
+        private final YearMonth yearMonth;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final long submittedNanos = System.nanoTime();
+        private volatile ReportJobResponse.Status status = ReportJobResponse.Status.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile String error;
+        private volatile Path file;
+
+        private ReportJob(UUID id, Landlord.LandlordId landlordId, ReportJobRequest.ReportType type,
+                          ReportJobRequest.ReportFormat format, YearMonth yearMonth) {
+            this.id = id;
+            this.landlordId = landlordId;
+            this.type = type;
+            this.format = format;
+            this.yearMonth = yearMonth;
+        }
+
+        private String extension() {
+            return format == ReportJobRequest.ReportFormat.PDF ? ".pdf" : ".xlsx";
+        }
+
+        private String filename() {
+            String base = type == ReportJobRequest.ReportType.MONTHLY_INCOME
+                    ? "monthly_income_report_" + yearMonth.format(DateTimeFormatter.ofPattern("yyyy_MM"))
+                    : "vacancy_report_" + submittedAt.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
+            return base + extension();
+        }
+    }
+}
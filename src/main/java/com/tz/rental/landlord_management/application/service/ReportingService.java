@@ -1,19 +1,25 @@
 package com.tz.rental.landlord_management.application.service;
 
+import com.tz.rental.landlord_management.application.dto.IncomeRangeMonth;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReport;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReportEntry;
 import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReport;
 import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReportEntry;
+import com.tz.rental.landlord_management.application.dto.PaymentHistoryEntry;
 import com.tz.rental.landlord_management.application.dto.VacancyReport;
 import com.tz.rental.landlord_management.application.dto.VacancyReportEntry;
-import com.tz.rental.landlord_management.domain.model.aggregate.House;
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
 import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
-import com.tz.rental.landlord_management.domain.model.aggregate.Lease;
-import com.tz.rental.landlord_management.domain.model.aggregate.Payment;
-import com.tz.rental.landlord_management.domain.model.aggregate.Room;
-import com.tz.rental.landlord_management.domain.model.aggregate.Tenant;
-import com.tz.rental.landlord_management.domain.model.valueobject.LeaseStatus;
 import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
-import com.tz.rental.landlord_management.domain.repository.*;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.LeaseMonthIncomeProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.MonthlyIncomeProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.MonthlyIncomeTotalsProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.PaymentHistoryProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.VacantRoomProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLeaseRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaPaymentRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,21 +29,23 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReportingService {
 
-    private final LeaseRepository leaseRepository;
-    private final PaymentRepository paymentRepository;
-    private final TenantRepository tenantRepository;
-    private final RoomRepository roomRepository;
-    private final HouseRepository houseRepository;
+    private static final int MAX_RANGE_MONTHS = 36;
+
+    private final JpaLeaseRepository jpaLeaseRepository;
+    private final JpaRoomRepository jpaRoomRepository;
+    private final JpaPaymentRepository jpaPaymentRepository;
 
     private Landlord.LandlordId getCurrentLandlordId() {
         UserEntity currentUser = (UserEntity) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -48,106 +56,226 @@ public class ReportingService {
     }
 
     public MonthlyIncomeReport generateMonthlyIncomeReport(YearMonth yearMonth) {
-        log.info("Generating monthly income report for {}", yearMonth);
-        Landlord.LandlordId currentLandlordId = getCurrentLandlordId();
+        return generateMonthlyIncomeReport(getCurrentLandlordId(), yearMonth);
+    }
+
+    // Explicit-landlord variant for callers running outside the request's SecurityContext (e.g. report jobs)
+    public MonthlyIncomeReport generateMonthlyIncomeReport(Landlord.LandlordId landlordId, YearMonth yearMonth) {
+        log.info("Generating monthly income report for landlord {} and {}", landlordId.value(), yearMonth);
 
         List<MonthlyIncomeReportEntry> entries = new ArrayList<>();
         BigDecimal totalExpectedIncome = BigDecimal.ZERO;
         BigDecimal totalActualIncome = BigDecimal.ZERO;
         BigDecimal totalOutstandingBalance = BigDecimal.ZERO;
 
-        // Get all active or upcoming leases that belong to the current landlord
-        List<Lease> relevantLeases = leaseRepository.findByLandlordId(currentLandlordId).stream()
-                .filter(lease -> (lease.getStatus() == LeaseStatus.ACTIVE || lease.getStatus() == LeaseStatus.UPCOMING) &&
-                        !lease.getStartDate().isAfter(yearMonth.atEndOfMonth()) &&
-                        !lease.getEndDate().isBefore(yearMonth.atDay(1)))
-                .collect(Collectors.toList());
+        // One joined query over the month's ledger rows: every lease that expected rent or received a
+        // payment that month, whatever its status is today, with tenant, room and house
+        List<MonthlyIncomeProjection> rows = jpaLeaseRepository.findMonthlyIncomeByLandlordId(
+                landlordId.value(),
+                yearMonth.atDay(1));
 
-        for (Lease lease : relevantLeases) {
-            // Fetch related entities
-            Tenant tenant = tenantRepository.findById(lease.getTenantId().value()).orElse(null);
-            Room room = roomRepository.findById(lease.getRoomId().value()).orElse(null);
-            House house = (room != null) ? houseRepository.findById(room.getHouseId()).orElse(null) : null;
+        for (MonthlyIncomeProjection row : rows) {
+            MonthlyIncomeReportEntry entry = toMonthlyIncomeEntry(row);
+            totalExpectedIncome = totalExpectedIncome.add(entry.getExpectedRent());
+            totalActualIncome = totalActualIncome.add(entry.getAmountPaid());
+            totalOutstandingBalance = totalOutstandingBalance.add(entry.getBalance());
+            entries.add(entry);
+        }
 
-            if (tenant == null || room == null || house == null) {
-                log.warn("Skipping lease {} due to missing related entities (tenant, room, or house).", lease.getId().value());
-                continue;
-            }
+        return MonthlyIncomeReport.builder()
+                .reportMonth(yearMonth)
+                .totalExpectedIncome(totalExpectedIncome)
+                .totalActualIncome(totalActualIncome)
+                .totalOutstandingBalance(totalOutstandingBalance)
+                .entries(entries)
+                .build();
+    }
 
-            // Calculate expected rent for the month (simplified: assumes full month)
-            BigDecimal expectedRent = lease.getRentAmount();
-            totalExpectedIncome = totalExpectedIncome.add(expectedRent);
+    // Totals only (entries left null), for streamed exports that write the summary before the rows
+    public MonthlyIncomeReport generateMonthlyIncomeSummary(Landlord.LandlordId landlordId, YearMonth yearMonth) {
+        MonthlyIncomeTotalsProjection totals = jpaLeaseRepository.sumMonthlyIncomeByLandlordId(
+                landlordId.value(),
+                yearMonth.atDay(1));
 
-            // Calculate actual payments for this lease in the report month
-            List<Payment> paymentsInMonth = paymentRepository.findByLeaseId(lease.getId().value()).stream()
-                    .filter(payment -> YearMonth.from(payment.getPaymentDate()).equals(yearMonth))
-                    .collect(Collectors.toList());
+        return MonthlyIncomeReport.builder()
+                .reportMonth(yearMonth)
+                .totalExpectedIncome(totals.getTotalExpected())
+                .totalActualIncome(totals.getTotalPaid())
+                .totalOutstandingBalance(totals.getTotalExpected().subtract(totals.getTotalPaid()))
+                .build();
+    }
 
-            BigDecimal paidAmount = paymentsInMonth.stream()
-                    .map(Payment::getAmountPaid)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            totalActualIncome = totalActualIncome.add(paidAmount);
+    // Rows of the monthly income report read through a database cursor.
+    // Must be consumed inside a transaction and closed by the caller.
+    public Stream<MonthlyIncomeReportEntry> streamMonthlyIncomeEntries(Landlord.LandlordId landlordId, YearMonth yearMonth) {
+        return jpaLeaseRepository.streamMonthlyIncomeByLandlordId(
+                        landlordId.value(),
+                        yearMonth.atDay(1))
+                .map(this::toMonthlyIncomeEntry);
+    }
+
+    private MonthlyIncomeReportEntry toMonthlyIncomeEntry(MonthlyIncomeProjection row) {
+        // Calculate expected rent for the month (simplified: assumes full month)
+        BigDecimal expectedRent = row.getExpectedRent();
+        BigDecimal paidAmount = row.getAmountPaid() != null ? row.getAmountPaid() : BigDecimal.ZERO;
+
+        return MonthlyIncomeReportEntry.builder()
+                .leaseId(row.getLeaseId())
+                .tenantName(row.getTenantFirstName() + " " + row.getTenantLastName())
+                .roomNumber(row.getRoomNumber())
+                .houseName(row.getHouseName())
+                .expectedRent(expectedRent)
+                .amountPaid(paidAmount)
+                .balance(expectedRent.subtract(paidAmount))
+                .build();
+    }
+
+    public IncomeRangeReport generateIncomeRangeReport(YearMonth from, YearMonth to) {
+        return generateIncomeRangeReport(getCurrentLandlordId(), from, to);
+    }
+
+    public IncomeRangeReport generateIncomeRangeReport(Landlord.LandlordId landlordId, YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            throw new ValidationException("The end month must not be before the start month.");
+        }
+        if (from.plusMonths(MAX_RANGE_MONTHS).isBefore(to.plusMonths(1))) {
+            throw new ValidationException("An income range report can cover at most " + MAX_RANGE_MONTHS + " months.");
+        }
+        log.info("Generating income range report for landlord {} from {} to {}", landlordId.value(), from, to);
+
+        // One query returns every (lease, month) pair in the range; months and leases are totalled from it
+        List<LeaseMonthIncomeProjection> rows = jpaLeaseRepository.findMonthlyIncomeRangeByLandlordId(
+                landlordId.value(),
+                from.atDay(1),
+                to.atDay(1));
+
+        Map<YearMonth, IncomeRangeMonth> months = new LinkedHashMap<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.put(month, IncomeRangeMonth.builder()
+                    .month(month)
+                    .expectedIncome(BigDecimal.ZERO)
+                    .actualIncome(BigDecimal.ZERO)
+                    .outstandingBalance(BigDecimal.ZERO)
+                    .build());
+        }
+        Map<UUID, IncomeRangeReportEntry> entries = new LinkedHashMap<>();
 
+        for (LeaseMonthIncomeProjection row : rows) {
+            BigDecimal expectedRent = row.getExpectedRent();
+            BigDecimal paidAmount = row.getAmountPaid() != null ? row.getAmountPaid() : BigDecimal.ZERO;
             BigDecimal balance = expectedRent.subtract(paidAmount);
-            totalOutstandingBalance = totalOutstandingBalance.add(balance);
-
-            entries.add(MonthlyIncomeReportEntry.builder()
-                    .leaseId(lease.getId().value())
-                    .tenantName(tenant.getFirstName() + " " + tenant.getLastName())
-                    .roomNumber(room.getRoomNumber())
-                    .houseName(house.getName())
-                    .expectedRent(expectedRent)
-                    .amountPaid(paidAmount)
-                    .balance(balance)
+
+            IncomeRangeMonth month = months.get(YearMonth.from(row.getPeriodStart()));
+            month.setLeaseCount(month.getLeaseCount() + 1);
+            month.setExpectedIncome(month.getExpectedIncome().add(expectedRent));
+            month.setActualIncome(month.getActualIncome().add(paidAmount));
+            month.setOutstandingBalance(month.getOutstandingBalance().add(balance));
+
+            IncomeRangeReportEntry entry = entries.computeIfAbsent(row.getLeaseId(), leaseId -> IncomeRangeReportEntry.builder()
+                    .leaseId(leaseId)
+                    .tenantName(row.getTenantFirstName() + " " + row.getTenantLastName())
+                    .roomNumber(row.getRoomNumber())
+                    .houseName(row.getHouseName())
+                    .expectedRent(BigDecimal.ZERO)
+                    .amountPaid(BigDecimal.ZERO)
+                    .balance(BigDecimal.ZERO)
                     .build());
+            entry.setMonthsBilled(entry.getMonthsBilled() + 1);
+            entry.setExpectedRent(entry.getExpectedRent().add(expectedRent));
+            entry.setAmountPaid(entry.getAmountPaid().add(paidAmount));
+            entry.setBalance(entry.getBalance().add(balance));
         }
 
-        return MonthlyIncomeReport.builder()
-                .reportMonth(yearMonth)
+        BigDecimal totalExpectedIncome = BigDecimal.ZERO;
+        BigDecimal totalActualIncome = BigDecimal.ZERO;
+        BigDecimal totalOutstandingBalance = BigDecimal.ZERO;
+        for (IncomeRangeMonth month : months.values()) {
+            totalExpectedIncome = totalExpectedIncome.add(month.getExpectedIncome());
+            totalActualIncome = totalActualIncome.add(month.getActualIncome());
+            totalOutstandingBalance = totalOutstandingBalance.add(month.getOutstandingBalance());
+        }
+
+        return IncomeRangeReport.builder()
+                .fromMonth(from)
+                .toMonth(to)
                 .totalExpectedIncome(totalExpectedIncome)
                 .totalActualIncome(totalActualIncome)
                 .totalOutstandingBalance(totalOutstandingBalance)
-                .entries(entries)
+                .months(new ArrayList<>(months.values()))
+                .entries(new ArrayList<>(entries.values()))
                 .build();
     }
 
     public VacancyReport generateVacancyReport() {
-        log.info("Generating vacancy report.");
-        Landlord.LandlordId currentLandlordId = getCurrentLandlordId();
-
-        List<VacancyReportEntry> entries = new ArrayList<>();
+        return generateVacancyReport(getCurrentLandlordId());
+    }
 
-        // Get all houses belonging to the current landlord
-        List<House> landlordsHouses = houseRepository.findByLandlordId(currentLandlordId);
-        List<House.HouseId> landlordsHouseIds = landlordsHouses.stream()
-                .map(House::getId)
-                .collect(Collectors.toList());
+    public VacancyReport generateVacancyReport(Landlord.LandlordId landlordId) {
+        log.info("Generating vacancy report for landlord {}.", landlordId.value());
 
-        // Find vacant rooms only within these houses
-        List<Room> vacantRooms = roomRepository.findAll().stream()
-                .filter(room -> room.getStatus() == RoomStatus.VACANT && landlordsHouseIds.contains(room.getHouseId()))
+        // Vacant rooms of this landlord's houses only, with house name/id joined in
+        List<VacancyReportEntry> entries = jpaRoomRepository
+                .findRoomsWithHouseByLandlordIdAndStatus(landlordId.value(), RoomStatus.VACANT).stream()
+                .map(this::toVacancyEntry)
                 .collect(Collectors.toList());
 
-        for (Room room : vacantRooms) {
-            House house = houseRepository.findById(room.getHouseId()).orElse(null);
-            if (house == null) {
-                log.warn("Skipping vacant room {} due to missing house {}.", room.getId().value(), room.getHouseId().value());
-                continue;
-            }
-
-            entries.add(VacancyReportEntry.builder()
-                    .roomId(room.getId().value())
-                    .roomNumber(room.getRoomNumber())
-                    .houseName(house.getName())
-                    .houseId(house.getId().value())
-                    .roomDescription(room.getDescription())
-                    .build());
-        }
-
         return VacancyReport.builder()
                 .reportDate(LocalDate.now())
                 .totalVacantRooms(entries.size())
                 .entries(entries)
                 .build();
     }
-}
\ No newline at end of file
+
+    // Totals only (entries left null), for streamed exports
+    public VacancyReport generateVacancySummary(Landlord.LandlordId landlordId) {
+        long vacantRooms = jpaRoomRepository.countByHouseLandlordIdAndStatus(landlordId.value(), RoomStatus.VACANT);
+        return VacancyReport.builder()
+                .reportDate(LocalDate.now())
+                .totalVacantRooms((int) vacantRooms)
+                .build();
+    }
+
+    // Must be consumed inside a transaction and closed by the caller
+    public Stream<VacancyReportEntry> streamVacancyEntries(Landlord.LandlordId landlordId) {
+        return jpaRoomRepository.streamRoomsWithHouseByLandlordIdAndStatus(landlordId.value(), RoomStatus.VACANT)
+                .map(this::toVacancyEntry);
+    }
+
+    private VacancyReportEntry toVacancyEntry(VacantRoomProjection row) {
+        return VacancyReportEntry.builder()
+                .roomId(row.getRoomId())
+                .roomNumber(row.getRoomNumber())
+                .houseName(row.getHouseName())
+                .houseId(row.getHouseId())
+                .roomDescription(row.getRoomDescription())
+                .build();
+    }
+
+    // Streamed exports call this before the response is committed, so a bad range still gets a 400
+    public void validatePaymentHistoryRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new ValidationException("The end date must not be before the start date.");
+        }
+    }
+
+    // Must be consumed inside a transaction and closed by the caller
+    public Stream<PaymentHistoryEntry> streamPaymentHistory(Landlord.LandlordId landlordId, LocalDate from, LocalDate to) {
+        validatePaymentHistoryRange(from, to);
+        return jpaPaymentRepository.streamPaymentHistoryByLandlordId(landlordId.value(), from, to)
+                .map(this::toPaymentHistoryEntry);
+    }
+
+    private PaymentHistoryEntry toPaymentHistoryEntry(PaymentHistoryProjection row) {
+        return PaymentHistoryEntry.builder()
+                .paymentId(row.getPaymentId())
+                .leaseId(row.getLeaseId())
+                .tenantName(row.getTenantFirstName() + " " + row.getTenantLastName())
+                .roomNumber(row.getRoomNumber())
+                .houseName(row.getHouseName())
+                .amountPaid(row.getAmountPaid())
+                .paymentDate(row.getPaymentDate())
+                .status(row.getStatus())
+                .transactionReference(row.getTransactionReference())
+                .build();
+    }
+}
@@ -1,29 +1,47 @@
 package com.tz.rental.landlord_management.application.service;
 
 import com.tz.rental.landlord_management.application.dto.CreateRoomRequest;
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.RoomResponse;
 import com.tz.rental.landlord_management.application.dto.UpdateRoomStatusRequest;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
 import com.tz.rental.landlord_management.domain.exception.NotFoundException;
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
 import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.service.Ids;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.RoomEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.KeysetQueries;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RoomService {
 
     private static final String ROOM_NOT_FOUND_MSG = "Room not found with ID: ";
+    private static final Set<String> SORTABLE_FIELDS = Set.of("roomNumber", "monthlyRent", "status", "createdAt");
+    private static final Sort DEFAULT_SORT = Sort.by("roomNumber");
     private final JpaRoomRepository roomRepository;
     private final JpaHouseRepository houseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public RoomResponse createRoom(CreateRoomRequest request) {
@@ -33,13 +51,14 @@ public class RoomService {
         // TODO: Check if room number is unique within the house
 
         RoomEntity roomEntity = new RoomEntity();
-        roomEntity.setId(UUID.randomUUID());
+        roomEntity.setId(Ids.next());
         roomEntity.setHouse(houseEntity);
         roomEntity.setStatus(RoomStatus.VACANT);
         // Map request to entity
         mapRequestToEntity(request, roomEntity);
 
         RoomEntity savedRoom = roomRepository.save(roomEntity);
+        afterRoomWrite(savedRoom);
         return mapEntityToResponse(savedRoom);
     }
 
@@ -51,20 +70,23 @@ public class RoomService {
     }
 
     @Transactional(readOnly = true)
-    public List<RoomResponse> getAllRoomsForHouse(UUID houseId, RoomStatus status) {
-        HouseEntity houseEntity = houseRepository.findById(houseId)
-                .orElseThrow(() -> new NotFoundException("House not found with ID: " + houseId));
-
-        List<RoomEntity> rooms;
-        if (status != null) {
-            rooms = roomRepository.findByHouseAndStatus(houseEntity, status);
-        } else {
-            rooms = roomRepository.findByHouse(houseEntity);
-        }
+    public PaginatedResponse<List<RoomResponse>> getAllRoomsForHouse(UUID houseId, RoomStatus status, BigDecimal minRent,
+                                                                     BigDecimal maxRent, Pageable pageable, boolean includeImages) {
+        Pageable page = PageRequests.bounded(pageable, SORTABLE_FIELDS, DEFAULT_SORT);
+        Specification<RoomEntity> spec = roomSpecification(houseId, status, minRent, maxRent);
+        return PageRequests.toResponse(roomRepository.findAll(spec, page).map(room -> mapEntityToResponse(room, includeImages)));
+    }
 
-        return rooms.stream()
-                .map(this::mapEntityToResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<List<RoomResponse>> getRoomsForHouseByCursor(UUID houseId, RoomStatus status, BigDecimal minRent,
+                                                                              BigDecimal maxRent, String cursor, int limit,
+                                                                              boolean includeTotal, boolean includeImages) {
+        KeysetRequest request = KeysetCursors.decode(cursor, limit);
+        Specification<RoomEntity> spec = roomSpecification(houseId, status, minRent, maxRent);
+        Long totalItems = includeTotal ? roomRepository.count(spec) : null;
+
+        return KeysetCursors.toResponse(KeysetQueries.fetch(roomRepository, spec, request).map(room -> mapEntityToResponse(room, includeImages)),
+                limit, totalItems, RoomResponse::getCreatedAt, RoomResponse::getId);
     }
 
     @Transactional
@@ -74,6 +96,7 @@ public class RoomService {
 
         mapRequestToEntity(request, roomEntity);
         RoomEntity updatedRoom = roomRepository.save(roomEntity);
+        afterRoomWrite(updatedRoom);
         return mapEntityToResponse(updatedRoom);
     }
 
@@ -84,6 +107,7 @@ public class RoomService {
 
         roomEntity.setStatus(request.getStatus());
         RoomEntity updatedRoom = roomRepository.save(roomEntity);
+        afterRoomWrite(updatedRoom);
         return mapEntityToResponse(updatedRoom);
     }
 
@@ -92,6 +116,37 @@ public class RoomService {
         RoomEntity roomEntity = roomRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(ROOM_NOT_FOUND_MSG + id));
         roomRepository.delete(roomEntity);
+        afterRoomWrite(roomEntity);
+    }
+
+    private Specification<RoomEntity> roomSpecification(UUID houseId, RoomStatus status, BigDecimal minRent, BigDecimal maxRent) {
+        if (!houseRepository.existsById(houseId)) {
+            throw new NotFoundException("House not found with ID: " + houseId);
+        }
+        if (minRent != null && maxRent != null && minRent.compareTo(maxRent) > 0) {
+            throw new ValidationException("minRent must not be greater than maxRent.");
+        }
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("house").get("id"), houseId));
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (minRent != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("monthlyRent"), minRent));
+            }
+            if (maxRent != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("monthlyRent"), maxRent));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // Keeps the house's stored room stats in step and tells listeners the landlord's figures moved
+    private void afterRoomWrite(RoomEntity room) {
+        houseRepository.recalculateRoomStats(room.getHouse().getId(), RoomStatus.VACANT, RoomStatus.OCCUPIED);
+        Landlord.LandlordId landlordId = new Landlord.LandlordId(room.getHouse().getLandlord().getId());
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(landlordId, LandlordDataChangedEvent.Source.ROOM));
     }
 
     private void mapRequestToEntity(CreateRoomRequest request, RoomEntity entity) {
@@ -103,6 +158,11 @@ public class RoomService {
     }
 
     private RoomResponse mapEntityToResponse(RoomEntity entity) {
+        return mapEntityToResponse(entity, true);
+    }
+
+    // Touching imageUrls loads them, so list pages only do it when the client asked for images
+    private RoomResponse mapEntityToResponse(RoomEntity entity, boolean includeImages) {
         return RoomResponse.builder()
                 .id(entity.getId())
                 .houseId(entity.getHouse().getId())
@@ -111,7 +171,7 @@ public class RoomService {
                 .monthlyRent(entity.getMonthlyRent())
                 .size(entity.getSize())
                 .status(entity.getStatus())
-                .imageUrls(entity.getImageUrls())
+                .imageUrls(includeImages && entity.getImageUrls() != null ? new ArrayList<>(entity.getImageUrls()) : null)
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .house(RoomResponse.HouseSummary.builder()
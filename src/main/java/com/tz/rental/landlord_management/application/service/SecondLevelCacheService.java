@@ -0,0 +1,44 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.CacheRegionStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class SecondLevelCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Entity, natural-id and query result regions; counts stay at zero unless hibernate.generate_statistics is on
+    public List<CacheRegionStatsResponse> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toResponse(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private CacheRegionStatsResponse toResponse(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return null;
+        }
+        long lookups = stats.getHitCount() + stats.getMissCount();
+        return CacheRegionStatsResponse.builder()
+                .region(region)
+                .hitCount(stats.getHitCount())
+                .missCount(stats.getMissCount())
+                .putCount(stats.getPutCount())
+                .hitRatio(lookups == 0 ? 0.0 : (double) stats.getHitCount() / lookups)
+                .build();
+    }
+}
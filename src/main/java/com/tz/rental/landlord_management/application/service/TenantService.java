@@ -1,39 +1,50 @@
 package com.tz.rental.landlord_management.application.service;
 
 import com.tz.rental.landlord_management.application.dto.CreateTenantRequest;
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.TenantResponse;
 import com.tz.rental.landlord_management.domain.exception.AlreadyExistsException; // Added import
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
 import com.tz.rental.landlord_management.domain.exception.NotFoundException;
 import com.tz.rental.landlord_management.domain.exception.UnauthorizedException;
 import com.tz.rental.landlord_management.domain.model.aggregate.House;
 import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
-import com.tz.rental.landlord_management.domain.model.aggregate.Lease;
 import com.tz.rental.landlord_management.domain.model.aggregate.Room;
 import com.tz.rental.landlord_management.domain.model.aggregate.Tenant;
 import com.tz.rental.landlord_management.domain.model.valueobject.LeaseStatus;
 import com.tz.rental.landlord_management.domain.repository.HouseRepository;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
 import com.tz.rental.landlord_management.domain.repository.LeaseRepository;
 import com.tz.rental.landlord_management.domain.repository.RoomRepository;
+import com.tz.rental.landlord_management.domain.repository.TenantFilter;
 import com.tz.rental.landlord_management.domain.repository.TenantRepository;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TenantService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("firstName", "lastName", "createdAt");
+    private static final Sort DEFAULT_SORT = Sort.by("lastName", "firstName");
+
     private final TenantRepository tenantRepository;
     private final LeaseRepository leaseRepository; // Added for authorization
     private final RoomRepository roomRepository; // Added for authorization
     private final HouseRepository houseRepository; // Added for authorization
     private final TenantMapper applicationTenantMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Landlord.LandlordId getCurrentLandlordId() {
         UserEntity currentUser = (UserEntity) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -88,6 +99,7 @@ public class TenantService {
         }
 
         Tenant savedTenant = tenantRepository.save(tenant);
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(getCurrentLandlordId(), LandlordDataChangedEvent.Source.TENANT));
         return applicationTenantMapper.toResponse(savedTenant);
     }
 
@@ -99,22 +111,23 @@ public class TenantService {
         return applicationTenantMapper.toResponse(tenant);
     }
 
+    // Tenants registered under the current landlord, filtered and paged in the database
+    @Transactional(readOnly = true)
+    public PaginatedResponse<List<TenantResponse>> getAllTenants(TenantFilter filter, Pageable pageable) {
+        Landlord.LandlordId currentLandlordId = getCurrentLandlordId();
+        return PageRequests.toResponse(tenantRepository
+                .findByLandlordId(currentLandlordId, filter, PageRequests.toPageQuery(pageable, SORTABLE_FIELDS, DEFAULT_SORT))
+                .map(applicationTenantMapper::toResponse));
+    }
+
     @Transactional(readOnly = true)
-    public List<TenantResponse> getAllTenants() {
+    public CursorPaginatedResponse<List<TenantResponse>> getTenantsByCursor(TenantFilter filter, String cursor, int limit, boolean includeTotal) {
+        KeysetRequest request = KeysetCursors.decode(cursor, limit);
         Landlord.LandlordId currentLandlordId = getCurrentLandlordId();
-        // Find all leases belonging to the current landlord
-        List<Lease> landlordsLeases = leaseRepository.findByLandlordId(currentLandlordId);
-
-        // Extract unique tenant IDs from these leases
-        List<UUID> tenantIds = landlordsLeases.stream()
-                .map(lease -> lease.getTenantId().value())
-                .distinct()
-                .collect(Collectors.toList());
-
-        // Fetch tenants by these IDs
-        return tenantRepository.findAllById(tenantIds).stream()
-                .map(applicationTenantMapper::toResponse)
-                .collect(Collectors.toList());
+        Long totalItems = includeTotal ? tenantRepository.countByLandlordId(currentLandlordId, filter) : null;
+
+        return KeysetCursors.toResponse(tenantRepository.findByLandlordId(currentLandlordId, filter, request).map(applicationTenantMapper::toResponse),
+                limit, totalItems, TenantResponse::getCreatedAt, TenantResponse::getId);
     }
 
     @Transactional
@@ -135,6 +148,7 @@ public class TenantService {
         }
 
         Tenant updatedTenant = tenantRepository.save(tenant);
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(getCurrentLandlordId(), LandlordDataChangedEvent.Source.TENANT));
         return applicationTenantMapper.toResponse(updatedTenant);
     }
 
@@ -145,5 +159,6 @@ public class TenantService {
         authorizeLandlordForTenant(id); // Security check
         tenant.deactivate(); // Soft delete
         tenantRepository.save(tenant);
+        eventPublisher.publishEvent(new LandlordDataChangedEvent(getCurrentLandlordId(), LandlordDataChangedEvent.Source.TENANT));
     }
 }
\ No newline at end of file
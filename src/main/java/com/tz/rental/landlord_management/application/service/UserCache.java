@@ -0,0 +1,76 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.tz.rental.landlord_management.domain.event.UserSecurityChangedEvent;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.NaturalIdRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+// Users loaded for requests whose token carries no principal claims, and each user's token cut-off. The
+// cut-off is persisted on the user (tokens_valid_after) by password resets, deactivation and deletion, so it
+// survives restarts and applies on every node; this class only caches it. An evicted or expired entry is read
+// again from the database, never treated as "not revoked". Both caches are dropped once a change commits
+// here; other nodes pick it up within the cut-off TTL.
+@Service
+@Slf4j
+public class UserCache {
+
+    private static final long MAX_CACHED_USERS = 10_000;
+    private static final Duration USER_TTL = Duration.ofMinutes(10);
+    // Stored for users that never had their tokens revoked, and for users that no longer exist
+    private static final Instant NO_CUTOFF = Instant.MIN;
+    private static final Instant ALL_TOKENS_REVOKED = Instant.MAX;
+
+    private final NaturalIdRepository naturalIdRepository;
+    private final JpaUserRepository userRepository;
+    private final Cache<String, UserEntity> users = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_USERS)
+            .expireAfterWrite(USER_TTL)
+            .build();
+    private final LoadingCache<String, Instant> tokensValidAfter;
+
+    public UserCache(NaturalIdRepository naturalIdRepository,
+                     JpaUserRepository userRepository,
+                     @Value("${app.security.token-cutoff-cache-ttl:PT1M}") Duration cutoffTtl) {
+        this.naturalIdRepository = naturalIdRepository;
+        this.userRepository = userRepository;
+        this.tokensValidAfter = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_USERS)
+                .expireAfterWrite(cutoffTtl)
+                .build(this::loadTokensValidAfter);
+    }
+
+    public UserEntity getUser(String username) {
+        return users.get(username, name -> naturalIdRepository.findBySimpleNaturalId(UserEntity.class, name)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + name)));
+    }
+
+    public boolean isTokenRevoked(String username, Date issuedAt) {
+        Instant cutoff = tokensValidAfter.get(username);
+        return !NO_CUTOFF.equals(cutoff) && (issuedAt == null || !issuedAt.toInstant().isAfter(cutoff));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        tokensValidAfter.invalidate(event.username());
+        users.invalidate(event.username());
+        log.info("Revoked tokens of user {} after {}", event.username(), event.reason());
+    }
+
+    private Instant loadTokensValidAfter(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> user.getTokensValidAfter() != null ? user.getTokensValidAfter() : NO_CUTOFF)
+                .orElse(ALL_TOKENS_REVOKED);
+    }
+}
@@ -1,6 +1,7 @@
 package com.tz.rental.landlord_management.application.service;
 
-import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaUserRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.NaturalIdRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -11,11 +12,12 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
-    private final JpaUserRepository userRepository;
+    // Called for every authenticated request; served from the second-level cache after the first hit
+    private final NaturalIdRepository naturalIdRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
+        return naturalIdRepository.findBySimpleNaturalId(UserEntity.class, username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
 }
\ No newline at end of file
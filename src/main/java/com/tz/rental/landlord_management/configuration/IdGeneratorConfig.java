@@ -0,0 +1,23 @@
+package com.tz.rental.landlord_management.configuration;
+
+import com.tz.rental.landlord_management.domain.service.IdGenerator;
+import com.tz.rental.landlord_management.domain.service.Ids;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Picks the id generator behind Ids: "v7" (time-ordered, the default) or "random" (UUIDv4)
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${app.ids.generator:v7}") String generator) {
+        IdGenerator idGenerator = switch (generator) {
+            case "v7" -> IdGenerator.timeOrdered();
+            case "random" -> IdGenerator.random();
+            default -> throw new IllegalStateException("Unknown app.ids.generator '" + generator + "', expected v7 or random");
+        };
+        Ids.use(idGenerator);
+        return idGenerator;
+    }
+}
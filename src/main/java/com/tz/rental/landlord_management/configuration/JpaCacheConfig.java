@@ -0,0 +1,53 @@
+package com.tz.rental.landlord_management.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+// Builds the JCache manager behind Hibernate's second-level cache, with one bounded Caffeine cache per region.
+// Reference data (users, landlords, templates) changes rarely and keeps longer; houses carry room stats moved
+// by bulk updates, which Hibernate evicts from the region, so the TTL there is only a safety net.
+@Configuration
+public class JpaCacheConfig {
+
+    private static final List<Region> REGIONS = List.of(
+            new Region(CacheRegions.USERS, 10_000, Duration.ofHours(1)),
+            new Region(CacheRegions.USERS_BY_USERNAME, 10_000, Duration.ofHours(1)),
+            new Region(CacheRegions.LANDLORDS, 10_000, Duration.ofHours(1)),
+            new Region(CacheRegions.HOUSES, 50_000, Duration.ofMinutes(30)),
+            new Region(CacheRegions.HOUSES_BY_PROPERTY_CODE, 50_000, Duration.ofMinutes(30)),
+            new Region(CacheRegions.CONTRACT_TEMPLATES, 1_000, Duration.ofHours(6)),
+            new Region(CacheRegions.QUERY_RESULTS, 10_000, Duration.ofMinutes(10)));
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jpaCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        for (Region region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maxSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.ttl().toNanos()));
+            cacheManager.createCache(region.name(), configuration);
+        }
+        // Update timestamps decide whether cached query results are stale, so they must never be evicted
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaCacheManagerCustomizer(CacheManager jpaCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, jpaCacheManager);
+    }
+
+    private record Region(String name, long maxSize, Duration ttl) {
+    }
+}
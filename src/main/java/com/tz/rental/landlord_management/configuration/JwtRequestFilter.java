@@ -1,7 +1,8 @@
 package com.tz.rental.landlord_management.configuration;
 
-import com.tz.rental.landlord_management.application.service.UserDetailsServiceImpl;
 import com.tz.rental.landlord_management.application.service.JwtUtil;
+import com.tz.rental.landlord_management.application.service.UserCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +21,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
 
-    private final UserDetailsServiceImpl userDetailsService;
+    private final UserCache userCache;
     private final JwtUtil jwtUtil;
 
     @Override
@@ -29,26 +30,24 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        Claims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
+            claims = jwtUtil.extractAllClaims(authorizationHeader.substring(7));
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                usernamePasswordAuthenticationToken
-                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-            }
+        if (claims != null && claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !userCache.isTokenRevoked(claims.getSubject(), claims.getIssuedAt())) {
+
+            // The principal comes from the verified claims; only older tokens without them need the stored user
+            final String username = claims.getSubject();
+            UserDetails userDetails = jwtUtil.buildPrincipal(claims)
+                    .orElseGet(() -> userCache.getUser(username));
+            UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities());
+            usernamePasswordAuthenticationToken
+                    .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
         }
         chain.doFilter(request, response);
     }
@@ -0,0 +1,11 @@
+package com.tz.rental.landlord_management.domain.event;
+
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+
+// Published after a write that can change a landlord's dashboard figures
+public record LandlordDataChangedEvent(Landlord.LandlordId landlordId, Source source) {
+
+    public enum Source {
+        HOUSE, ROOM, TENANT, LEASE, PAYMENT
+    }
+}
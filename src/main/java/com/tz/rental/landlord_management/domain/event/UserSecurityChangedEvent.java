@@ -0,0 +1,9 @@
+package com.tz.rental.landlord_management.domain.event;
+
+// Published after a write that must invalidate the tokens already issued to a user
+public record UserSecurityChangedEvent(String username, Reason reason) {
+
+    public enum Reason {
+        PASSWORD_RESET, DEACTIVATED, ROLE_CHANGED, DELETED
+    }
+}
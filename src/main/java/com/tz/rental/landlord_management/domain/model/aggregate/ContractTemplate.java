@@ -1,5 +1,6 @@
 package com.tz.rental.landlord_management.domain.model.aggregate;
 
+import com.tz.rental.landlord_management.domain.service.Ids;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -36,7 +37,7 @@ public class ContractTemplate {
     }
 
     public static ContractTemplate create(String name, String content, String description) {
-        return new ContractTemplate(new ContractTemplateId(UUID.randomUUID()), name, content, description);
+        return new ContractTemplate(new ContractTemplateId(Ids.next()), name, content, description);
     }
 
     public void updateDetails(String name, String content, String description) {
@@ -1,6 +1,7 @@
 package com.tz.rental.landlord_management.domain.model.aggregate;
 
 import com.tz.rental.landlord_management.domain.model.valueobject.Address;
+import com.tz.rental.landlord_management.domain.service.Ids;
 import lombok.Getter;
 
 import java.math.BigDecimal;
@@ -59,7 +60,7 @@ public class House {
 
     // Factory method for creating new houses
     public static House create(String propertyCode, String name, HouseType houseType, Landlord.LandlordId landlordId, Address address) {
-        House house = new House(new HouseId(UUID.randomUUID()), landlordId, LocalDateTime.now());
+        House house = new House(new HouseId(Ids.next()), landlordId, LocalDateTime.now());
         house.propertyCode = propertyCode;
         house.name = name;
         house.houseType = houseType;
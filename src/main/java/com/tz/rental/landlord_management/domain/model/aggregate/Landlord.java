@@ -3,6 +3,7 @@ package com.tz.rental.landlord_management.domain.model.aggregate;
 import com.tz.rental.landlord_management.domain.exception.ValidationException;
 import com.tz.rental.landlord_management.domain.model.valueobject.Email;
 import com.tz.rental.landlord_management.domain.model.valueobject.PhoneNumber;
+import com.tz.rental.landlord_management.domain.service.Ids;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -50,7 +51,7 @@ public class Landlord {
     // Factory method - main way to create landlords
     public static Landlord create(String firstName, String lastName,
                                   String email, String phoneNumber) {
-        LandlordId id = new LandlordId(UUID.randomUUID());
+        LandlordId id = new LandlordId(Ids.next());
         Email emailVO = new Email(email);
         PhoneNumber phoneVO = new PhoneNumber(phoneNumber);
         LocalDateTime now = LocalDateTime.now();
@@ -1,7 +1,9 @@
 package com.tz.rental.landlord_management.domain.model.aggregate;
 
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
 import com.tz.rental.landlord_management.domain.model.valueobject.LeaseStatus;
 import com.tz.rental.landlord_management.domain.model.valueobject.PaymentPeriod;
+import com.tz.rental.landlord_management.domain.service.Ids;
 import lombok.Getter;
 
 import java.math.BigDecimal;
@@ -55,7 +57,7 @@ public class Lease {
     public static Lease create(Tenant.TenantId tenantId, Room.RoomId roomId,
                                LocalDate startDate, LocalDate endDate,
                                BigDecimal rentAmount, PaymentPeriod paymentPeriod) {
-        LeaseId id = new LeaseId(UUID.randomUUID());
+        LeaseId id = new LeaseId(Ids.next());
         LeaseStatus initialStatus = determineInitialStatus(startDate);
         LocalDateTime now = LocalDateTime.now();
 
@@ -79,7 +81,7 @@ public class Lease {
 
     public void terminate(LocalDate terminationDate) {
         if (status != LeaseStatus.ACTIVE) {
-            throw new IllegalStateException("Only active leases can be terminated.");
+            throw new ValidationException("Only active leases can be terminated.");
         }
         if (terminationDate.isAfter(this.endDate) || terminationDate.isBefore(this.startDate)) {
             throw new IllegalArgumentException("Termination date must be within the lease period.");
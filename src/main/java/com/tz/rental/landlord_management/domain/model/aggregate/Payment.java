@@ -1,6 +1,7 @@
 package com.tz.rental.landlord_management.domain.model.aggregate;
 
 import com.tz.rental.landlord_management.domain.model.valueobject.PaymentStatus;
+import com.tz.rental.landlord_management.domain.service.Ids;
 import lombok.Getter;
 
 import java.math.BigDecimal;
@@ -40,8 +41,29 @@ public class Payment {
         validate();
     }
 
+    private Payment(PaymentId id, Lease.LeaseId leaseId, BigDecimal amountPaid, LocalDate paymentDate, String transactionReference,
+                    PaymentStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.leaseId = leaseId;
+        this.amountPaid = amountPaid;
+        this.paymentDate = paymentDate;
+        this.transactionReference = transactionReference;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        validate();
+    }
+
     public static Payment create(Lease.LeaseId leaseId, BigDecimal amountPaid, LocalDate paymentDate, String transactionReference) {
-        return new Payment(new PaymentId(UUID.randomUUID()), leaseId, amountPaid, paymentDate, transactionReference);
+        return new Payment(new PaymentId(Ids.next()), leaseId, amountPaid, paymentDate, transactionReference);
+    }
+
+    // Factory method for existing payments (from database)
+    public static Payment fromExisting(UUID id, UUID leaseId, BigDecimal amountPaid, LocalDate paymentDate,
+                                       String transactionReference, PaymentStatus status,
+                                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Payment(new PaymentId(id), new Lease.LeaseId(leaseId), amountPaid, paymentDate,
+                transactionReference, status, createdAt, updatedAt);
     }
 
     public void updatePayment(BigDecimal newAmountPaid, LocalDate newPaymentDate, String newTransactionReference, PaymentStatus newStatus) {
@@ -1,6 +1,7 @@
 package com.tz.rental.landlord_management.domain.model.aggregate;
 
 import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
+import com.tz.rental.landlord_management.domain.service.Ids;
 import lombok.Getter;
 
 import java.math.BigDecimal;
@@ -47,7 +48,7 @@ public class Room {
     // Factory method - main way to create rooms
     public static Room create(House.HouseId houseId, String roomNumber, BigDecimal monthlyRent, String description) {
         return new Room(
-                new RoomId(UUID.randomUUID()),
+                new RoomId(Ids.next()),
                 houseId,
                 roomNumber,
                 monthlyRent,
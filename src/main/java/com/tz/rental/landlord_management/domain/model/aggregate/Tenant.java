@@ -2,6 +2,7 @@ package com.tz.rental.landlord_management.domain.model.aggregate;
 
 import com.tz.rental.landlord_management.domain.model.valueobject.Email;
 import com.tz.rental.landlord_management.domain.model.valueobject.PhoneNumber;
+import com.tz.rental.landlord_management.domain.service.Ids;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -50,7 +51,7 @@ public class Tenant {
     // Factory method - main way to create new tenants
     public static Tenant create(String firstName, String lastName, String email, String phoneNumber, String nationalId) {
         return new Tenant(
-                new TenantId(UUID.randomUUID()),
+                new TenantId(Ids.next()),
                 firstName,
                 lastName,
                 new Email(email),
@@ -0,0 +1,17 @@
+package com.tz.rental.landlord_management.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One page of a keyset (seek) listing ordered by (createdAt, id). The position is the last row the client
+// saw, or the first one when paging backward; no position means the first page.
+public record KeysetRequest(LocalDateTime createdAt, UUID id, boolean backward, int limit) {
+
+    public static KeysetRequest first(int limit) {
+        return new KeysetRequest(null, null, false, limit);
+    }
+
+    public boolean isFirstPage() {
+        return createdAt == null || id == null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.tz.rental.landlord_management.domain.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Rows of a keyset page in ascending (createdAt, id) order, without a total count
+public record KeysetSlice<T>(List<T> items, boolean hasPrevious, boolean hasNext) {
+
+    public <R> KeysetSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream().<R>map(mapper).toList();
+        return new KeysetSlice<>(mapped, hasPrevious, hasNext);
+    }
+}
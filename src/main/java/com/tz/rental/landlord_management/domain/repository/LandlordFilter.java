@@ -0,0 +1,5 @@
+package com.tz.rental.landlord_management.domain.repository;
+
+// Optional criteria for landlord listings; a null field does not filter
+public record LandlordFilter(Boolean active, String search) {
+}
@@ -13,5 +13,6 @@ public interface LandlordRepository {
     Optional<Landlord> findByEmail(Email email);
     Optional<Landlord> findByPhoneNumber(PhoneNumber phoneNumber);
     List<Landlord> findAll();
+    PageResult<Landlord> findAll(LandlordFilter filter, PageQuery query);
     void delete(Landlord.LandlordId id);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.tz.rental.landlord_management.domain.repository;
+
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.model.valueobject.LeaseStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Optional criteria for lease listings; a null field does not filter and ranges are inclusive
+public record LeaseFilter(LeaseStatus status, LocalDate startFrom, LocalDate startTo, BigDecimal minRent, BigDecimal maxRent) {
+
+    public LeaseFilter {
+        if (startFrom != null && startTo != null && startFrom.isAfter(startTo)) {
+            throw new ValidationException("startFrom must not be after startTo.");
+        }
+        if (minRent != null && maxRent != null && minRent.compareTo(maxRent) > 0) {
+            throw new ValidationException("minRent must not be greater than maxRent.");
+        }
+    }
+}
@@ -14,6 +14,9 @@ public interface LeaseRepository {
     List<Lease> findAll();
     List<Lease> findByTenantId(UUID tenantId);
     List<Lease> findByLandlordId(Landlord.LandlordId landlordId);
+    PageResult<Lease> findByLandlordId(Landlord.LandlordId landlordId, LeaseFilter filter, PageQuery query);
+    KeysetSlice<Lease> findByLandlordId(Landlord.LandlordId landlordId, LeaseFilter filter, KeysetRequest request);
+    long countByLandlordId(Landlord.LandlordId landlordId, LeaseFilter filter);
     long countActiveByLandlordId(Landlord.LandlordId landlordId); // New method
     Optional<Lease> findByRoomIdAndStatus(UUID roomId, String status);
     boolean isRoomOccupied(UUID roomId);
@@ -0,0 +1,10 @@
+package com.tz.rental.landlord_management.domain.repository;
+
+import java.util.List;
+
+// One page of an offset listing. Sort properties are attribute names the caller has already checked.
+public record PageQuery(int page, int size, List<Order> orders) {
+
+    public record Order(String property, boolean ascending) {
+    }
+}
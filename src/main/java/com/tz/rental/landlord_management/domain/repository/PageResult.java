@@ -0,0 +1,16 @@
+package com.tz.rental.landlord_management.domain.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record PageResult<T>(List<T> items, int page, int size, long totalItems) {
+
+    public int totalPages() {
+        return size == 0 ? 1 : (int) Math.ceil((double) totalItems / size);
+    }
+
+    public <R> PageResult<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream().<R>map(mapper).toList();
+        return new PageResult<>(mapped, page, size, totalItems);
+    }
+}
@@ -0,0 +1,20 @@
+package com.tz.rental.landlord_management.domain.repository;
+
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.model.valueobject.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Optional criteria for payment listings; a null field does not filter and ranges are inclusive
+public record PaymentFilter(PaymentStatus status, LocalDate paidFrom, LocalDate paidTo, BigDecimal minAmount, BigDecimal maxAmount) {
+
+    public PaymentFilter {
+        if (paidFrom != null && paidTo != null && paidFrom.isAfter(paidTo)) {
+            throw new ValidationException("paidFrom must not be after paidTo.");
+        }
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new ValidationException("minAmount must not be greater than maxAmount.");
+        }
+    }
+}
@@ -12,6 +12,9 @@ public interface PaymentRepository {
     Payment save(Payment payment);
     Optional<Payment> findById(UUID id);
     List<Payment> findByLeaseId(UUID leaseId);
+    PageResult<Payment> findByLeaseId(UUID leaseId, PaymentFilter filter, PageQuery query);
+    KeysetSlice<Payment> findByLeaseId(UUID leaseId, PaymentFilter filter, KeysetRequest request);
+    long countByLeaseId(UUID leaseId, PaymentFilter filter);
     BigDecimal sumAmountByLeaseIdInAndPaymentDateBetween(List<UUID> leaseIds, LocalDate start, LocalDate end); // New method
     void deleteById(UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.tz.rental.landlord_management.domain.repository;
+
+// Optional criteria for tenant listings; a null field does not filter
+public record TenantFilter(Boolean active, String search) {
+}
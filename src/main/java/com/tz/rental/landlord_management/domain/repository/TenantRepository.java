@@ -1,5 +1,6 @@
 package com.tz.rental.landlord_management.domain.repository;
 
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
 import com.tz.rental.landlord_management.domain.model.aggregate.Tenant;
 
 import java.util.List;
@@ -11,6 +12,9 @@ public interface TenantRepository {
     Optional<Tenant> findById(UUID id);
     List<Tenant> findAll();
     List<Tenant> findAllById(List<UUID> ids); // Added this method
+    PageResult<Tenant> findByLandlordId(Landlord.LandlordId landlordId, TenantFilter filter, PageQuery query);
+    KeysetSlice<Tenant> findByLandlordId(Landlord.LandlordId landlordId, TenantFilter filter, KeysetRequest request);
+    long countByLandlordId(Landlord.LandlordId landlordId, TenantFilter filter);
     void deleteById(UUID id);
     boolean existsByEmail(String email);
     boolean existsByPhoneNumber(String phoneNumber);
@@ -0,0 +1,19 @@
+package com.tz.rental.landlord_management.domain.service;
+
+import java.util.UUID;
+
+// Source of new aggregate and row ids; the active one is reached through Ids
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID nextId();
+
+    // Time-ordered ids: consecutive inserts land next to each other in the primary key index
+    static IdGenerator timeOrdered() {
+        return new UuidV7Generator();
+    }
+
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+}
@@ -0,0 +1,22 @@
+package com.tz.rental.landlord_management.domain.service;
+
+import java.util.Objects;
+import java.util.UUID;
+
+// Entry point for new ids in domain factories and services. Defaults to UUIDv7; IdGeneratorConfig installs
+// the generator chosen by app.ids.generator at startup.
+public final class Ids {
+
+    private static volatile IdGenerator generator = IdGenerator.timeOrdered();
+
+    private Ids() {
+    }
+
+    public static UUID next() {
+        return generator.nextId();
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator, "idGenerator");
+    }
+}
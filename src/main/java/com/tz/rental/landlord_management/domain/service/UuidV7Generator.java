@@ -0,0 +1,57 @@
+package com.tz.rental.landlord_management.domain.service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+// RFC 9562 version 7 UUIDs: 48-bit Unix milliseconds, then a 12-bit counter in rand_a and 62 random bits.
+// Ids from one generator are strictly increasing: within a millisecond, or while the clock is behind the
+// last id, the counter moves on; when it runs out the timestamp is advanced by one.
+public class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long MAX_COUNTER = (1L << COUNTER_BITS) - 1;
+    // A fresh millisecond starts the counter in its lower half, leaving room for a burst
+    private static final long COUNTER_SEED_BOUND = 1L << (COUNTER_BITS - 1);
+
+    private final LongSupplier clock;
+    // ThreadLocalRandom is bound to the calling thread, so it is looked up per id
+    private final Supplier<RandomGenerator> random;
+
+    private long lastMillis = -1;
+    private long counter;
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis, ThreadLocalRandom::current);
+    }
+
+    UuidV7Generator(LongSupplier clock, Supplier<RandomGenerator> random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public UUID nextId() {
+        long millis;
+        long sequence;
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now > lastMillis) {
+                lastMillis = now;
+                counter = random.get().nextLong(COUNTER_SEED_BOUND);
+            } else if (counter < MAX_COUNTER) {
+                counter++;
+            } else {
+                lastMillis++;
+                counter = 0;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+        long mostSigBits = (millis << 16) | (0x7L << 12) | sequence;
+        long leastSigBits = (random.get().nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
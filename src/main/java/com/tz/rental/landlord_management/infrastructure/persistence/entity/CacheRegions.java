@@ -0,0 +1,18 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.entity;
+
+// Second-level cache region names, shared by the entity mappings and JpaCacheConfig
+public final class CacheRegions {
+
+    public static final String USERS = "users";
+    public static final String USERS_BY_USERNAME = "users-by-username";
+    public static final String LANDLORDS = "landlords";
+    public static final String HOUSES = "houses";
+    public static final String HOUSES_BY_PROPERTY_CODE = "houses-by-property-code";
+    public static final String CONTRACT_TEMPLATES = "contract-templates";
+    // Hibernate's default query cache regions
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
@@ -3,6 +3,8 @@ package com.tz.rental.landlord_management.infrastructure.persistence.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,6 +13,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "contract_templates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CONTRACT_TEMPLATES)
 @Getter
 @Setter
 public class ContractTemplateEntity {
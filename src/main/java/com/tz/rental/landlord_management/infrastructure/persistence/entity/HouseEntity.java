@@ -4,7 +4,14 @@ import com.tz.rental.landlord_management.domain.model.valueobject.HouseType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -14,14 +21,23 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "houses")
+@Table(name = "houses", indexes = {
+        @Index(name = "idx_houses_landlord_created", columnList = "landlord_id, created_at, id")
+})
 @Getter
 @Setter
+// Only changed columns are written, so saving a house never overwrites the room stats kept by bulk updates
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.HOUSES)
+@NaturalIdCache(region = CacheRegions.HOUSES_BY_PROPERTY_CODE)
 public class HouseEntity {
 
     @Id
     private UUID id;
 
+    // Landlords can change the code, so the natural id is mutable
+    @NaturalId(mutable = true)
     @Column(name = "property_code", nullable = false, unique = true)
     private String propertyCode;
 
@@ -66,14 +82,34 @@ public class HouseEntity {
     @Column(name = "has_electricity")
     private Boolean hasElectricity;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "house_image_urls", joinColumns = @JoinColumn(name = "house_id"))
+    // Loaded only when a response includes images; a page of houses fetches them in one batch
+    @ElementCollection
+    @BatchSize(size = 100)
+    @CollectionTable(name = "house_image_urls", joinColumns = @JoinColumn(name = "house_id"),
+            indexes = @Index(name = "idx_house_image_urls_house", columnList = "house_id"))
     @Column(name = "image_url")
     private List<String> imageUrls;
 
     @Column(name = "monthly_common_charges")
     private BigDecimal monthlyCommonCharges;
 
+    // Room stats, recomputed by JpaHouseRepository.recalculateRoomStats after every room write
+    @ColumnDefault("0")
+    @Column(name = "total_rooms", nullable = false)
+    private int totalRooms;
+
+    @ColumnDefault("0")
+    @Column(name = "vacant_rooms", nullable = false)
+    private int vacantRooms;
+
+    @ColumnDefault("0")
+    @Column(name = "occupied_rooms", nullable = false)
+    private int occupiedRooms;
+
+    @ColumnDefault("0")
+    @Column(name = "occupied_monthly_income", nullable = false)
+    private BigDecimal occupiedMonthlyIncome = BigDecimal.ZERO;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,43 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Running total of payments collected by one landlord in one calendar month
+@Entity
+@Table(name = "landlord_monthly_income",
+        uniqueConstraints = @UniqueConstraint(name = "uk_landlord_income_landlord_period", columnNames = {"landlord_id", "period_start"}))
+@Getter
+@Setter
+public class LandlordIncomeEntity {
+
+    @Id
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "landlord_id", nullable = false)
+    private LandlordEntity landlord;
+
+    // First day of the month this row covers
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "amount_collected", nullable = false)
+    private BigDecimal amountCollected = BigDecimal.ZERO;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "leases")
+@Table(name = "leases", indexes = {
+        @Index(name = "idx_leases_room_status", columnList = "room_id, status"),
+        @Index(name = "idx_leases_tenant", columnList = "tenant_id")
+})
 @Getter
 @Setter
 public class LeaseEntity {
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_password_reset_token_token", columnList = "token"))
 @Data
 @NoArgsConstructor
 public class PasswordResetToken {
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_lease_date", columnList = "lease_id, payment_date"),
+        @Index(name = "idx_payments_lease_created", columnList = "lease_id, created_at, id")
+})
 @Getter
 @Setter
 public class PaymentEntity {
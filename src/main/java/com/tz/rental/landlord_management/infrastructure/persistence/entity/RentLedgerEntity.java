@@ -0,0 +1,54 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Pre-aggregated rent position of one lease for one calendar month
+@Entity
+@Table(name = "rent_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rent_ledger_lease_period", columnNames = {"lease_id", "period_start"}),
+        indexes = @Index(name = "idx_rent_ledger_period", columnList = "period_start"))
+@Getter
+@Setter
+public class RentLedgerEntity {
+
+    @Id
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lease_id", nullable = false)
+    private LeaseEntity lease;
+
+    // First day of the month this row covers
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "expected_rent", nullable = false)
+    private BigDecimal expectedRent = BigDecimal.ZERO;
+
+    @Column(name = "amount_paid", nullable = false)
+    private BigDecimal amountPaid = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void recalculateBalance() {
+        this.balance = expectedRent.subtract(amountPaid);
+    }
+}
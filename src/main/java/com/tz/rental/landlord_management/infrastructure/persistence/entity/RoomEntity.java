@@ -4,6 +4,7 @@ import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,7 +14,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "rooms")
+@Table(name = "rooms", indexes = {
+        @Index(name = "idx_rooms_house_status", columnList = "house_id, status"),
+        @Index(name = "idx_rooms_house_created", columnList = "house_id, created_at, id")
+})
 @Getter
 @Setter
 public class RoomEntity {
@@ -41,8 +45,11 @@ public class RoomEntity {
     @Column(name = "size")
     private String size; // e.g., "15x15", "20 sqm"
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "room_image_urls", joinColumns = @JoinColumn(name = "room_id"))
+    // Loaded only when a response includes images; a page of rooms fetches them in one batch
+    @ElementCollection
+    @BatchSize(size = 100)
+    @CollectionTable(name = "room_image_urls", joinColumns = @JoinColumn(name = "room_id"),
+            indexes = @Index(name = "idx_room_image_urls_room", columnList = "room_id"))
     @Column(name = "image_url")
     private List<String> imageUrls;
 
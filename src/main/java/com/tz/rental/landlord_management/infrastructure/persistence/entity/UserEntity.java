@@ -4,16 +4,25 @@ import com.tz.rental.landlord_management.domain.model.valueobject.Role;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
+@NaturalIdCache(region = CacheRegions.USERS_BY_USERNAME)
 @Getter
 @Setter
 public class UserEntity implements UserDetails {
@@ -22,6 +31,7 @@ public class UserEntity implements UserDetails {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String username;
 
@@ -41,6 +51,15 @@ public class UserEntity implements UserDetails {
     private boolean isCredentialsNonExpired = true;
     private boolean isEnabled = true;
 
+    // Tokens issued at or before this instant are refused; set by password resets and deactivation
+    @Column(name = "tokens_valid_after")
+    private Instant tokensValidAfter;
+
+    // Token issue times have second precision, so a token issued in the same second as the change is refused too
+    public void revokeTokens() {
+        this.tokensValidAfter = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(new SimpleGrantedAuthority(role.name()));
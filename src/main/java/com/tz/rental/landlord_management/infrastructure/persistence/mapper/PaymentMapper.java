@@ -1,6 +1,5 @@
 package com.tz.rental.landlord_management.infrastructure.persistence.mapper;
 
-import com.tz.rental.landlord_management.domain.model.aggregate.Lease;
 import com.tz.rental.landlord_management.domain.model.aggregate.Payment;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LeaseEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.PaymentEntity;
@@ -25,16 +24,16 @@ public class PaymentMapper {
     }
 
     public Payment toDomain(PaymentEntity entity) {
-        // Note: This simplified mapping assumes the Lease object is not fully loaded
-        // A more complete solution might involve fetching the full Lease aggregate
-        Payment payment = Payment.create(
-                new Lease.LeaseId(entity.getLease().getId()),
+        // Use the fromExisting factory method so the payment keeps its identity and status
+        return Payment.fromExisting(
+                entity.getId(),
+                entity.getLease().getId(),
                 entity.getAmountPaid(),
                 entity.getPaymentDate(),
-                entity.getTransactionReference()
+                entity.getTransactionReference(),
+                entity.getStatus(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
         );
-        // If status can be updated, you might need to call a method on the domain object
-        // payment.setStatus(entity.getStatus()); // Assuming a setter or internal method
-        return payment;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.tz.rental.landlord_management.infrastructure.persistence.mapper;
 
 import com.tz.rental.landlord_management.domain.model.aggregate.Room;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.RoomEntity;
 import org.springframework.stereotype.Component;
 
@@ -22,7 +23,11 @@ public class RoomMapper {
     public RoomEntity toEntity(Room domain) {
         RoomEntity entity = new RoomEntity();
         entity.setId(domain.getId().value());
-        // Assuming houseId is set elsewhere or handled via relationship
+
+        HouseEntity houseEntity = new HouseEntity();
+        houseEntity.setId(domain.getHouseId().value());
+        entity.setHouse(houseEntity);
+
         entity.setRoomNumber(domain.getRoomNumber());
         entity.setDescription(domain.getDescription());
         entity.setMonthlyRent(domain.getMonthlyRent());
@@ -0,0 +1,13 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+
+// All dashboard figures of one landlord, computed by a single aggregate query
+public interface DashboardStatsProjection {
+    Long getTotalProperties();
+    Long getTotalRooms();
+    Long getOccupiedRooms();
+    Long getTotalTenants();
+    BigDecimal getExpectedMonthlyIncome();
+    BigDecimal getActualMonthlyIncome();
+}
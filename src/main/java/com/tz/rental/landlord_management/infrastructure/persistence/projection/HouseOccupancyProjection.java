@@ -0,0 +1,11 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import java.util.UUID;
+
+// Stored room counts of one house, read to build the in-memory occupancy index
+public interface HouseOccupancyProjection {
+    UUID getId();
+    int getTotalRooms();
+    int getVacantRooms();
+    int getOccupiedRooms();
+}
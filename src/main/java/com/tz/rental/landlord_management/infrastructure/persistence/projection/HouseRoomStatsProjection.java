@@ -0,0 +1,11 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+
+// Room counts and occupied rent of one house, aggregated from its rooms
+public interface HouseRoomStatsProjection {
+    Long getTotalRooms();
+    Long getVacantRooms();
+    Long getOccupiedRooms();
+    BigDecimal getOccupiedMonthlyIncome();
+}
@@ -0,0 +1,12 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Sum of payments collected by one landlord in one calendar month
+public interface LandlordMonthlyPaymentTotalProjection {
+    UUID getLandlordId();
+    Integer getPaymentYear();
+    Integer getPaymentMonth();
+    BigDecimal getAmountPaid();
+}
@@ -0,0 +1,10 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import java.util.UUID;
+
+// Landlord id and name only, without loading the user association
+public interface LandlordNameProjection {
+    UUID getId();
+    String getFirstName();
+    String getLastName();
+}
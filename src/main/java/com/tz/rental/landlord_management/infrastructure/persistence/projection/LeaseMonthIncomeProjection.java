@@ -0,0 +1,17 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// One lease in one month of an income range report, with payments already summed for that month
+public interface LeaseMonthIncomeProjection {
+    UUID getLeaseId();
+    String getTenantFirstName();
+    String getTenantLastName();
+    String getRoomNumber();
+    String getHouseName();
+    LocalDate getPeriodStart();
+    BigDecimal getExpectedRent();
+    BigDecimal getAmountPaid();
+}
@@ -0,0 +1,15 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Flat row for the monthly income report: one per lease, with payments already summed for the month
+public interface MonthlyIncomeProjection {
+    UUID getLeaseId();
+    String getTenantFirstName();
+    String getTenantLastName();
+    String getRoomNumber();
+    String getHouseName();
+    BigDecimal getExpectedRent();
+    BigDecimal getAmountPaid();
+}
@@ -0,0 +1,9 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+
+// Summary line of the monthly income report, computed in SQL so streamed exports can write it first
+public interface MonthlyIncomeTotalsProjection {
+    BigDecimal getTotalExpected();
+    BigDecimal getTotalPaid();
+}
@@ -0,0 +1,21 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import com.tz.rental.landlord_management.domain.model.valueobject.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Flat payment row with its lease, tenant, room and house for raw data exports
+public interface PaymentHistoryProjection {
+    UUID getPaymentId();
+    UUID getLeaseId();
+    String getTenantFirstName();
+    String getTenantLastName();
+    String getRoomNumber();
+    String getHouseName();
+    BigDecimal getAmountPaid();
+    LocalDate getPaymentDate();
+    PaymentStatus getStatus();
+    String getTransactionReference();
+}
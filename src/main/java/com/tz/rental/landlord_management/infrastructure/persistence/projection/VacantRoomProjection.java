@@ -0,0 +1,12 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.projection;
+
+import java.util.UUID;
+
+// Vacant room joined with the name and id of the house it belongs to
+public interface VacantRoomProjection {
+    UUID getRoomId();
+    String getRoomNumber();
+    String getRoomDescription();
+    UUID getHouseId();
+    String getHouseName();
+}
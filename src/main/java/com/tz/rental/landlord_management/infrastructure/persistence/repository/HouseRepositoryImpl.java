@@ -2,15 +2,11 @@ package com.tz.rental.landlord_management.infrastructure.persistence.repository;
 
 import com.tz.rental.landlord_management.domain.model.aggregate.House;
 import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
-import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
 import com.tz.rental.landlord_management.domain.repository.HouseRepository;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
-import com.tz.rental.landlord_management.infrastructure.persistence.entity.RoomEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.mapper.HouseDomainMapper;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
 import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;
-import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
@@ -24,9 +20,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class HouseRepositoryImpl implements HouseRepository {
 
-    private static final String HOUSE_FIELD = "house";
     private final JpaHouseRepository houseRepository;
     private final HouseDomainMapper houseDomainMapper;
+    private final NaturalIdRepository naturalIdRepository;
 
     @Override
     public House save(House house) {
@@ -43,7 +39,7 @@ public class HouseRepositoryImpl implements HouseRepository {
 
     @Override
     public Optional<House> findByPropertyCode(String propertyCode) {
-        return houseRepository.findByPropertyCode(propertyCode)
+        return naturalIdRepository.findBySimpleNaturalId(HouseEntity.class, propertyCode)
                 .map(houseDomainMapper::toDomain);
     }
 
@@ -109,33 +105,15 @@ public class HouseRepositoryImpl implements HouseRepository {
                 predicates.add(cb.equal(root.get("landlord").get("id"), landlordId));
             }
 
+            // Status reads the house's room stats columns instead of correlated subqueries on rooms
             if (status == House.HouseStatus.VACANT) {
                 // Find houses that have at least one vacant room
-                Subquery<RoomEntity> subquery = query.subquery(RoomEntity.class);
-                Root<RoomEntity> subRoot = subquery.from(RoomEntity.class);
-                subquery.select(subRoot);
-                subquery.where(
-                        cb.equal(subRoot.get(HOUSE_FIELD), root),
-                        cb.equal(subRoot.get("status"), RoomStatus.VACANT)
-                );
-                predicates.add(cb.exists(subquery));
+                predicates.add(cb.greaterThan(root.get("vacantRooms"), 0));
 
             } else if (status == House.HouseStatus.OCCUPIED) {
                 // Find houses where all rooms are occupied (and there's at least one room)
-                Subquery<Long> countSubquery = query.subquery(Long.class);
-                Root<RoomEntity> countSubRoot = countSubquery.from(RoomEntity.class);
-                countSubquery.select(cb.count(countSubRoot));
-                countSubquery.where(cb.equal(countSubRoot.get(HOUSE_FIELD), root));
-                predicates.add(cb.greaterThan(countSubquery, 0L));
-
-                Subquery<RoomEntity> subquery = query.subquery(RoomEntity.class);
-                Root<RoomEntity> subRoot = subquery.from(RoomEntity.class);
-                subquery.select(subRoot);
-                subquery.where(
-                        cb.equal(subRoot.get(HOUSE_FIELD), root),
-                        cb.notEqual(subRoot.get("status"), RoomStatus.OCCUPIED)
-                );
-                predicates.add(cb.not(cb.exists(subquery)));
+                predicates.add(cb.greaterThan(root.get("totalRooms"), 0));
+                predicates.add(cb.equal(root.get("occupiedRooms"), root.get("totalRooms")));
             }
 
             return cb.and(predicates.toArray(new Predicate[0]));
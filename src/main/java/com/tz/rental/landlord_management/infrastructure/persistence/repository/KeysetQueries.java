@@ -0,0 +1,53 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.repository;
+
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.KeysetSlice;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+// Seeks past the cursor row with "(createdAt, id) > (:createdAt, :id)" instead of skipping an offset,
+// so every page is one index range scan of limit + 1 rows. The extra row only tells whether more exist.
+public final class KeysetQueries {
+
+    private KeysetQueries() {
+    }
+
+    public static <E> KeysetSlice<E> fetch(JpaSpecificationExecutor<E> repository, Specification<E> filter, KeysetRequest request) {
+        Sort.Direction direction = request.backward() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Specification<E> spec = request.isFirstPage() ? filter : filter.and(seek(request));
+        List<E> rows = repository.findBy(spec, query -> query
+                .sortBy(Sort.by(direction, "createdAt", "id"))
+                .limit(request.limit() + 1)
+                .all());
+
+        boolean more = rows.size() > request.limit();
+        List<E> page = new ArrayList<>(more ? rows.subList(0, request.limit()) : rows);
+        if (request.backward()) {
+            // Fetched newest first; hand the page back in listing order
+            Collections.reverse(page);
+            return new KeysetSlice<>(page, more, true);
+        }
+        return new KeysetSlice<>(page, !request.isFirstPage(), more);
+    }
+
+    private static <E> Specification<E> seek(KeysetRequest request) {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            if (request.backward()) {
+                return cb.or(cb.lessThan(createdAt, request.createdAt()),
+                        cb.and(cb.equal(createdAt, request.createdAt()), cb.lessThan(id, request.id())));
+            }
+            return cb.or(cb.greaterThan(createdAt, request.createdAt()),
+                    cb.and(cb.equal(createdAt, request.createdAt()), cb.greaterThan(id, request.id())));
+        };
+    }
+}
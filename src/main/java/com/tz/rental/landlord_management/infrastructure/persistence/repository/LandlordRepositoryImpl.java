@@ -3,12 +3,19 @@ package com.tz.rental.landlord_management.infrastructure.persistence.repository;
 import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
 import com.tz.rental.landlord_management.domain.model.valueobject.Email;
 import com.tz.rental.landlord_management.domain.model.valueobject.PhoneNumber;
+import com.tz.rental.landlord_management.domain.repository.LandlordFilter;
 import com.tz.rental.landlord_management.domain.repository.LandlordRepository;
+import com.tz.rental.landlord_management.domain.repository.PageQuery;
+import com.tz.rental.landlord_management.domain.repository.PageResult;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.mapper.PersistenceLandlordMapper; // Corrected import
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -53,8 +60,30 @@ public class LandlordRepositoryImpl implements LandlordRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PageResult<Landlord> findAll(LandlordFilter filter, PageQuery query) {
+        return PageQueries.fetch(jpaLandlordRepository, matching(filter), query, persistenceLandlordMapper::toDomain);
+    }
+
     @Override
     public void delete(Landlord.LandlordId id) {
         jpaLandlordRepository.deleteById(id.value());
     }
-}
\ No newline at end of file
+
+    private static Specification<LandlordEntity> matching(LandlordFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.active() != null) {
+                predicates.add(cb.equal(root.get("isActive"), filter.active()));
+            }
+            if (filter.search() != null && !filter.search().isBlank()) {
+                String pattern = "%" + filter.search().trim().toLowerCase() + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("firstName")), pattern),
+                        cb.like(cb.lower(root.get("lastName")), pattern),
+                        cb.like(cb.lower(root.get("email")), pattern)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -3,12 +3,21 @@ package com.tz.rental.landlord_management.infrastructure.persistence.repository;
 import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
 import com.tz.rental.landlord_management.domain.model.aggregate.Lease;
 import com.tz.rental.landlord_management.domain.model.valueobject.LeaseStatus;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.KeysetSlice;
+import com.tz.rental.landlord_management.domain.repository.LeaseFilter;
 import com.tz.rental.landlord_management.domain.repository.LeaseRepository;
+import com.tz.rental.landlord_management.domain.repository.PageQuery;
+import com.tz.rental.landlord_management.domain.repository.PageResult;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LeaseEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.mapper.LeaseMapper;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLeaseRepository;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -54,6 +63,21 @@ public class LeaseRepositoryImpl implements LeaseRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PageResult<Lease> findByLandlordId(Landlord.LandlordId landlordId, LeaseFilter filter, PageQuery query) {
+        return PageQueries.fetch(jpaLeaseRepository, matching(landlordId, filter), query, leaseMapper::toDomain);
+    }
+
+    @Override
+    public KeysetSlice<Lease> findByLandlordId(Landlord.LandlordId landlordId, LeaseFilter filter, KeysetRequest request) {
+        return KeysetQueries.fetch(jpaLeaseRepository, matching(landlordId, filter), request).map(leaseMapper::toDomain);
+    }
+
+    @Override
+    public long countByLandlordId(Landlord.LandlordId landlordId, LeaseFilter filter) {
+        return jpaLeaseRepository.count(matching(landlordId, filter));
+    }
+
     @Override
     public long countActiveByLandlordId(Landlord.LandlordId landlordId) {
         return jpaLeaseRepository.countByLandlordIdAndStatus(landlordId.value(), LeaseStatus.ACTIVE);
@@ -75,4 +99,27 @@ public class LeaseRepositoryImpl implements LeaseRepository {
                 .map(leaseMapper::toDomain)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    private static Specification<LeaseEntity> matching(Landlord.LandlordId landlordId, LeaseFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("room").get("house").get("landlord").get("id"), landlordId.value()));
+            if (filter.status() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.status()));
+            }
+            if (filter.startFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("startDate"), filter.startFrom()));
+            }
+            if (filter.startTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("startDate"), filter.startTo()));
+            }
+            if (filter.minRent() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("rentAmount"), filter.minRent()));
+            }
+            if (filter.maxRent() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("rentAmount"), filter.maxRent()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
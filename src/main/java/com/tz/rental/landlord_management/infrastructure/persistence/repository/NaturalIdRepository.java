@@ -0,0 +1,25 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// Loads entities by their @NaturalId through Hibernate's natural-id API, which resolves the id from the
+// natural-id cache region and the entity from its own region before falling back to a query.
+// Spring Data derived finders (findByUsername, ...) always run SQL.
+@Repository
+public class NaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // The transaction keeps the session open for the lookup when the caller has none
+    @Transactional(readOnly = true)
+    public <T> Optional<T> findBySimpleNaturalId(Class<T> entityClass, Object naturalId) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(entityClass).loadOptional(naturalId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.repository;
+
+import com.tz.rental.landlord_management.domain.repository.PageQuery;
+import com.tz.rental.landlord_management.domain.repository.PageResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// Runs an offset page query for a domain repository and maps the rows back to domain objects
+public final class PageQueries {
+
+    private PageQueries() {
+    }
+
+    public static <E, T> PageResult<T> fetch(JpaSpecificationExecutor<E> repository, Specification<E> spec, PageQuery query,
+                                             Function<E, T> mapper) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (PageQuery.Order order : query.orders()) {
+            orders.add(order.ascending() ? Sort.Order.asc(order.property()) : Sort.Order.desc(order.property()));
+        }
+
+        Page<E> page = repository.findAll(spec, PageRequest.of(query.page(), query.size(), Sort.by(orders)));
+        return new PageResult<>(page.getContent().stream().map(mapper).toList(), page.getNumber(), page.getSize(),
+                page.getTotalElements());
+    }
+}
@@ -1,14 +1,23 @@
 package com.tz.rental.landlord_management.infrastructure.persistence.repository;
 
 import com.tz.rental.landlord_management.domain.model.aggregate.Payment;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.KeysetSlice;
+import com.tz.rental.landlord_management.domain.repository.PageQuery;
+import com.tz.rental.landlord_management.domain.repository.PageResult;
+import com.tz.rental.landlord_management.domain.repository.PaymentFilter;
 import com.tz.rental.landlord_management.domain.repository.PaymentRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.PaymentEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.mapper.PaymentMapper;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaPaymentRepository;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,6 +49,21 @@ public class PaymentRepositoryImpl implements PaymentRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PageResult<Payment> findByLeaseId(UUID leaseId, PaymentFilter filter, PageQuery query) {
+        return PageQueries.fetch(jpaPaymentRepository, matching(leaseId, filter), query, paymentMapper::toDomain);
+    }
+
+    @Override
+    public KeysetSlice<Payment> findByLeaseId(UUID leaseId, PaymentFilter filter, KeysetRequest request) {
+        return KeysetQueries.fetch(jpaPaymentRepository, matching(leaseId, filter), request).map(paymentMapper::toDomain);
+    }
+
+    @Override
+    public long countByLeaseId(UUID leaseId, PaymentFilter filter) {
+        return jpaPaymentRepository.count(matching(leaseId, filter));
+    }
+
     @Override
     public BigDecimal sumAmountByLeaseIdInAndPaymentDateBetween(List<UUID> leaseIds, LocalDate start, LocalDate end) {
         return jpaPaymentRepository.sumAmountByLeaseIdInAndPaymentDateBetween(leaseIds, start, end);
@@ -49,4 +73,27 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     public void deleteById(UUID id) {
         jpaPaymentRepository.deleteById(id);
     }
-}
\ No newline at end of file
+
+    private static Specification<PaymentEntity> matching(UUID leaseId, PaymentFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("lease").get("id"), leaseId));
+            if (filter.status() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.status()));
+            }
+            if (filter.paidFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("paymentDate"), filter.paidFrom()));
+            }
+            if (filter.paidTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("paymentDate"), filter.paidTo()));
+            }
+            if (filter.minAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amountPaid"), filter.minAmount()));
+            }
+            if (filter.maxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amountPaid"), filter.maxAmount()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
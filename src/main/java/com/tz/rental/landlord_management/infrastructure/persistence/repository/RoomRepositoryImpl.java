@@ -5,6 +5,7 @@ import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
 import com.tz.rental.landlord_management.domain.repository.RoomRepository;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.RoomEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.mapper.RoomMapper;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -19,12 +20,15 @@ import java.util.stream.Collectors;
 public class RoomRepositoryImpl implements RoomRepository {
 
     private final JpaRoomRepository jpaRoomRepository;
+    private final JpaHouseRepository jpaHouseRepository;
     private final RoomMapper roomMapper;
 
     @Override
     public Room save(Room room) {
         RoomEntity entity = roomMapper.toEntity(room);
         RoomEntity savedEntity = jpaRoomRepository.save(entity);
+        // Status changes made through the domain (e.g. leasing a room) must reach the house's stored stats too
+        jpaHouseRepository.recalculateRoomStats(savedEntity.getHouse().getId(), RoomStatus.VACANT, RoomStatus.OCCUPIED);
         return roomMapper.toDomain(savedEntity);
     }
 
@@ -49,7 +53,11 @@ public class RoomRepositoryImpl implements RoomRepository {
 
     @Override
     public void deleteById(UUID id) {
-        jpaRoomRepository.deleteById(id);
+        jpaRoomRepository.findById(id).ifPresent(entity -> {
+            UUID houseId = entity.getHouse().getId();
+            jpaRoomRepository.delete(entity);
+            jpaHouseRepository.recalculateRoomStats(houseId, RoomStatus.VACANT, RoomStatus.OCCUPIED);
+        });
     }
 
     @Override
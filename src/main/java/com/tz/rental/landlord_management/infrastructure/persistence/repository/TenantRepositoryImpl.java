@@ -1,13 +1,25 @@
 package com.tz.rental.landlord_management.infrastructure.persistence.repository;
 
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
 import com.tz.rental.landlord_management.domain.model.aggregate.Tenant;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.KeysetSlice;
+import com.tz.rental.landlord_management.domain.repository.PageQuery;
+import com.tz.rental.landlord_management.domain.repository.PageResult;
+import com.tz.rental.landlord_management.domain.repository.TenantFilter;
 import com.tz.rental.landlord_management.domain.repository.TenantRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LeaseEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.TenantEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.mapper.TenantMapper;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaTenantRepository;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,6 +58,21 @@ public class TenantRepositoryImpl implements TenantRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PageResult<Tenant> findByLandlordId(Landlord.LandlordId landlordId, TenantFilter filter, PageQuery query) {
+        return PageQueries.fetch(jpaTenantRepository, matching(landlordId, filter), query, tenantMapper::toDomain);
+    }
+
+    @Override
+    public KeysetSlice<Tenant> findByLandlordId(Landlord.LandlordId landlordId, TenantFilter filter, KeysetRequest request) {
+        return KeysetQueries.fetch(jpaTenantRepository, matching(landlordId, filter), request).map(tenantMapper::toDomain);
+    }
+
+    @Override
+    public long countByLandlordId(Landlord.LandlordId landlordId, TenantFilter filter) {
+        return jpaTenantRepository.count(matching(landlordId, filter));
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaTenantRepository.deleteById(id);
@@ -65,4 +92,30 @@ public class TenantRepositoryImpl implements TenantRepository {
     public boolean existsByNationalId(String nationalId) {
         return jpaTenantRepository.existsByNationalId(nationalId);
     }
-}
\ No newline at end of file
+
+    // A tenant belongs to a landlord through a lease on one of the landlord's rooms
+    private static Specification<TenantEntity> matching(Landlord.LandlordId landlordId, TenantFilter filter) {
+        return (root, query, cb) -> {
+            Subquery<UUID> leases = query.subquery(UUID.class);
+            Root<LeaseEntity> lease = leases.from(LeaseEntity.class);
+            leases.select(lease.get("id")).where(
+                    cb.equal(lease.get("tenant"), root),
+                    cb.equal(lease.get("room").get("house").get("landlord").get("id"), landlordId.value()));
+
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.exists(leases));
+            if (filter.active() != null) {
+                predicates.add(cb.equal(root.get("active"), filter.active()));
+            }
+            if (filter.search() != null && !filter.search().isBlank()) {
+                String pattern = "%" + filter.search().trim().toLowerCase() + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("firstName")), pattern),
+                        cb.like(cb.lower(root.get("lastName")), pattern),
+                        cb.like(cb.lower(root.get("email")), pattern),
+                        cb.like(root.get("phoneNumber"), pattern)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
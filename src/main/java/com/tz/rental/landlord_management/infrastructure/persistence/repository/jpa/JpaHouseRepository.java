@@ -1,11 +1,17 @@
 package com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa;
 
+import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.HouseOccupancyProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.HouseRoomStatsProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,4 +26,40 @@ public interface JpaHouseRepository extends JpaRepository<HouseEntity, UUID>, Jp
     List<HouseEntity> findByLandlordId(UUID landlordId);
     long countByLandlordId(UUID landlordId);
     boolean existsByPropertyCode(String propertyCode);
+
+    @Query("SELECT h.id AS id, h.totalRooms AS totalRooms, h.vacantRooms AS vacantRooms, h.occupiedRooms AS occupiedRooms " +
+            "FROM HouseEntity h WHERE h.landlord.id = :landlordId")
+    List<HouseOccupancyProjection> findOccupancyByLandlordId(@Param("landlordId") UUID landlordId);
+
+    // Served by idx_rooms_house_status; pending room changes are flushed first by the AUTO flush mode
+    @Query("SELECT COUNT(r) AS totalRooms, " +
+            "COUNT(CASE WHEN r.status = :vacant THEN 1 END) AS vacantRooms, " +
+            "COUNT(CASE WHEN r.status = :occupied THEN 1 END) AS occupiedRooms, " +
+            "COALESCE(SUM(CASE WHEN r.status = :occupied THEN r.monthlyRent END), 0) AS occupiedMonthlyIncome " +
+            "FROM RoomEntity r WHERE r.house.id = :houseId")
+    HouseRoomStatsProjection sumRoomStatsByHouseId(@Param("houseId") UUID houseId,
+                                                   @Param("vacant") RoomStatus vacant,
+                                                   @Param("occupied") RoomStatus occupied);
+
+    // Recomputed from the rooms rather than incremented, so a missed write cannot leave the stats drifting.
+    // Written through the managed entity: a bulk UPDATE would evict the whole houses and natural-id cache
+    // regions, while a dirty entity only replaces its own cache entry. Must run inside a transaction.
+    default void recalculateRoomStats(UUID houseId, RoomStatus vacant, RoomStatus occupied) {
+        HouseRoomStatsProjection stats = sumRoomStatsByHouseId(houseId, vacant, occupied);
+        findById(houseId).ifPresent(house -> {
+            house.setTotalRooms(stats.getTotalRooms().intValue());
+            house.setVacantRooms(stats.getVacantRooms().intValue());
+            house.setOccupiedRooms(stats.getOccupiedRooms().intValue());
+            house.setOccupiedMonthlyIncome(stats.getOccupiedMonthlyIncome());
+        });
+    }
+
+    // Backfill / repair of every house; as a bulk UPDATE it clears the houses cache regions, which is fine for an admin job
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE HouseEntity h SET " +
+            "h.totalRooms = (SELECT COUNT(r) FROM RoomEntity r WHERE r.house.id = h.id), " +
+            "h.vacantRooms = (SELECT COUNT(r) FROM RoomEntity r WHERE r.house.id = h.id AND r.status = :vacant), " +
+            "h.occupiedRooms = (SELECT COUNT(r) FROM RoomEntity r WHERE r.house.id = h.id AND r.status = :occupied), " +
+            "h.occupiedMonthlyIncome = (SELECT COALESCE(SUM(r.monthlyRent), 0) FROM RoomEntity r WHERE r.house.id = h.id AND r.status = :occupied)")
+    int recalculateAllRoomStats(@Param("vacant") RoomStatus vacant, @Param("occupied") RoomStatus occupied);
 }
\ No newline at end of file
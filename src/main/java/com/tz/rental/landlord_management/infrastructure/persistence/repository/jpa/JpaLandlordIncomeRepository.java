@@ -0,0 +1,35 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa;
+
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordIncomeEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JpaLandlordIncomeRepository extends JpaRepository<LandlordIncomeEntity, UUID> {
+
+    // Locks one landlord's counters so payment writes for that landlord wait while they are reconciled
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM LandlordIncomeEntity c WHERE c.landlord.id = :landlordId")
+    List<LandlordIncomeEntity> findByLandlordIdForUpdate(@Param("landlordId") UUID landlordId);
+
+    // Moves one month's collected amount in a single statement; the first payment of a month inserts the row,
+    // and concurrent first payments resolve on uk_landlord_income_landlord_period instead of failing
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO landlord_monthly_income (id, landlord_id, period_start, amount_collected, created_at, updated_at) " +
+            "VALUES (:id, :landlordId, :periodStart, :delta, now(), now()) " +
+            "ON CONFLICT (landlord_id, period_start) DO UPDATE SET " +
+            "amount_collected = landlord_monthly_income.amount_collected + EXCLUDED.amount_collected, " +
+            "updated_at = now()", nativeQuery = true)
+    int addCollected(@Param("id") UUID id, @Param("landlordId") UUID landlordId, @Param("periodStart") LocalDate periodStart,
+                     @Param("delta") BigDecimal delta);
+}
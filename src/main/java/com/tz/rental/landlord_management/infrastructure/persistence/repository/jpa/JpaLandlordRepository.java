@@ -1,15 +1,51 @@
 package com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa;
 
+import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.DashboardStatsProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.LandlordNameProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface JpaLandlordRepository extends JpaRepository<LandlordEntity, UUID> {
+public interface JpaLandlordRepository extends JpaRepository<LandlordEntity, UUID>, JpaSpecificationExecutor<LandlordEntity> {
     Optional<LandlordEntity> findByEmail(String email);
     Optional<LandlordEntity> findByPhoneNumber(String phoneNumber);
+    // Resolved on most landlord requests; the cached result is dropped whenever landlords or users change
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<LandlordEntity> findByUserUsername(String username);
-}
\ No newline at end of file
+
+    @Query("SELECT l.id FROM LandlordEntity l")
+    List<UUID> findAllIds();
+
+    @Query("SELECT l.id AS id, l.firstName AS firstName, l.lastName AS lastName FROM LandlordEntity l ORDER BY l.lastName, l.firstName")
+    List<LandlordNameProjection> findAllNames();
+
+    // One round trip: room figures use conditional aggregation (COUNT/SUM over CASE, which PostgreSQL
+    // plans like FILTER and H2 runs unchanged); houses and tenants are scalar subqueries so their counts are
+    // not multiplied by the room join. A tenant belongs to the landlord through a lease on one of their rooms,
+    // as in the tenant listings. Collected income comes from the month's counter row.
+    @Query("SELECT (SELECT COUNT(h) FROM HouseEntity h WHERE h.landlord.id = :landlordId) AS totalProperties, " +
+            "COUNT(r) AS totalRooms, " +
+            "COUNT(CASE WHEN r.status = :occupied THEN 1 END) AS occupiedRooms, " +
+            "(SELECT COUNT(t) FROM TenantEntity t WHERE EXISTS (SELECT 1 FROM LeaseEntity tl " +
+            "WHERE tl.tenant = t AND tl.room.house.landlord.id = :landlordId)) AS totalTenants, " +
+            "COALESCE(SUM(CASE WHEN r.status = :occupied THEN r.monthlyRent END), 0) AS expectedMonthlyIncome, " +
+            "COALESCE((SELECT c.amountCollected FROM LandlordIncomeEntity c " +
+            "WHERE c.landlord.id = :landlordId AND c.periodStart = :periodStart), 0) AS actualMonthlyIncome " +
+            "FROM RoomEntity r WHERE r.house.landlord.id = :landlordId")
+    DashboardStatsProjection findDashboardStats(@Param("landlordId") UUID landlordId,
+                                                @Param("occupied") RoomStatus occupied,
+                                                @Param("periodStart") LocalDate periodStart);
+}
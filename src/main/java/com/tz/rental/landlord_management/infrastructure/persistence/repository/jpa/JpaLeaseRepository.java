@@ -2,8 +2,15 @@ package com.tz.rental.landlord_management.infrastructure.persistence.repository.
 
 import com.tz.rental.landlord_management.domain.model.valueobject.LeaseStatus;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LeaseEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.LeaseMonthIncomeProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.MonthlyIncomeProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.MonthlyIncomeTotalsProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,9 +19,10 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface JpaLeaseRepository extends JpaRepository<LeaseEntity, UUID> {
+public interface JpaLeaseRepository extends JpaRepository<LeaseEntity, UUID>, JpaSpecificationExecutor<LeaseEntity> {
     List<LeaseEntity> findByTenantId(UUID tenantId);
 
     @Query("SELECT l FROM LeaseEntity l WHERE l.room.id = :roomId AND l.status = 'ACTIVE'")
@@ -33,4 +41,50 @@ public interface JpaLeaseRepository extends JpaRepository<LeaseEntity, UUID> {
 
     @Query("SELECT SUM(p.amountPaid) FROM PaymentEntity p WHERE p.lease.id IN :leaseIds AND p.paymentDate BETWEEN :start AND :end")
     BigDecimal sumAmountByLeaseIdInAndPaymentDateBetween(@Param("leaseIds") List<UUID> leaseIds, @Param("start") LocalDate start, @Param("end") LocalDate end);
-}
\ No newline at end of file
+
+    // One month of the landlord's income, read from the pre-aggregated rent ledger rather than the raw payments
+    // table. The ledger row is keyed on the month, not on the lease's current status, so expired and terminated
+    // leases still report the months they ran, and payments outside the lease term are kept.
+    @Query("SELECT l.id AS leaseId, t.firstName AS tenantFirstName, t.lastName AS tenantLastName, " +
+            "r.roomNumber AS roomNumber, h.name AS houseName, g.expectedRent AS expectedRent, " +
+            "g.amountPaid AS amountPaid " +
+            "FROM RentLedgerEntity g JOIN g.lease l JOIN l.tenant t JOIN l.room r JOIN r.house h " +
+            "WHERE h.landlord.id = :landlordId AND g.periodStart = :periodStart " +
+            "AND (g.expectedRent > 0 OR g.amountPaid > 0) " +
+            "ORDER BY h.name, r.roomNumber")
+    List<MonthlyIncomeProjection> findMonthlyIncomeByLandlordId(@Param("landlordId") UUID landlordId,
+                                                                @Param("periodStart") LocalDate periodStart);
+
+    // Same rows as findMonthlyIncomeByLandlordId, read through a cursor for streamed exports.
+    // Must be consumed inside a transaction and closed by the caller.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT l.id AS leaseId, t.firstName AS tenantFirstName, t.lastName AS tenantLastName, " +
+            "r.roomNumber AS roomNumber, h.name AS houseName, g.expectedRent AS expectedRent, " +
+            "g.amountPaid AS amountPaid " +
+            "FROM RentLedgerEntity g JOIN g.lease l JOIN l.tenant t JOIN l.room r JOIN r.house h " +
+            "WHERE h.landlord.id = :landlordId AND g.periodStart = :periodStart " +
+            "AND (g.expectedRent > 0 OR g.amountPaid > 0) " +
+            "ORDER BY h.name, r.roomNumber")
+    Stream<MonthlyIncomeProjection> streamMonthlyIncomeByLandlordId(@Param("landlordId") UUID landlordId,
+                                                                    @Param("periodStart") LocalDate periodStart);
+
+    @Query("SELECT COALESCE(SUM(g.expectedRent), 0) AS totalExpected, COALESCE(SUM(g.amountPaid), 0) AS totalPaid " +
+            "FROM RentLedgerEntity g JOIN g.lease l JOIN l.room r JOIN r.house h " +
+            "WHERE h.landlord.id = :landlordId AND g.periodStart = :periodStart " +
+            "AND (g.expectedRent > 0 OR g.amountPaid > 0)")
+    MonthlyIncomeTotalsProjection sumMonthlyIncomeByLandlordId(@Param("landlordId") UUID landlordId,
+                                                               @Param("periodStart") LocalDate periodStart);
+
+    // Expected and paid per lease per month over a range, with the same row filter as the single-month queries
+    // so any month of the range matches the monthly report for that month.
+    @Query("SELECT l.id AS leaseId, t.firstName AS tenantFirstName, t.lastName AS tenantLastName, " +
+            "r.roomNumber AS roomNumber, h.name AS houseName, g.periodStart AS periodStart, " +
+            "g.expectedRent AS expectedRent, g.amountPaid AS amountPaid " +
+            "FROM RentLedgerEntity g JOIN g.lease l JOIN l.tenant t JOIN l.room r JOIN r.house h " +
+            "WHERE h.landlord.id = :landlordId AND g.periodStart BETWEEN :start AND :end " +
+            "AND (g.expectedRent > 0 OR g.amountPaid > 0) " +
+            "ORDER BY h.name, r.roomNumber, g.periodStart")
+    List<LeaseMonthIncomeProjection> findMonthlyIncomeRangeByLandlordId(@Param("landlordId") UUID landlordId,
+                                                                        @Param("start") LocalDate start,
+                                                                        @Param("end") LocalDate end);
+}
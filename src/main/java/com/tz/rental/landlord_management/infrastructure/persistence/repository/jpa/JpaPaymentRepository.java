@@ -1,8 +1,14 @@
 package com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa;
 
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.PaymentEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.LandlordMonthlyPaymentTotalProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.PaymentHistoryProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -10,11 +16,31 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface JpaPaymentRepository extends JpaRepository<PaymentEntity, UUID> {
+public interface JpaPaymentRepository extends JpaRepository<PaymentEntity, UUID>, JpaSpecificationExecutor<PaymentEntity> {
     List<PaymentEntity> findByLeaseId(UUID leaseId);
 
     @Query("SELECT SUM(p.amountPaid) FROM PaymentEntity p WHERE p.lease.id IN :leaseIds AND p.paymentDate BETWEEN :start AND :end")
     BigDecimal sumAmountByLeaseIdInAndPaymentDateBetween(@Param("leaseIds") List<UUID> leaseIds, @Param("start") LocalDate start, @Param("end") LocalDate end);
-}
\ No newline at end of file
+
+    @Query("SELECT h.landlord.id AS landlordId, YEAR(p.paymentDate) AS paymentYear, MONTH(p.paymentDate) AS paymentMonth, " +
+            "SUM(p.amountPaid) AS amountPaid " +
+            "FROM PaymentEntity p JOIN p.lease l JOIN l.room r JOIN r.house h " +
+            "WHERE h.landlord.id = :landlordId " +
+            "GROUP BY h.landlord.id, YEAR(p.paymentDate), MONTH(p.paymentDate)")
+    List<LandlordMonthlyPaymentTotalProjection> sumAmountByLandlordIdGroupedByMonth(@Param("landlordId") UUID landlordId);
+
+    // Cursor-backed payment history of one landlord for raw exports; consume inside a transaction and close it
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id AS paymentId, l.id AS leaseId, t.firstName AS tenantFirstName, t.lastName AS tenantLastName, " +
+            "r.roomNumber AS roomNumber, h.name AS houseName, p.amountPaid AS amountPaid, p.paymentDate AS paymentDate, " +
+            "p.status AS status, p.transactionReference AS transactionReference " +
+            "FROM PaymentEntity p JOIN p.lease l JOIN l.tenant t JOIN l.room r JOIN r.house h " +
+            "WHERE h.landlord.id = :landlordId AND p.paymentDate BETWEEN :start AND :end " +
+            "ORDER BY p.paymentDate, p.id")
+    Stream<PaymentHistoryProjection> streamPaymentHistoryByLandlordId(@Param("landlordId") UUID landlordId,
+                                                                      @Param("start") LocalDate start,
+                                                                      @Param("end") LocalDate end);
+}
@@ -0,0 +1,49 @@
+package com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa;
+
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.RentLedgerEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JpaRentLedgerRepository extends JpaRepository<RentLedgerEntity, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM RentLedgerEntity g WHERE g.lease.id = :leaseId ORDER BY g.periodStart")
+    List<RentLedgerEntity> findByLeaseIdForUpdate(@Param("leaseId") UUID leaseId);
+
+    // Moves the paid amount of one month in a single statement; the first payment of a month inserts the row,
+    // and concurrent first payments resolve on uk_rent_ledger_lease_period instead of failing
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO rent_ledger (id, lease_id, period_start, expected_rent, amount_paid, balance, created_at, updated_at) " +
+            "VALUES (:id, :leaseId, :periodStart, 0, :delta, -CAST(:delta AS NUMERIC), now(), now()) " +
+            "ON CONFLICT (lease_id, period_start) DO UPDATE SET " +
+            "amount_paid = rent_ledger.amount_paid + EXCLUDED.amount_paid, " +
+            "balance = rent_ledger.expected_rent - (rent_ledger.amount_paid + EXCLUDED.amount_paid), " +
+            "updated_at = now()", nativeQuery = true)
+    int addPaid(@Param("id") UUID id, @Param("leaseId") UUID leaseId, @Param("periodStart") LocalDate periodStart,
+                @Param("delta") BigDecimal delta);
+
+    // Expected rent for every month of every lease, full-joined with the payments grouped by lease and month
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO rent_ledger (id, lease_id, period_start, expected_rent, amount_paid, balance, created_at, updated_at) " +
+            "SELECT gen_random_uuid(), COALESCE(e.lease_id, p.lease_id), COALESCE(e.period_start, p.period_start), " +
+            "COALESCE(e.expected_rent, 0), COALESCE(p.amount_paid, 0), " +
+            "COALESCE(e.expected_rent, 0) - COALESCE(p.amount_paid, 0), now(), now() " +
+            "FROM (SELECT l.id AS lease_id, CAST(m AS DATE) AS period_start, l.rent_amount AS expected_rent " +
+            "      FROM leases l CROSS JOIN LATERAL generate_series(date_trunc('month', l.start_date), " +
+            "      date_trunc('month', l.end_date), INTERVAL '1 month') m) e " +
+            "FULL JOIN (SELECT lease_id, CAST(date_trunc('month', payment_date) AS DATE) AS period_start, SUM(amount_paid) AS amount_paid " +
+            "      FROM payments GROUP BY lease_id, CAST(date_trunc('month', payment_date) AS DATE)) p " +
+            "ON p.lease_id = e.lease_id AND p.period_start = e.period_start", nativeQuery = true)
+    int insertFromLeasesAndPayments();
+}
@@ -4,23 +4,51 @@ import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.RoomEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.VacantRoomProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface JpaRoomRepository extends JpaRepository<RoomEntity, UUID> {
+public interface JpaRoomRepository extends JpaRepository<RoomEntity, UUID>, JpaSpecificationExecutor<RoomEntity> {
     List<RoomEntity> findByHouse(HouseEntity house);
     List<RoomEntity> findByHouseId(UUID houseId);
     List<RoomEntity> findByHouseAndStatus(HouseEntity house, RoomStatus status);
     List<RoomEntity> findByStatus(RoomStatus status);
     long countByHouseLandlord(LandlordEntity landlord);
     long countByHouseLandlordAndStatus(LandlordEntity landlord, RoomStatus status);
+    long countByHouseLandlordId(UUID landlordId);
+    long countByHouseLandlordIdAndStatus(UUID landlordId, RoomStatus status);
 
     @Query("SELECT SUM(r.monthlyRent) FROM RoomEntity r WHERE r.house.landlord = :landlord AND r.status = :status")
     BigDecimal sumMonthlyRentByLandlordAndStatus(LandlordEntity landlord, RoomStatus status);
-}
\ No newline at end of file
+
+    // Served by idx_rooms_house_status: houses are resolved by landlord, rooms by (house_id, status)
+    @Query("SELECT r.id AS roomId, r.roomNumber AS roomNumber, r.description AS roomDescription, " +
+            "h.id AS houseId, h.name AS houseName " +
+            "FROM RoomEntity r JOIN r.house h " +
+            "WHERE h.landlord.id = :landlordId AND r.status = :status " +
+            "ORDER BY h.name, r.roomNumber")
+    List<VacantRoomProjection> findRoomsWithHouseByLandlordIdAndStatus(@Param("landlordId") UUID landlordId,
+                                                                       @Param("status") RoomStatus status);
+
+    // Cursor-backed variant for streamed exports; consume inside a transaction and close it
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r.id AS roomId, r.roomNumber AS roomNumber, r.description AS roomDescription, " +
+            "h.id AS houseId, h.name AS houseName " +
+            "FROM RoomEntity r JOIN r.house h " +
+            "WHERE h.landlord.id = :landlordId AND r.status = :status " +
+            "ORDER BY h.name, r.roomNumber")
+    Stream<VacantRoomProjection> streamRoomsWithHouseByLandlordIdAndStatus(@Param("landlordId") UUID landlordId,
+                                                                           @Param("status") RoomStatus status);
+}
@@ -3,12 +3,13 @@ package com.tz.rental.landlord_management.infrastructure.persistence.repository.
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.TenantEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
 
 @Repository
-public interface JpaTenantRepository extends JpaRepository<TenantEntity, UUID> {
+public interface JpaTenantRepository extends JpaRepository<TenantEntity, UUID>, JpaSpecificationExecutor<TenantEntity> {
     long countByLandlord(LandlordEntity landlord);
     boolean existsByEmail(String email);
     boolean existsByPhoneNumber(String phoneNumber);
@@ -12,4 +12,5 @@ import java.util.UUID;
 public interface JpaUserRepository extends JpaRepository<UserEntity, UUID> {
     Optional<UserEntity> findByUsername(String username);
     Optional<UserEntity> findByLandlord(LandlordEntity landlord);
+    Optional<UserEntity> findByLandlordId(UUID landlordId);
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update) from the entities, before any migration.
+-- Existing databases are baselined at this version and skip it, so it must not change; later tables,
+-- columns and indexes go in V2 onwards.
+
+CREATE TABLE landlords (
+    id           UUID         NOT NULL,
+    first_name   VARCHAR(255) NOT NULL,
+    last_name    VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    national_id  VARCHAR(255),
+    tax_id       VARCHAR(255),
+    is_active    BOOLEAN      NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_landlords PRIMARY KEY (id),
+    CONSTRAINT uk_landlords_email UNIQUE (email),
+    CONSTRAINT uk_landlords_phone_number UNIQUE (phone_number),
+    CONSTRAINT uk_landlords_national_id UNIQUE (national_id)
+);
+
+CREATE TABLE users (
+    id                         UUID         NOT NULL,
+    username                   VARCHAR(255) NOT NULL,
+    password                   VARCHAR(255) NOT NULL,
+    role                       VARCHAR(255) NOT NULL,
+    landlord_id                UUID,
+    is_account_non_expired     BOOLEAN      NOT NULL,
+    is_account_non_locked      BOOLEAN      NOT NULL,
+    is_credentials_non_expired BOOLEAN      NOT NULL,
+    is_enabled                 BOOLEAN      NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_landlord UNIQUE (landlord_id),
+    CONSTRAINT fk_users_landlord FOREIGN KEY (landlord_id) REFERENCES landlords (id)
+);
+
+CREATE TABLE password_reset_token (
+    id          UUID         NOT NULL,
+    token       VARCHAR(255),
+    user_id     UUID         NOT NULL,
+    expiry_date TIMESTAMP(6),
+    CONSTRAINT pk_password_reset_token PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_token_user UNIQUE (user_id),
+    CONSTRAINT fk_password_reset_token_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE contract_templates (
+    id          UUID         NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    content     TEXT         NOT NULL,
+    description TEXT,
+    is_active   BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_contract_templates PRIMARY KEY (id),
+    CONSTRAINT uk_contract_templates_name UNIQUE (name)
+);
+
+CREATE TABLE houses (
+    id                      UUID           NOT NULL,
+    property_code           VARCHAR(255)   NOT NULL,
+    name                    VARCHAR(255)   NOT NULL,
+    description             TEXT,
+    house_type              VARCHAR(255)   NOT NULL,
+    landlord_id             UUID           NOT NULL,
+    street_address          VARCHAR(255),
+    district                VARCHAR(255),
+    region                  VARCHAR(255),
+    country                 VARCHAR(255),
+    total_floors            INTEGER,
+    year_built              INTEGER,
+    has_parking             BOOLEAN,
+    has_security            BOOLEAN,
+    has_water               BOOLEAN,
+    has_electricity         BOOLEAN,
+    monthly_common_charges  NUMERIC(38, 2),
+    created_at              TIMESTAMP(6)   NOT NULL,
+    updated_at              TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_houses PRIMARY KEY (id),
+    CONSTRAINT uk_houses_property_code UNIQUE (property_code),
+    CONSTRAINT fk_houses_landlord FOREIGN KEY (landlord_id) REFERENCES landlords (id)
+);
+
+CREATE TABLE house_image_urls (
+    house_id  UUID NOT NULL,
+    image_url VARCHAR(255),
+    CONSTRAINT fk_house_image_urls_house FOREIGN KEY (house_id) REFERENCES houses (id)
+);
+
+CREATE TABLE rooms (
+    id           UUID           NOT NULL,
+    house_id     UUID           NOT NULL,
+    room_number  VARCHAR(255)   NOT NULL,
+    description  TEXT,
+    monthly_rent NUMERIC(38, 2) NOT NULL,
+    status       VARCHAR(255)   NOT NULL,
+    size         VARCHAR(255),
+    created_at   TIMESTAMP(6)   NOT NULL,
+    updated_at   TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_rooms PRIMARY KEY (id),
+    CONSTRAINT fk_rooms_house FOREIGN KEY (house_id) REFERENCES houses (id)
+);
+
+CREATE TABLE room_image_urls (
+    room_id   UUID NOT NULL,
+    image_url VARCHAR(255),
+    CONSTRAINT fk_room_image_urls_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+);
+
+CREATE TABLE tenants (
+    id                      UUID         NOT NULL,
+    landlord_id             UUID         NOT NULL,
+    first_name              VARCHAR(255) NOT NULL,
+    last_name               VARCHAR(255) NOT NULL,
+    email                   VARCHAR(255) NOT NULL,
+    phone_number            VARCHAR(255) NOT NULL,
+    national_id             VARCHAR(255),
+    emergency_contact_name  VARCHAR(255),
+    emergency_contact_phone VARCHAR(255),
+    active                  BOOLEAN      NOT NULL,
+    created_at              TIMESTAMP(6) NOT NULL,
+    updated_at              TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_tenants PRIMARY KEY (id),
+    CONSTRAINT uk_tenants_email UNIQUE (email),
+    CONSTRAINT uk_tenants_phone_number UNIQUE (phone_number),
+    CONSTRAINT uk_tenants_national_id UNIQUE (national_id),
+    CONSTRAINT fk_tenants_landlord FOREIGN KEY (landlord_id) REFERENCES landlords (id)
+);
+
+CREATE TABLE leases (
+    id                    UUID           NOT NULL,
+    tenant_id             UUID           NOT NULL,
+    room_id               UUID           NOT NULL,
+    start_date            DATE           NOT NULL,
+    end_date              DATE           NOT NULL,
+    rent_amount           NUMERIC(38, 2) NOT NULL,
+    payment_period        VARCHAR(255)   NOT NULL,
+    status                VARCHAR(255)   NOT NULL,
+    contract_document_url VARCHAR(255),
+    created_at            TIMESTAMP(6)   NOT NULL,
+    updated_at            TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_leases PRIMARY KEY (id),
+    CONSTRAINT uk_leases_room UNIQUE (room_id),
+    CONSTRAINT fk_leases_tenant FOREIGN KEY (tenant_id) REFERENCES tenants (id),
+    CONSTRAINT fk_leases_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+);
+
+CREATE TABLE payments (
+    id                    UUID           NOT NULL,
+    lease_id              UUID           NOT NULL,
+    amount_paid           NUMERIC(38, 2) NOT NULL,
+    payment_date          DATE           NOT NULL,
+    status                VARCHAR(255)   NOT NULL,
+    transaction_reference VARCHAR(255),
+    created_at            TIMESTAMP(6)   NOT NULL,
+    updated_at            TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_payments PRIMARY KEY (id),
+    CONSTRAINT fk_payments_lease FOREIGN KEY (lease_id) REFERENCES leases (id)
+);
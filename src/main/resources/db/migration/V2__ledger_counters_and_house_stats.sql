@@ -0,0 +1,80 @@
+-- Tables and columns added after the V1 baseline, backfilled from the existing rows so baselined
+-- databases start out consistent with the data they already hold.
+
+-- Room counts and occupied income per house, kept current by the room writes
+ALTER TABLE houses
+    ADD COLUMN total_rooms             INTEGER        DEFAULT 0 NOT NULL,
+    ADD COLUMN vacant_rooms            INTEGER        DEFAULT 0 NOT NULL,
+    ADD COLUMN occupied_rooms          INTEGER        DEFAULT 0 NOT NULL,
+    ADD COLUMN occupied_monthly_income NUMERIC(38, 2) DEFAULT 0 NOT NULL;
+
+UPDATE houses h
+SET total_rooms             = s.total_rooms,
+    vacant_rooms            = s.vacant_rooms,
+    occupied_rooms          = s.occupied_rooms,
+    occupied_monthly_income = s.occupied_monthly_income
+FROM (SELECT house_id,
+             COUNT(*)                                                           AS total_rooms,
+             COUNT(*) FILTER (WHERE status = 'VACANT')                          AS vacant_rooms,
+             COUNT(*) FILTER (WHERE status = 'OCCUPIED')                        AS occupied_rooms,
+             COALESCE(SUM(monthly_rent) FILTER (WHERE status = 'OCCUPIED'), 0) AS occupied_monthly_income
+      FROM rooms
+      GROUP BY house_id) s
+WHERE s.house_id = h.id;
+
+-- Expected rent and payments per lease and month
+CREATE TABLE rent_ledger (
+    id            UUID           NOT NULL,
+    lease_id      UUID           NOT NULL,
+    period_start  DATE           NOT NULL,
+    expected_rent NUMERIC(38, 2) NOT NULL,
+    amount_paid   NUMERIC(38, 2) NOT NULL,
+    balance       NUMERIC(38, 2) NOT NULL,
+    created_at    TIMESTAMP(6)   NOT NULL,
+    updated_at    TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_rent_ledger PRIMARY KEY (id),
+    CONSTRAINT uk_rent_ledger_lease_period UNIQUE (lease_id, period_start),
+    CONSTRAINT fk_rent_ledger_lease FOREIGN KEY (lease_id) REFERENCES leases (id)
+);
+
+CREATE INDEX idx_rent_ledger_period ON rent_ledger (period_start);
+
+-- Same rows as JpaRentLedgerRepository.insertFromLeasesAndPayments
+INSERT INTO rent_ledger (id, lease_id, period_start, expected_rent, amount_paid, balance, created_at, updated_at)
+SELECT gen_random_uuid(), COALESCE(e.lease_id, p.lease_id), COALESCE(e.period_start, p.period_start),
+       COALESCE(e.expected_rent, 0), COALESCE(p.amount_paid, 0),
+       COALESCE(e.expected_rent, 0) - COALESCE(p.amount_paid, 0), now(), now()
+FROM (SELECT l.id AS lease_id, CAST(m AS DATE) AS period_start, l.rent_amount AS expected_rent
+      FROM leases l
+               CROSS JOIN LATERAL generate_series(date_trunc('month', l.start_date),
+                                                  date_trunc('month', l.end_date), INTERVAL '1 month') m) e
+         FULL JOIN (SELECT lease_id, CAST(date_trunc('month', payment_date) AS DATE) AS period_start,
+                           SUM(amount_paid) AS amount_paid
+                    FROM payments
+                    GROUP BY lease_id, CAST(date_trunc('month', payment_date) AS DATE)) p
+                   ON p.lease_id = e.lease_id AND p.period_start = e.period_start;
+
+-- Amount collected per landlord and month, read by the dashboard
+CREATE TABLE landlord_monthly_income (
+    id               UUID           NOT NULL,
+    landlord_id      UUID           NOT NULL,
+    period_start     DATE           NOT NULL,
+    amount_collected NUMERIC(38, 2) NOT NULL,
+    created_at       TIMESTAMP(6)   NOT NULL,
+    updated_at       TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_landlord_monthly_income PRIMARY KEY (id),
+    CONSTRAINT uk_landlord_income_landlord_period UNIQUE (landlord_id, period_start),
+    CONSTRAINT fk_landlord_monthly_income_landlord FOREIGN KEY (landlord_id) REFERENCES landlords (id)
+);
+
+-- Same totals as LandlordIncomeService.reconcile
+INSERT INTO landlord_monthly_income (id, landlord_id, period_start, amount_collected, created_at, updated_at)
+SELECT gen_random_uuid(), h.landlord_id, CAST(date_trunc('month', p.payment_date) AS DATE), SUM(p.amount_paid), now(), now()
+FROM payments p
+         JOIN leases l ON l.id = p.lease_id
+         JOIN rooms r ON r.id = l.room_id
+         JOIN houses h ON h.id = r.house_id
+GROUP BY h.landlord_id, CAST(date_trunc('month', p.payment_date) AS DATE);
+
+-- Persisted token cut-off: tokens issued at or before it are refused (password reset, deactivation)
+ALTER TABLE users ADD COLUMN tokens_valid_after TIMESTAMP(6) WITH TIME ZONE;
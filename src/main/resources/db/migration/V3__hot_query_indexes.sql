@@ -0,0 +1,28 @@
+-- Indexes for the lookups issued by infrastructure/persistence/repository/jpa. Built concurrently so
+-- existing tables keep taking writes; Flyway runs CONCURRENTLY statements outside a transaction.
+-- Already covered: the unique indexes on rent_ledger(lease_id, period_start),
+-- landlord_monthly_income(landlord_id, period_start) and users(landlord_id).
+
+-- Keyset listings: parent filter, then the (created_at, id) seek and sort of KeysetQueries
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_houses_landlord_created ON houses (landlord_id, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rooms_house_created ON rooms (house_id, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payments_lease_created ON payments (lease_id, created_at, id);
+
+-- Rooms of a house by status and the per-house stats aggregation
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rooms_house_status ON rooms (house_id, status);
+
+-- findActiveLeaseByRoomId / existsActiveLeaseForRoom
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_leases_room_status ON leases (room_id, status);
+
+-- findByTenantId and the "has a lease with this landlord" subquery of the tenant listings and dashboard count
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_leases_tenant ON leases (tenant_id);
+
+-- Payments of a lease, optionally within a date range (listing, sums, exports)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payments_lease_date ON payments (lease_id, payment_date);
+
+-- Batched image URL loads for a page of houses or rooms
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_house_image_urls_house ON house_image_urls (house_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_room_image_urls_room ON room_image_urls (room_id);
+
+-- findByToken
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_password_reset_token_token ON password_reset_token (token);
@@ -115,7 +115,7 @@ class TanzaniaLandlordManagementSystemApplicationTests {
         // 3. Verify the house now has one room
         mockMvc.perform(get("/api/v1/houses/" + houseId + "/rooms"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data", hasSize(1)));
+                .andExpect(jsonPath("$.data.data", hasSize(1)));
     }
 
     @Test
@@ -202,8 +202,8 @@ class TanzaniaLandlordManagementSystemApplicationTests {
         // 2. Filter rooms by status
         mockMvc.perform(get("/api/v1/houses/" + house.getId() + "/rooms?status=VACANT"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].roomNumber", is("V1")));
+                .andExpect(jsonPath("$.data.data", hasSize(1)))
+                .andExpect(jsonPath("$.data.data[0].roomNumber", is("V1")));
 
         // 3. Filter houses by status
         mockMvc.perform(get("/api/v1/houses?status=VACANT"))
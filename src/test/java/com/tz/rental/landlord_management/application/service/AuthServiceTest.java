@@ -1,6 +1,7 @@
 package com.tz.rental.landlord_management.application.service;
 
 import com.tz.rental.landlord_management.application.dto.LandlordRegistrationRequest;
+import com.tz.rental.landlord_management.domain.event.UserSecurityChangedEvent;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.PasswordResetToken;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
@@ -14,6 +15,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
@@ -39,6 +41,9 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuthService authService;
 
@@ -108,6 +113,7 @@ class AuthServiceTest {
     void resetPassword_withValidToken_shouldChangePassword() {
         // Arrange
         UserEntity user = new UserEntity();
+        user.setUsername("testuser");
         user.setPassword("oldPassword");
         PasswordResetToken token = new PasswordResetToken();
         token.setUser(user);
@@ -124,6 +130,7 @@ class AuthServiceTest {
         verify(userRepository).save(userCaptor.capture());
         assertEquals("encodedNewPassword", userCaptor.getValue().getPassword());
         verify(passwordResetTokenRepository).delete(token);
+        verify(eventPublisher).publishEvent(new UserSecurityChangedEvent("testuser", UserSecurityChangedEvent.Reason.PASSWORD_RESET));
     }
 
     @Test
@@ -0,0 +1,101 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.domain.model.valueobject.Role;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentLandlordResolverTest {
+
+    @Mock
+    private JpaLandlordRepository landlordRepository;
+
+    @InjectMocks
+    private CurrentLandlordResolver currentLandlordResolver;
+
+    private LandlordEntity testLandlord;
+
+    @BeforeEach
+    void setUp() {
+        testLandlord = new LandlordEntity();
+        testLandlord.setId(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getCurrentLandlordId_shouldTakeIdFromLoadedPrincipalWithoutQuery() {
+        // Arrange
+        UserEntity user = new UserEntity();
+        user.setUsername("testuser");
+        user.setRole(Role.ROLE_LANDLORD);
+        user.setLandlord(testLandlord);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        // Act
+        UUID landlordId = currentLandlordResolver.getCurrentLandlordId();
+
+        // Assert
+        assertEquals(testLandlord.getId(), landlordId);
+        verify(landlordRepository, never()).findByUserUsername(anyString());
+    }
+
+    @Test
+    void getCurrentLandlordId_shouldLookUpUsernameOnceAcrossRequests() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("testuser", "password"));
+        when(landlordRepository.findByUserUsername("testuser")).thenReturn(Optional.of(testLandlord));
+
+        // Act
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        UUID first = currentLandlordResolver.getCurrentLandlordId();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        UUID second = currentLandlordResolver.getCurrentLandlordId();
+
+        // Assert
+        assertEquals(testLandlord.getId(), first);
+        assertEquals(first, second);
+        verify(landlordRepository, times(1)).findByUserUsername("testuser");
+    }
+
+    @Test
+    void getCurrentLandlordId_shouldRejectUserWithoutLandlord() {
+        // Arrange
+        UserEntity admin = new UserEntity();
+        admin.setUsername("admin");
+        admin.setRole(Role.ROLE_ADMIN);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities()));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> currentLandlordResolver.getCurrentLandlordId());
+    }
+}
@@ -1,67 +1,61 @@
 package com.tz.rental.landlord_management.application.service;
 
+import com.tz.rental.landlord_management.application.dto.CacheStatsResponse;
 import com.tz.rental.landlord_management.application.dto.DashboardResponse;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
 import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
-import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.DashboardStatsProjection;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
-import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
-import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaTenantRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.math.BigDecimal;
-import java.util.Optional;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class DashboardServiceTest {
 
     @Mock
-    private JpaHouseRepository houseRepository;
-
-    @Mock
-    private JpaRoomRepository roomRepository;
-
-    @Mock
-    private JpaTenantRepository tenantRepository;
+    private JpaLandlordRepository landlordRepository;
 
     @Mock
-    private JpaLandlordRepository landlordRepository;
+    private CurrentLandlordResolver currentLandlordResolver;
 
     @InjectMocks
     private DashboardService dashboardService;
 
     private LandlordEntity testLandlord;
+    private LocalDate currentMonth;
 
     @BeforeEach
     void setUp() {
-        // Mock the security context to simulate a logged-in user
         testLandlord = new LandlordEntity();
         testLandlord.setId(UUID.randomUUID());
-        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("testuser", "password"));
+        currentMonth = YearMonth.now().atDay(1);
 
-        when(landlordRepository.findByUserUsername("testuser")).thenReturn(Optional.of(testLandlord));
+        // The resolver stands in for the logged-in landlord
+        when(currentLandlordResolver.getCurrentLandlordId()).thenReturn(testLandlord.getId());
     }
 
     @Test
     void getDashboardStats_shouldReturnCorrectlyCalculatedStats() {
-        // Arrange: Define what the mocked repositories should return when called
-        when(houseRepository.countByLandlord(testLandlord)).thenReturn(5L);
-        when(roomRepository.countByHouseLandlord(testLandlord)).thenReturn(20L);
-        when(roomRepository.countByHouseLandlordAndStatus(testLandlord, RoomStatus.OCCUPIED)).thenReturn(15L);
-        when(tenantRepository.countByLandlord(testLandlord)).thenReturn(12L);
-        when(roomRepository.sumMonthlyRentByLandlordAndStatus(testLandlord, RoomStatus.OCCUPIED))
-                .thenReturn(new BigDecimal("2500000.00"));
+        // Arrange: Define what the aggregate query should return when called
+        when(landlordRepository.findDashboardStats(testLandlord.getId(), RoomStatus.OCCUPIED, currentMonth))
+                .thenReturn(stats(5L, 20L, 15L, 12L, new BigDecimal("2500000.00"), new BigDecimal("1800000.00")));
 
         // Act: Call the method we are testing
         DashboardResponse response = dashboardService.getDashboardStats();
@@ -73,6 +67,53 @@ class DashboardServiceTest {
         assertEquals(5L, response.getVacantRooms()); // 20 total - 15 occupied
         assertEquals(12L, response.getTotalTenants());
         assertEquals(new BigDecimal("2500000.00"), response.getExpectedMonthlyIncome());
-        assertEquals(BigDecimal.ZERO, response.getActualMonthlyIncome()); // As per current implementation
+        assertEquals(new BigDecimal("1800000.00"), response.getActualMonthlyIncome()); // From this month's income counter
+    }
+
+    @Test
+    void getDashboardStats_shouldServeRepeatedReadsFromMemory() {
+        // Arrange
+        when(landlordRepository.findDashboardStats(testLandlord.getId(), RoomStatus.OCCUPIED, currentMonth))
+                .thenReturn(stats(5L, 20L, 15L, 12L, BigDecimal.ZERO, BigDecimal.ZERO));
+
+        // Act
+        DashboardResponse first = dashboardService.getDashboardStats();
+        DashboardResponse second = dashboardService.getDashboardStats();
+
+        // Assert
+        assertSame(first, second);
+        verify(landlordRepository, times(1)).findDashboardStats(testLandlord.getId(), RoomStatus.OCCUPIED, currentMonth);
+        CacheStatsResponse stats = dashboardService.getCacheStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    void getDashboardStats_shouldReloadAfterLandlordDataChanged() {
+        // Arrange
+        when(landlordRepository.findDashboardStats(testLandlord.getId(), RoomStatus.OCCUPIED, currentMonth))
+                .thenReturn(stats(5L, 20L, 15L, 12L, BigDecimal.ZERO, BigDecimal.ZERO), stats(6L, 20L, 15L, 12L, BigDecimal.ZERO, BigDecimal.ZERO));
+        dashboardService.getDashboardStats();
+
+        // Act
+        dashboardService.onLandlordDataChanged(new LandlordDataChangedEvent(
+                new Landlord.LandlordId(testLandlord.getId()), LandlordDataChangedEvent.Source.HOUSE));
+        DashboardResponse response = dashboardService.getDashboardStats();
+
+        // Assert
+        assertEquals(6L, response.getTotalProperties());
+        assertEquals(1, dashboardService.getCacheStats().getInvalidationCount());
+    }
+
+    private DashboardStatsProjection stats(long properties, long rooms, long occupied, long tenants,
+                                           BigDecimal expectedIncome, BigDecimal actualIncome) {
+        return new DashboardStatsProjection() {
+            public Long getTotalProperties() { return properties; }
+            public Long getTotalRooms() { return rooms; }
+            public Long getOccupiedRooms() { return occupied; }
+            public Long getTotalTenants() { return tenants; }
+            public BigDecimal getExpectedMonthlyIncome() { return expectedIncome; }
+            public BigDecimal getActualMonthlyIncome() { return actualIncome; }
+        };
     }
-}
\ No newline at end of file
+}
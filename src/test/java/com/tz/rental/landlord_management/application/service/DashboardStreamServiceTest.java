@@ -0,0 +1,129 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.DashboardResponse;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardStreamServiceTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private CurrentLandlordResolver currentLandlordResolver;
+
+    private DashboardStreamService dashboardStreamService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardStreamService = new DashboardStreamService(dashboardService, currentLandlordResolver, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardStreamService.shutdown();
+    }
+
+    @Test
+    void diff_shouldOnlyContainChangedFigures() {
+        // Arrange
+        DashboardResponse previous = stats(10, 4, "400000.00");
+        DashboardResponse current = stats(10, 5, "500000.0");
+
+        // Act
+        Map<String, Object> delta = DashboardStreamService.diff(previous, current);
+
+        // Assert
+        assertEquals(List.of("occupiedRooms", "vacantRooms", "expectedMonthlyIncome"), List.copyOf(delta.keySet()));
+        assertEquals(5L, delta.get("occupiedRooms"));
+        assertEquals(5L, delta.get("vacantRooms"));
+    }
+
+    @Test
+    void diff_shouldIgnoreAmountScale() {
+        assertEquals(Map.of(), DashboardStreamService.diff(stats(10, 4, "400000.00"), stats(10, 4, "400000")));
+    }
+
+    @Test
+    void onLandlordDataChanged_shouldSkipLandlordsWithoutSubscribers() {
+        // Act
+        dashboardStreamService.onLandlordDataChanged(new LandlordDataChangedEvent(
+                new Landlord.LandlordId(UUID.randomUUID()), LandlordDataChangedEvent.Source.PAYMENT));
+
+        // Assert
+        verifyNoInteractions(dashboardService);
+    }
+
+    @Test
+    void onLandlordDataChanged_shouldRefreshOneAtATimeAndCoalesceChanges() throws InterruptedException {
+        // Arrange
+        UUID landlordId = UUID.randomUUID();
+        when(currentLandlordResolver.getCurrentLandlordId()).thenReturn(landlordId);
+        when(dashboardService.getDashboardStats(landlordId)).thenReturn(stats(10, 4, "400000"));
+        CountDownLatch firstRefreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRefresh = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger refreshes = new AtomicInteger();
+        when(dashboardService.refreshDashboardStats(landlordId)).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            if (refreshes.incrementAndGet() == 1) {
+                firstRefreshStarted.countDown();
+                releaseFirstRefresh.await(5, TimeUnit.SECONDS);
+            }
+            running.decrementAndGet();
+            return stats(10, 4 + refreshes.get(), "400000");
+        });
+        dashboardStreamService.subscribe();
+        LandlordDataChangedEvent event = new LandlordDataChangedEvent(
+                new Landlord.LandlordId(landlordId), LandlordDataChangedEvent.Source.PAYMENT);
+
+        // Act
+        dashboardStreamService.onLandlordDataChanged(event);
+        assertTrue(firstRefreshStarted.await(5, TimeUnit.SECONDS));
+        dashboardStreamService.onLandlordDataChanged(event);
+        dashboardStreamService.onLandlordDataChanged(event);
+        releaseFirstRefresh.countDown();
+
+        // Assert
+        verify(dashboardService, timeout(5000).times(2)).refreshDashboardStats(landlordId);
+        verify(dashboardService, after(200).times(2)).refreshDashboardStats(landlordId);
+        assertEquals(1, maxRunning.get());
+    }
+
+    private DashboardResponse stats(long totalRooms, long occupiedRooms, String expectedIncome) {
+        return DashboardResponse.builder()
+                .totalProperties(2)
+                .totalRooms(totalRooms)
+                .occupiedRooms(occupiedRooms)
+                .vacantRooms(totalRooms - occupiedRooms)
+                .totalTenants(3)
+                .expectedMonthlyIncome(new BigDecimal(expectedIncome))
+                .actualMonthlyIncome(BigDecimal.ZERO)
+                .build();
+    }
+}
@@ -7,21 +7,20 @@ import com.tz.rental.landlord_management.domain.model.valueobject.HouseType;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
-import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +28,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,7 +39,13 @@ class HouseServiceTest {
     private JpaHouseRepository houseRepository;
 
     @Mock
-    private JpaLandlordRepository landlordRepository;
+    private CurrentLandlordResolver currentLandlordResolver;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private HouseOccupancyIndex occupancyIndex;
 
     @InjectMocks
     private HouseService houseService;
@@ -53,10 +59,6 @@ class HouseServiceTest {
         testLandlord = new LandlordEntity();
         testLandlord.setId(UUID.randomUUID());
 
-        // Mock the security context to simulate a logged-in user
-        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("testuser", "password"));
-        when(landlordRepository.findByUserUsername("testuser")).thenReturn(Optional.of(testLandlord));
-
         testHouse = new HouseEntity();
         testHouse.setId(UUID.randomUUID());
         testHouse.setLandlord(testLandlord);
@@ -74,6 +76,7 @@ class HouseServiceTest {
     void createHouse_shouldSaveAndReturnHouseResponse() {
         // Arrange
         when(houseRepository.findByPropertyCode(any(String.class))).thenReturn(Optional.empty());
+        when(currentLandlordResolver.getCurrentLandlordReference()).thenReturn(testLandlord);
         when(houseRepository.save(any(HouseEntity.class))).thenReturn(testHouse);
 
         // Act
@@ -98,15 +101,35 @@ class HouseServiceTest {
         assertEquals(testHouse.getId(), response.getId());
     }
 
+    @Test
+    void getHouseById_shouldReturnStoredRoomStats() {
+        // Arrange
+        testHouse.setTotalRooms(4);
+        testHouse.setVacantRooms(1);
+        testHouse.setOccupiedRooms(3);
+        testHouse.setOccupiedMonthlyIncome(new BigDecimal("300000"));
+        when(houseRepository.findById(testHouse.getId())).thenReturn(Optional.of(testHouse));
+
+        // Act
+        HouseResponse response = houseService.getHouseById(testHouse.getId(), false);
+
+        // Assert
+        assertEquals(4, response.getStats().getTotalRooms());
+        assertEquals(3, response.getStats().getOccupiedRooms());
+        assertEquals(1, response.getStats().getVacantRooms());
+        assertEquals(new BigDecimal("300000"), response.getStats().getMonthlyIncome());
+    }
+
     @Test
     void getAllHouses_shouldReturnPaginatedResponse() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
+        when(currentLandlordResolver.getCurrentLandlordId()).thenReturn(testLandlord.getId());
         Page<HouseEntity> housePage = new PageImpl<>(Collections.singletonList(testHouse), pageable, 1);
         when(houseRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(housePage);
 
         // Act
-        PaginatedResponse<List<HouseResponse>> response = houseService.getAllHouses(pageable, null);
+        PaginatedResponse<List<HouseResponse>> response = houseService.getAllHouses(pageable, null, false);
 
         // Assert
         assertNotNull(response);
@@ -114,6 +137,39 @@ class HouseServiceTest {
         assertEquals(0, response.getPagination().getCurrentPage());
     }
 
+    @Test
+    void getAllHouses_shouldFetchVacantHousesByIndexedIds() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(currentLandlordResolver.getCurrentLandlordId()).thenReturn(testLandlord.getId());
+        Page<HouseEntity> housePage = new PageImpl<>(Collections.singletonList(testHouse), pageable, 1);
+        when(occupancyIndex.findVacantHouseIds(testLandlord.getId())).thenReturn(List.of(testHouse.getId()));
+        when(houseRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(housePage);
+
+        // Act
+        PaginatedResponse<List<HouseResponse>> response = houseService.getAllHouses(pageable, "VACANT", false);
+
+        // Assert
+        assertEquals(1, response.getData().size());
+        assertEquals(testHouse.getId(), response.getData().get(0).getId());
+    }
+
+    @Test
+    void getAllHouses_shouldSkipQueryWhenNoHouseMatchesStatus() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(currentLandlordResolver.getCurrentLandlordId()).thenReturn(testLandlord.getId());
+        when(occupancyIndex.findFullyOccupiedHouseIds(testLandlord.getId())).thenReturn(List.of());
+
+        // Act
+        PaginatedResponse<List<HouseResponse>> response = houseService.getAllHouses(pageable, "OCCUPIED", false);
+
+        // Assert
+        assertTrue(response.getData().isEmpty());
+        assertEquals(0, response.getPagination().getTotalItems());
+        verify(houseRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
     @Test
     void updateHouse_shouldUpdateAndReturnHouseResponse() {
         // Arrange
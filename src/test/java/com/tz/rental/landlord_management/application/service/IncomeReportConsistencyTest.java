@@ -0,0 +1,131 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.IncomeRangeMonth;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReport;
+import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReport;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Pins the income range report to the single-month report: every month of a range must carry the same totals
+// as generateMonthlyIncomeSummary for that month, including leases that have since been terminated
+@SpringBootTest
+@Testcontainers
+@Transactional
+class IncomeReportConsistencyTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("test_db")
+            .withUsername("test_user")
+            .withPassword("test_pass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RentLedgerService rentLedgerService;
+
+    @Autowired
+    private ReportingService reportingService;
+
+    private Landlord.LandlordId landlordId;
+
+    @BeforeEach
+    void setUp() {
+        UUID landlord = UUID.randomUUID();
+        UUID house = UUID.randomUUID();
+        landlordId = new Landlord.LandlordId(landlord);
+        jdbcTemplate.update("INSERT INTO landlords (id, first_name, last_name, email, phone_number, is_active, created_at, updated_at) " +
+                "VALUES (?, 'John', 'Doe', ?, ?, true, now(), now())", landlord, "income-" + landlord + "@example.com",
+                landlord.toString().substring(0, 12));
+        jdbcTemplate.update("INSERT INTO houses (id, property_code, name, house_type, landlord_id, created_at, updated_at) " +
+                "VALUES (?, ?, 'Income House', 'APARTMENT', ?, now(), now())", house, "INC-" + house, landlord);
+
+        // Terminated at the end of February, with one late payment in April after the term
+        UUID terminated = insertLease(landlord, house, "R1", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 28),
+                "100000", "TERMINATED");
+        insertPayment(terminated, LocalDate.of(2025, 1, 5), "100000");
+        insertPayment(terminated, LocalDate.of(2025, 2, 5), "50000");
+        insertPayment(terminated, LocalDate.of(2025, 4, 10), "20000");
+
+        UUID active = insertLease(landlord, house, "R2", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                "150000", "ACTIVE");
+        insertPayment(active, LocalDate.of(2025, 1, 3), "150000");
+        insertPayment(active, LocalDate.of(2025, 3, 3), "150000");
+
+        rentLedgerService.rebuild();
+    }
+
+    @Test
+    void incomeRangeReport_shouldMatchMonthlySummaryForEveryMonth() {
+        // Act
+        IncomeRangeReport range = reportingService.generateIncomeRangeReport(landlordId, YearMonth.of(2025, 1), YearMonth.of(2025, 4));
+
+        // Assert
+        assertEquals(4, range.getMonths().size());
+        for (IncomeRangeMonth month : range.getMonths()) {
+            MonthlyIncomeReport summary = reportingService.generateMonthlyIncomeSummary(landlordId, month.getMonth());
+            assertEquals(0, summary.getTotalExpectedIncome().compareTo(month.getExpectedIncome()), () -> "expected income of " + month.getMonth());
+            assertEquals(0, summary.getTotalActualIncome().compareTo(month.getActualIncome()), () -> "actual income of " + month.getMonth());
+            assertEquals(0, summary.getTotalOutstandingBalance().compareTo(month.getOutstandingBalance()), () -> "balance of " + month.getMonth());
+        }
+    }
+
+    @Test
+    void incomeReports_shouldKeepTerminatedLeasesAndPaymentsOutsideTheTerm() {
+        // Act
+        MonthlyIncomeReport january = reportingService.generateMonthlyIncomeReport(landlordId, YearMonth.of(2025, 1));
+        MonthlyIncomeReport april = reportingService.generateMonthlyIncomeReport(landlordId, YearMonth.of(2025, 4));
+
+        // Assert
+        assertEquals(2, january.getEntries().size());
+        assertEquals(0, new BigDecimal("250000").compareTo(january.getTotalExpectedIncome()));
+        assertEquals(0, new BigDecimal("250000").compareTo(january.getTotalActualIncome()));
+        assertEquals(2, april.getEntries().size());
+        assertEquals(0, new BigDecimal("150000").compareTo(april.getTotalExpectedIncome()));
+        assertEquals(0, new BigDecimal("20000").compareTo(april.getTotalActualIncome()));
+    }
+
+    private UUID insertLease(UUID landlord, UUID house, String roomNumber, LocalDate start, LocalDate end, String rent, String status) {
+        UUID room = UUID.randomUUID();
+        UUID tenant = UUID.randomUUID();
+        UUID lease = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO rooms (id, house_id, room_number, monthly_rent, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, 'OCCUPIED', now(), now())", room, house, roomNumber, new BigDecimal(rent));
+        jdbcTemplate.update("INSERT INTO tenants (id, landlord_id, first_name, last_name, email, phone_number, active, created_at, updated_at) " +
+                "VALUES (?, ?, 'Tenant', ?, ?, ?, true, now(), now())", tenant, landlord, roomNumber,
+                "tenant-" + tenant + "@example.com", tenant.toString().substring(0, 12));
+        jdbcTemplate.update("INSERT INTO leases (id, tenant_id, room_id, start_date, end_date, rent_amount, payment_period, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'MONTHLY', ?, now(), now())", lease, tenant, room, start, end, new BigDecimal(rent), status);
+        return lease;
+    }
+
+    private void insertPayment(UUID lease, LocalDate paymentDate, String amount) {
+        jdbcTemplate.update("INSERT INTO payments (id, lease_id, amount_paid, payment_date, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, 'PAID', now(), now())", UUID.randomUUID(), lease, new BigDecimal(amount), paymentDate);
+    }
+}
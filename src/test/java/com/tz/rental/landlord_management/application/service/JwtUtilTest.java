@@ -0,0 +1,90 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.domain.model.valueobject.Role;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "YmFzZTY0LWVuY29kZWQtc3VwZXItc2VjcmV0LWtleS1mb3Itand0LXRlc3RpbmctcHJvamVjdA==");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 120_000L);
+        jwtUtil.init();
+
+        LandlordEntity landlord = new LandlordEntity();
+        landlord.setId(UUID.randomUUID());
+        user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setUsername("testuser");
+        user.setRole(Role.ROLE_LANDLORD);
+        user.setLandlord(landlord);
+    }
+
+    @Test
+    void buildPrincipal_shouldRestoreUserFromAccessTokenClaims() {
+        // Arrange
+        Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateToken(user));
+
+        // Act
+        Optional<UserEntity> principal = jwtUtil.buildPrincipal(claims);
+
+        // Assert
+        assertTrue(principal.isPresent());
+        assertEquals(user.getId(), principal.get().getId());
+        assertEquals("testuser", principal.get().getUsername());
+        assertEquals(Role.ROLE_LANDLORD, principal.get().getRole());
+        assertEquals(user.getLandlord().getId(), principal.get().getLandlord().getId());
+    }
+
+    @Test
+    void buildPrincipal_shouldBeEmptyForTokenWithoutUserClaims() {
+        // Arrange
+        Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateRefreshToken(user));
+
+        // Act
+        Optional<UserEntity> principal = jwtUtil.buildPrincipal(claims);
+
+        // Assert
+        assertTrue(principal.isEmpty());
+    }
+
+    @Test
+    void extractAllClaims_shouldVerifyOnceAndServeRepeatedTokenFromCache() {
+        // Arrange
+        String token = jwtUtil.generateToken(user);
+
+        // Act
+        Claims first = jwtUtil.extractAllClaims(token);
+        Claims second = jwtUtil.extractAllClaims(token);
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(jwtUtil.validateToken(token, user));
+    }
+
+    @Test
+    void extractAllClaims_shouldRejectTamperedToken() {
+        // Arrange
+        String token = jwtUtil.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtUtil.extractAllClaims(tampered));
+    }
+}
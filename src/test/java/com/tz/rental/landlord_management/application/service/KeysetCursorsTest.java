@@ -0,0 +1,71 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
+import com.tz.rental.landlord_management.application.dto.TenantResponse;
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.KeysetSlice;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorsTest {
+
+    @Test
+    void toResponse_shouldEncodeCursorsThatDecodeToTheEdgeRows() {
+        // Arrange
+        TenantResponse first = tenant(LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123_456_000));
+        TenantResponse last = tenant(LocalDateTime.of(2025, 1, 2, 9, 0));
+        KeysetSlice<TenantResponse> slice = new KeysetSlice<>(List.of(first, last), true, true);
+
+        // Act
+        CursorPaginatedResponse<List<TenantResponse>> response =
+                KeysetCursors.toResponse(slice, 2, null, TenantResponse::getCreatedAt, TenantResponse::getId);
+        KeysetRequest next = KeysetCursors.decode(response.getPagination().getNextCursor(), 2);
+        KeysetRequest previous = KeysetCursors.decode(response.getPagination().getPreviousCursor(), 2);
+
+        // Assert
+        assertEquals(2, response.getData().size());
+        assertNull(response.getPagination().getTotalItems());
+        assertEquals(new KeysetRequest(last.getCreatedAt(), last.getId(), false, 2), next);
+        assertEquals(new KeysetRequest(first.getCreatedAt(), first.getId(), true, 2), previous);
+    }
+
+    @Test
+    void toResponse_shouldOmitCursorsAtTheEnds() {
+        // Arrange
+        KeysetSlice<TenantResponse> slice = new KeysetSlice<>(List.of(tenant(LocalDateTime.now())), false, false);
+
+        // Act
+        CursorPaginatedResponse<List<TenantResponse>> response =
+                KeysetCursors.toResponse(slice, 20, 1L, TenantResponse::getCreatedAt, TenantResponse::getId);
+
+        // Assert
+        assertNull(response.getPagination().getNextCursor());
+        assertNull(response.getPagination().getPreviousCursor());
+        assertEquals(1L, response.getPagination().getTotalItems());
+    }
+
+    @Test
+    void decode_shouldStartAtTheFirstPageWithoutCursor() {
+        assertTrue(KeysetCursors.decode(null, 20).isFirstPage());
+    }
+
+    @Test
+    void decode_shouldRejectTamperedCursorAndOutOfRangeLimit() {
+        assertThrows(ValidationException.class, () -> KeysetCursors.decode("not-a-cursor", 20));
+        assertThrows(ValidationException.class, () -> KeysetCursors.decode(null, 0));
+        assertThrows(ValidationException.class, () -> KeysetCursors.decode(null, KeysetCursors.MAX_LIMIT + 1));
+    }
+
+    private TenantResponse tenant(LocalDateTime createdAt) {
+        TenantResponse tenant = new TenantResponse();
+        tenant.setId(UUID.randomUUID());
+        tenant.setCreatedAt(createdAt);
+        return tenant;
+    }
+}
@@ -0,0 +1,130 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordIncomeEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.LandlordMonthlyPaymentTotalProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordIncomeRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaPaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LandlordIncomeServiceTest {
+
+    @Mock
+    private JpaLandlordIncomeRepository incomeRepository;
+
+    @Mock
+    private JpaLandlordRepository landlordRepository;
+
+    @Mock
+    private JpaPaymentRepository paymentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private LandlordIncomeService landlordIncomeService;
+
+    private LandlordEntity testLandlord;
+    private LocalDate january;
+
+    @BeforeEach
+    void setUp() {
+        testLandlord = new LandlordEntity();
+        testLandlord.setId(UUID.randomUUID());
+        january = LocalDate.of(2025, 1, 1);
+    }
+
+    @Test
+    void recordPayment_shouldUpsertTheMonthCounter() {
+        // Act
+        landlordIncomeService.recordPayment(new Landlord.LandlordId(testLandlord.getId()), LocalDate.of(2025, 1, 20), new BigDecimal("50000"));
+
+        // Assert
+        verify(incomeRepository).addCollected(any(UUID.class), eq(testLandlord.getId()), eq(january), eq(new BigDecimal("50000")));
+    }
+
+    @Test
+    void reversePayment_shouldSubtractFromTheMonthCounter() {
+        // Act
+        landlordIncomeService.reversePayment(new Landlord.LandlordId(testLandlord.getId()), LocalDate.of(2025, 1, 20), new BigDecimal("50000"));
+
+        // Assert
+        verify(incomeRepository).addCollected(any(UUID.class), eq(testLandlord.getId()), eq(january), eq(new BigDecimal("-50000")));
+    }
+
+    @Test
+    void reconcile_shouldCorrectDriftedAndMissingCountersOneLandlordAtATime() {
+        // Arrange
+        UUID untouchedLandlordId = UUID.randomUUID();
+        LandlordIncomeEntity upToDate = counter(january, "100000.00");
+        LandlordIncomeEntity drifted = counter(january.plusMonths(1), "90000");
+        when(landlordRepository.findAllIds()).thenReturn(List.of(testLandlord.getId(), untouchedLandlordId));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(incomeRepository.findByLandlordIdForUpdate(testLandlord.getId())).thenReturn(List.of(upToDate, drifted));
+        when(paymentRepository.sumAmountByLandlordIdGroupedByMonth(testLandlord.getId())).thenReturn(List.of(
+                total(2025, 1, "100000"),
+                total(2025, 2, "120000"),
+                total(2025, 3, "30000")));
+        when(incomeRepository.findByLandlordIdForUpdate(untouchedLandlordId)).thenReturn(List.of());
+        when(paymentRepository.sumAmountByLandlordIdGroupedByMonth(untouchedLandlordId)).thenReturn(List.of());
+
+        // Act
+        int corrected = landlordIncomeService.reconcile();
+
+        // Assert
+        assertEquals(2, corrected);
+        assertEquals(new BigDecimal("100000.00"), upToDate.getAmountCollected());
+        assertEquals(new BigDecimal("120000"), drifted.getAmountCollected());
+        verify(incomeRepository).addCollected(any(UUID.class), eq(testLandlord.getId()), eq(january.plusMonths(2)), eq(new BigDecimal("30000")));
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(eventPublisher, times(1)).publishEvent(any(LandlordDataChangedEvent.class));
+        verify(eventPublisher).publishEvent(new LandlordDataChangedEvent(
+                new Landlord.LandlordId(testLandlord.getId()), LandlordDataChangedEvent.Source.PAYMENT));
+    }
+
+    private LandlordIncomeEntity counter(LocalDate periodStart, String amount) {
+        LandlordIncomeEntity counter = new LandlordIncomeEntity();
+        counter.setId(UUID.randomUUID());
+        counter.setLandlord(testLandlord);
+        counter.setPeriodStart(periodStart);
+        counter.setAmountCollected(new BigDecimal(amount));
+        return counter;
+    }
+
+    private LandlordMonthlyPaymentTotalProjection total(int year, int month, String amount) {
+        return new LandlordMonthlyPaymentTotalProjection() {
+            public UUID getLandlordId() { return testLandlord.getId(); }
+            public Integer getPaymentYear() { return year; }
+            public Integer getPaymentMonth() { return month; }
+            public BigDecimal getAmountPaid() { return new BigDecimal(amount); }
+        };
+    }
+}
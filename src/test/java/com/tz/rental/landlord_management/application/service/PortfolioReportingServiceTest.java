@@ -0,0 +1,112 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReport;
+import com.tz.rental.landlord_management.application.dto.PortfolioIncomeReport;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.LandlordNameProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioReportingServiceTest {
+
+    private static final int DB_CONCURRENCY = 2;
+
+    @Mock
+    private ReportingService reportingService;
+
+    @Mock
+    private JpaLandlordRepository jpaLandlordRepository;
+
+    @Mock
+    private JpaRoomRepository jpaRoomRepository;
+
+    private PortfolioReportingService portfolioReportingService;
+
+    @BeforeEach
+    void setUp() {
+        portfolioReportingService = new PortfolioReportingService(reportingService, jpaLandlordRepository, jpaRoomRepository, DB_CONCURRENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        portfolioReportingService.shutdown();
+    }
+
+    @Test
+    void generateMonthlyIncomeReport_shouldMergeLandlordsInOrderWithinDbConcurrencyLimit() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2025, 1);
+        List<LandlordNameProjection> landlords = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            landlords.add(landlord(UUID.randomUUID(), "Landlord" + i));
+        }
+        when(jpaLandlordRepository.findAllNames()).thenReturn(landlords);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(reportingService.generateMonthlyIncomeSummary(any(), eq(yearMonth))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return MonthlyIncomeReport.builder()
+                    .reportMonth(yearMonth)
+                    .totalExpectedIncome(new BigDecimal("1000"))
+                    .totalActualIncome(new BigDecimal("600"))
+                    .totalOutstandingBalance(new BigDecimal("400"))
+                    .build();
+        });
+
+        // Act
+        PortfolioIncomeReport report = portfolioReportingService.generateMonthlyIncomeReport(yearMonth);
+
+        // Assert
+        assertEquals(10, report.getLandlordCount());
+        assertEquals(new BigDecimal("10000"), report.getTotalExpectedIncome());
+        assertEquals(new BigDecimal("6000"), report.getTotalActualIncome());
+        assertEquals(new BigDecimal("4000"), report.getTotalOutstandingBalance());
+        for (int i = 0; i < landlords.size(); i++) {
+            assertEquals(landlords.get(i).getId(), report.getLandlords().get(i).getLandlordId());
+        }
+        assertTrue(maxRunning.get() <= DB_CONCURRENCY, "at most " + DB_CONCURRENCY + " landlords should query at once");
+    }
+
+    @Test
+    void generateMonthlyIncomeReport_shouldPropagateLandlordFailure() {
+        // Arrange
+        YearMonth yearMonth = YearMonth.of(2025, 1);
+        when(jpaLandlordRepository.findAllNames()).thenReturn(List.of(landlord(UUID.randomUUID(), "Broken")));
+        when(reportingService.generateMonthlyIncomeSummary(any(), eq(yearMonth)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> portfolioReportingService.generateMonthlyIncomeReport(yearMonth));
+        assertEquals("database unavailable", exception.getMessage());
+    }
+
+    private LandlordNameProjection landlord(UUID id, String lastName) {
+        return new LandlordNameProjection() {
+            public UUID getId() { return id; }
+            public String getFirstName() { return "Test"; }
+            public String getLastName() { return lastName; }
+        };
+    }
+}
@@ -0,0 +1,151 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.model.aggregate.Lease;
+import com.tz.rental.landlord_management.domain.model.valueobject.LeaseStatus;
+import com.tz.rental.landlord_management.domain.model.valueobject.PaymentPeriod;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LeaseEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.RentLedgerEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLeaseRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRentLedgerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RentLedgerServiceTest {
+
+    @Mock
+    private JpaRentLedgerRepository ledgerRepository;
+
+    @Mock
+    private JpaLeaseRepository leaseRepository;
+
+    @InjectMocks
+    private RentLedgerService rentLedgerService;
+
+    private UUID leaseId;
+    private Lease lease;
+
+    @BeforeEach
+    void setUp() {
+        leaseId = UUID.randomUUID();
+        lease = Lease.fromExisting(leaseId, UUID.randomUUID(), UUID.randomUUID(),
+                LocalDate.of(2025, 1, 15), LocalDate.of(2025, 3, 14), new BigDecimal("200000"),
+                PaymentPeriod.MONTHLY, LeaseStatus.ACTIVE, null, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void openLease_shouldExpectRentForEveryMonthOfTheLeaseAndKeepPaidAmounts() {
+        // Arrange
+        RentLedgerEntity january = row(LocalDate.of(2025, 1, 1), "0", "50000");
+        when(ledgerRepository.findByLeaseIdForUpdate(leaseId)).thenReturn(new ArrayList<>(List.of(january)));
+        when(leaseRepository.getReferenceById(leaseId)).thenReturn(leaseEntity());
+        ArgumentCaptor<Iterable<RentLedgerEntity>> saved = ArgumentCaptor.forClass(Iterable.class);
+
+        // Act
+        rentLedgerService.openLease(lease);
+
+        // Assert
+        verify(ledgerRepository).saveAll(saved.capture());
+        List<RentLedgerEntity> rows = new ArrayList<>();
+        saved.getValue().forEach(rows::add);
+        rows.sort(Comparator.comparing(RentLedgerEntity::getPeriodStart));
+        assertEquals(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1)),
+                rows.stream().map(RentLedgerEntity::getPeriodStart).toList());
+        assertSame(january, rows.get(0));
+        assertEquals(new BigDecimal("150000"), january.getBalance());
+        assertEquals(new BigDecimal("200000"), rows.get(2).getBalance());
+    }
+
+    @Test
+    void closeLease_shouldStopExpectingRentAfterTheNewEndDate() {
+        // Arrange
+        RentLedgerEntity february = row(LocalDate.of(2025, 2, 1), "200000", "0");
+        RentLedgerEntity march = row(LocalDate.of(2025, 3, 1), "200000", "20000");
+        when(ledgerRepository.findByLeaseIdForUpdate(leaseId)).thenReturn(List.of(february, march));
+        lease.terminate(LocalDate.of(2025, 2, 20));
+
+        // Act
+        rentLedgerService.closeLease(lease);
+
+        // Assert
+        assertEquals(new BigDecimal("200000"), february.getExpectedRent());
+        assertEquals(0, BigDecimal.ZERO.compareTo(march.getExpectedRent()));
+        assertEquals(new BigDecimal("-20000"), march.getBalance());
+        verify(ledgerRepository).saveAll(List.of(february, march));
+    }
+
+    @Test
+    void recordAndReversePayment_shouldUpsertTheDeltaOnThePaymentMonth() {
+        // Act
+        rentLedgerService.recordPayment(lease.getId(), LocalDate.of(2025, 2, 17), new BigDecimal("75000"));
+        rentLedgerService.reversePayment(lease.getId(), LocalDate.of(2025, 2, 17), new BigDecimal("75000"));
+
+        // Assert
+        InOrder order = inOrder(ledgerRepository);
+        order.verify(ledgerRepository).addPaid(any(UUID.class), eq(leaseId), eq(LocalDate.of(2025, 2, 1)), eq(new BigDecimal("75000")));
+        order.verify(ledgerRepository).addPaid(any(UUID.class), eq(leaseId), eq(LocalDate.of(2025, 2, 1)), eq(new BigDecimal("-75000")));
+    }
+
+    @Test
+    void rebuild_shouldReplaceTheLedgerWithOneSetBasedInsert() {
+        // Arrange
+        when(ledgerRepository.insertFromLeasesAndPayments()).thenReturn(42);
+
+        // Act
+        int rows = rentLedgerService.rebuild();
+
+        // Assert
+        assertEquals(42, rows);
+        InOrder order = inOrder(ledgerRepository);
+        order.verify(ledgerRepository).deleteAllInBatch();
+        order.verify(ledgerRepository).insertFromLeasesAndPayments();
+    }
+
+    @Test
+    void terminate_shouldRejectLeaseThatIsNotActive() {
+        // Arrange
+        lease.terminate(LocalDate.of(2025, 2, 20));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> lease.terminate(LocalDate.of(2025, 2, 25)));
+    }
+
+    private RentLedgerEntity row(LocalDate periodStart, String expectedRent, String amountPaid) {
+        RentLedgerEntity row = new RentLedgerEntity();
+        row.setId(UUID.randomUUID());
+        row.setPeriodStart(periodStart);
+        row.setExpectedRent(new BigDecimal(expectedRent));
+        row.setAmountPaid(new BigDecimal(amountPaid));
+        row.recalculateBalance();
+        return row;
+    }
+
+    private LeaseEntity leaseEntity() {
+        LeaseEntity entity = new LeaseEntity();
+        entity.setId(leaseId);
+        return entity;
+    }
+}
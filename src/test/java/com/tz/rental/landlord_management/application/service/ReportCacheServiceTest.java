@@ -0,0 +1,122 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.MonthlyIncomeReport;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportCacheServiceTest {
+
+    @Mock
+    private ReportingService reportingService;
+
+    @Mock
+    private PdfGenerationService pdfGenerationService;
+
+    @Mock
+    private ExcelGenerationService excelGenerationService;
+
+    private ReportCacheService reportCacheService;
+
+    private Landlord.LandlordId landlordId;
+    private YearMonth closedMonth;
+
+    @BeforeEach
+    void setUp() {
+        reportCacheService = new ReportCacheService(reportingService, pdfGenerationService, excelGenerationService,
+                100, Duration.ofHours(1));
+        landlordId = new Landlord.LandlordId(UUID.randomUUID());
+        closedMonth = YearMonth.now().minusMonths(2);
+    }
+
+    @Test
+    void getMonthlyIncomeReport_shouldServeClosedMonthFromCache() {
+        // Arrange
+        MonthlyIncomeReport report = MonthlyIncomeReport.builder().reportMonth(closedMonth).build();
+        when(reportingService.generateMonthlyIncomeReport(landlordId, closedMonth)).thenReturn(report);
+
+        // Act
+        ReportCacheService.CachedReport<MonthlyIncomeReport> first = reportCacheService.getMonthlyIncomeReport(landlordId, closedMonth);
+        ReportCacheService.CachedReport<MonthlyIncomeReport> second = reportCacheService.getMonthlyIncomeReport(landlordId, closedMonth);
+
+        // Assert
+        assertSame(report, second.content());
+        assertNotNull(first.etag());
+        assertEquals(first.etag(), second.etag());
+        assertEquals(first.lastModified(), second.lastModified());
+        verify(reportingService, times(1)).generateMonthlyIncomeReport(landlordId, closedMonth);
+    }
+
+    @Test
+    void getMonthlyIncomeReport_shouldNotCacheCurrentMonth() {
+        // Arrange
+        YearMonth currentMonth = YearMonth.now();
+        when(reportingService.generateMonthlyIncomeReport(landlordId, currentMonth))
+                .thenReturn(MonthlyIncomeReport.builder().reportMonth(currentMonth).build());
+
+        // Act
+        reportCacheService.getMonthlyIncomeReport(landlordId, currentMonth);
+        ReportCacheService.CachedReport<MonthlyIncomeReport> second = reportCacheService.getMonthlyIncomeReport(landlordId, currentMonth);
+
+        // Assert
+        assertNull(second.etag());
+        verify(reportingService, times(2)).generateMonthlyIncomeReport(landlordId, currentMonth);
+    }
+
+    @Test
+    void evictMonth_shouldOnlyDropEntriesOfThatLandlordAndMonth() throws IOException {
+        // Arrange
+        Landlord.LandlordId otherLandlordId = new Landlord.LandlordId(UUID.randomUUID());
+        YearMonth otherMonth = closedMonth.minusMonths(1);
+        MonthlyIncomeReport report = MonthlyIncomeReport.builder().reportMonth(closedMonth).build();
+        when(reportingService.generateMonthlyIncomeReport(any(), any())).thenReturn(report);
+        when(pdfGenerationService.generateMonthlyIncomePdf(report)).thenReturn(new byte[]{1});
+
+        reportCacheService.getMonthlyIncomePdf(landlordId, closedMonth);
+        reportCacheService.getMonthlyIncomeReport(landlordId, otherMonth);
+        reportCacheService.getMonthlyIncomeReport(otherLandlordId, closedMonth);
+
+        // Act
+        reportCacheService.evictMonth(landlordId, closedMonth.atDay(15));
+        reportCacheService.getMonthlyIncomePdf(landlordId, closedMonth);
+        reportCacheService.getMonthlyIncomeReport(landlordId, otherMonth);
+        reportCacheService.getMonthlyIncomeReport(otherLandlordId, closedMonth);
+
+        // Assert
+        verify(pdfGenerationService, times(2)).generateMonthlyIncomePdf(report);
+        verify(reportingService, times(2)).generateMonthlyIncomeReport(landlordId, closedMonth);
+        verify(reportingService, times(1)).generateMonthlyIncomeReport(landlordId, otherMonth);
+        verify(reportingService, times(1)).generateMonthlyIncomeReport(otherLandlordId, closedMonth);
+    }
+
+    @Test
+    void evictMonths_shouldDropEveryMonthOfAnOpenEndedLease() {
+        // Arrange
+        YearMonth earlierMonth = closedMonth.minusMonths(3);
+        when(reportingService.generateMonthlyIncomeReport(eq(landlordId), any()))
+                .thenReturn(MonthlyIncomeReport.builder().build());
+        reportCacheService.getMonthlyIncomeReport(landlordId, earlierMonth);
+        reportCacheService.getMonthlyIncomeReport(landlordId, closedMonth);
+
+        // Act
+        reportCacheService.evictMonths(landlordId, closedMonth.minusMonths(1).atDay(1), null);
+        reportCacheService.getMonthlyIncomeReport(landlordId, earlierMonth);
+        reportCacheService.getMonthlyIncomeReport(landlordId, closedMonth);
+
+        // Assert
+        verify(reportingService, times(1)).generateMonthlyIncomeReport(landlordId, earlierMonth);
+        verify(reportingService, times(2)).generateMonthlyIncomeReport(landlordId, closedMonth);
+    }
+}
@@ -0,0 +1,122 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tz.rental.landlord_management.application.dto.PaymentHistoryEntry;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.domain.model.valueobject.PaymentStatus;
+import com.tz.rental.landlord_management.domain.model.valueobject.Role;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportExportServiceTest {
+
+    @Mock
+    private ReportingService reportingService;
+
+    @Mock
+    private ExcelGenerationService excelGenerationService;
+
+    @Mock
+    private PdfGenerationService pdfGenerationService;
+
+    private ReportExportService reportExportService;
+
+    private Landlord.LandlordId landlordId;
+    private LocalDate from;
+    private LocalDate to;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        reportExportService = new ReportExportService(objectMapper, reportingService, excelGenerationService, pdfGenerationService);
+
+        LandlordEntity landlord = new LandlordEntity();
+        landlord.setId(UUID.randomUUID());
+        UserEntity user = new UserEntity();
+        user.setUsername("testuser");
+        user.setRole(Role.ROLE_LANDLORD);
+        user.setLandlord(landlord);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        landlordId = new Landlord.LandlordId(landlord.getId());
+        from = LocalDate.of(2025, 1, 1);
+        to = LocalDate.of(2025, 1, 31);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writePaymentHistoryRows_shouldWriteQuotedCsvWithHeader() throws Exception {
+        // Arrange
+        PaymentHistoryEntry entry = payment("Ref \"A\", January");
+        when(reportingService.streamPaymentHistory(landlordId, from, to)).thenReturn(Stream.of(entry));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        reportExportService.writePaymentHistoryRows(from, to, ReportExportService.ExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("payment_id,lease_id,tenant_name"));
+        assertTrue(lines[1].endsWith(",250000.00,2025-01-05,PAID,\"Ref \"\"A\"\", January\""));
+    }
+
+    @Test
+    void writePaymentHistoryRows_shouldWriteOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        when(reportingService.streamPaymentHistory(landlordId, from, to))
+                .thenReturn(Stream.of(payment("REF-1"), payment("REF-2")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        reportExportService.writePaymentHistoryRows(from, to, ReportExportService.ExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"transactionReference\":\"REF-1\""));
+        assertTrue(lines[1].contains("\"paymentDate\":\"2025-01-05\""));
+    }
+
+    private PaymentHistoryEntry payment(String reference) {
+        return PaymentHistoryEntry.builder()
+                .paymentId(UUID.randomUUID())
+                .leaseId(UUID.randomUUID())
+                .tenantName("Jane Smith")
+                .roomNumber("R101")
+                .houseName("Test House")
+                .amountPaid(new BigDecimal("250000.00"))
+                .paymentDate(LocalDate.of(2025, 1, 5))
+                .status(PaymentStatus.PAID)
+                .transactionReference(reference)
+                .build();
+    }
+}
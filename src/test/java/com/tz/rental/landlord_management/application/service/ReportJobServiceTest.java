@@ -0,0 +1,223 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.api.rest.dto.StandardErrorResponse;
+import com.tz.rental.landlord_management.api.rest.exception.GlobalExceptionHandler;
+import com.tz.rental.landlord_management.application.dto.ReportJobRequest;
+import com.tz.rental.landlord_management.application.dto.ReportJobResponse;
+import com.tz.rental.landlord_management.domain.exception.DomainException;
+import com.tz.rental.landlord_management.domain.exception.NotFoundException;
+import com.tz.rental.landlord_management.domain.model.valueobject.Role;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceTest {
+
+    private static final byte[] PDF = "%PDF-1.7".getBytes();
+
+    @Mock
+    private ReportingService reportingService;
+
+    @Mock
+    private ReportCacheService reportCacheService;
+
+    @Mock
+    private PdfGenerationService pdfGenerationService;
+
+    @Mock
+    private ExcelGenerationService excelGenerationService;
+
+    @TempDir
+    private Path storageDir;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ReportJobService reportJobService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (reportJobService != null) {
+            reportJobService.shutdown();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void submit_shouldRejectWhenQueueIsFullAndMapToServiceUnavailable() throws Exception {
+        // Arrange: the only worker is busy and the single queue slot is taken
+        reportJobService = service(1, 1, Duration.ofHours(1));
+        signIn(UUID.randomUUID());
+        blockVacancyReports();
+        awaitStatus(reportJobService.submit(vacancyPdf()).getJobId(), ReportJobResponse.Status.RUNNING);
+        reportJobService.submit(vacancyPdf());
+
+        // Act
+        TaskRejectedException rejected = assertThrows(TaskRejectedException.class, () -> reportJobService.submit(vacancyPdf()));
+        ResponseEntity<StandardErrorResponse> response = new GlobalExceptionHandler()
+                .handleTaskRejectedException(rejected, new MockHttpServletRequest("POST", "/api/v1/reports/jobs"));
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(1, reportJobService.getMetrics().getRejectedJobs());
+        assertEquals(2, reportJobService.getMetrics().getStoredJobs());
+    }
+
+    @Test
+    void getStatusAndFile_shouldHideJobsOfOtherLandlords() {
+        // Arrange
+        reportJobService = service(1, 5, Duration.ofHours(1));
+        signIn(UUID.randomUUID());
+        blockVacancyReports();
+        UUID jobId = reportJobService.submit(vacancyPdf()).getJobId();
+
+        // Act
+        signIn(UUID.randomUUID());
+
+        // Assert
+        assertThrows(NotFoundException.class, () -> reportJobService.getStatus(jobId));
+        assertThrows(NotFoundException.class, () -> reportJobService.getFile(jobId));
+    }
+
+    @Test
+    void job_shouldMoveFromQueuedThroughRunningToCompleted() throws Exception {
+        // Arrange
+        reportJobService = service(1, 5, Duration.ofHours(1));
+        signIn(UUID.randomUUID());
+        blockVacancyReports();
+        when(pdfGenerationService.generateVacancyPdf(any())).thenReturn(PDF);
+        UUID first = reportJobService.submit(vacancyPdf()).getJobId();
+
+        // Act
+        ReportJobResponse queued = reportJobService.submit(vacancyPdf());
+        awaitStatus(first, ReportJobResponse.Status.RUNNING);
+        assertThrows(DomainException.class, () -> reportJobService.getFile(first));
+        release.countDown();
+        ReportJobResponse completed = awaitStatus(queued.getJobId(), ReportJobResponse.Status.COMPLETED);
+
+        // Assert
+        assertEquals(ReportJobResponse.Status.QUEUED, queued.getStatus());
+        assertNull(queued.getDownloadUrl());
+        assertEquals("/api/v1/reports/jobs/" + queued.getJobId() + "/download", completed.getDownloadUrl());
+        ReportJobService.JobFile file = reportJobService.getFile(queued.getJobId());
+        assertArrayEquals(PDF, Files.readAllBytes(file.path()));
+        assertEquals("application/pdf", file.contentType());
+    }
+
+    @Test
+    void job_shouldBeMarkedFailedWhenRenderingThrows() throws Exception {
+        // Arrange
+        reportJobService = service(1, 5, Duration.ofHours(1));
+        signIn(UUID.randomUUID());
+        when(reportingService.generateVacancyReport(any())).thenThrow(new IllegalStateException("database unavailable"));
+
+        // Act
+        UUID jobId = reportJobService.submit(vacancyPdf()).getJobId();
+        ReportJobResponse failed = awaitStatus(jobId, ReportJobResponse.Status.FAILED);
+
+        // Assert
+        assertEquals("database unavailable", failed.getError());
+        assertNotNull(failed.getCompletedAt());
+        assertEquals(1, reportJobService.getMetrics().getFailedJobs());
+    }
+
+    @Test
+    void purgeExpiredJobs_shouldDropFinishedJobsPastRetentionAndTheirFiles() throws Exception {
+        // Arrange
+        reportJobService = service(1, 5, Duration.ZERO);
+        signIn(UUID.randomUUID());
+        when(pdfGenerationService.generateVacancyPdf(any())).thenReturn(PDF);
+        UUID jobId = reportJobService.submit(vacancyPdf()).getJobId();
+        awaitStatus(jobId, ReportJobResponse.Status.COMPLETED);
+        Path file = reportJobService.getFile(jobId).path();
+
+        // Act
+        reportJobService.purgeExpiredJobs();
+
+        // Assert
+        assertThrows(NotFoundException.class, () -> reportJobService.getStatus(jobId));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void purgeExpiredJobs_shouldKeepRunningAndRecentJobs() throws Exception {
+        // Arrange
+        reportJobService = service(1, 5, Duration.ofHours(1));
+        signIn(UUID.randomUUID());
+        when(pdfGenerationService.generateVacancyPdf(any())).thenReturn(PDF);
+        UUID recent = reportJobService.submit(vacancyPdf()).getJobId();
+        awaitStatus(recent, ReportJobResponse.Status.COMPLETED);
+
+        // Act
+        reportJobService.purgeExpiredJobs();
+
+        // Assert
+        assertEquals(ReportJobResponse.Status.COMPLETED, reportJobService.getStatus(recent).getStatus());
+        assertTrue(Files.exists(reportJobService.getFile(recent).path()));
+    }
+
+    private ReportJobService service(int poolSize, int queueCapacity, Duration retention) {
+        return new ReportJobService(reportingService, reportCacheService, pdfGenerationService, excelGenerationService,
+                poolSize, queueCapacity, storageDir.toString(), retention);
+    }
+
+    private void blockVacancyReports() {
+        when(reportingService.generateVacancyReport(any())).thenAnswer(invocation -> {
+            release.await();
+            return null;
+        });
+    }
+
+    // Finished jobs also wait for completedAt, which the worker sets after the final status
+    private ReportJobResponse awaitStatus(UUID jobId, ReportJobResponse.Status status) throws InterruptedException {
+        boolean finished = status == ReportJobResponse.Status.COMPLETED || status == ReportJobResponse.Status.FAILED;
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        ReportJobResponse response = reportJobService.getStatus(jobId);
+        while ((response.getStatus() != status || (finished && response.getCompletedAt() == null))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            response = reportJobService.getStatus(jobId);
+        }
+        assertEquals(status, response.getStatus());
+        return response;
+    }
+
+    private ReportJobRequest vacancyPdf() {
+        ReportJobRequest request = new ReportJobRequest();
+        request.setType(ReportJobRequest.ReportType.VACANCY);
+        request.setFormat(ReportJobRequest.ReportFormat.PDF);
+        return request;
+    }
+
+    private void signIn(UUID landlordId) {
+        LandlordEntity landlord = new LandlordEntity();
+        landlord.setId(landlordId);
+        UserEntity user = new UserEntity();
+        user.setUsername("landlord-" + landlordId);
+        user.setRole(Role.ROLE_LANDLORD);
+        user.setLandlord(landlord);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
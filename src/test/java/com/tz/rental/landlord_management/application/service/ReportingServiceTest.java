@@ -0,0 +1,124 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.IncomeRangeMonth;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReport;
+import com.tz.rental.landlord_management.application.dto.IncomeRangeReportEntry;
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.infrastructure.persistence.projection.LeaseMonthIncomeProjection;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLeaseRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaPaymentRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportingServiceTest {
+
+    @Mock
+    private JpaLeaseRepository jpaLeaseRepository;
+
+    @Mock
+    private JpaRoomRepository jpaRoomRepository;
+
+    @Mock
+    private JpaPaymentRepository jpaPaymentRepository;
+
+    @InjectMocks
+    private ReportingService reportingService;
+
+    private Landlord.LandlordId landlordId;
+
+    @BeforeEach
+    void setUp() {
+        landlordId = new Landlord.LandlordId(UUID.randomUUID());
+    }
+
+    @Test
+    void generateIncomeRangeReport_shouldTotalPerMonthAndPerLease() {
+        // Arrange
+        UUID leaseA = UUID.randomUUID();
+        UUID leaseB = UUID.randomUUID();
+        YearMonth from = YearMonth.of(2025, 1);
+        YearMonth to = YearMonth.of(2025, 3);
+        when(jpaLeaseRepository.findMonthlyIncomeRangeByLandlordId(eq(landlordId.value()),
+                eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2025, 3, 1))))
+                .thenReturn(List.of(
+                        row(leaseA, LocalDate.of(2025, 1, 1), "100000", "100000"),
+                        row(leaseA, LocalDate.of(2025, 2, 1), "100000", "40000"),
+                        row(leaseB, LocalDate.of(2025, 2, 1), "50000", "50000")));
+
+        // Act
+        IncomeRangeReport report = reportingService.generateIncomeRangeReport(landlordId, from, to);
+
+        // Assert
+        assertEquals(new BigDecimal("250000"), report.getTotalExpectedIncome());
+        assertEquals(new BigDecimal("190000"), report.getTotalActualIncome());
+        assertEquals(new BigDecimal("60000"), report.getTotalOutstandingBalance());
+
+        assertEquals(3, report.getMonths().size());
+        IncomeRangeMonth february = report.getMonths().get(1);
+        assertEquals(YearMonth.of(2025, 2), february.getMonth());
+        assertEquals(2, february.getLeaseCount());
+        assertEquals(new BigDecimal("150000"), february.getExpectedIncome());
+        IncomeRangeMonth march = report.getMonths().get(2);
+        assertEquals(0, march.getLeaseCount());
+        assertEquals(BigDecimal.ZERO, march.getExpectedIncome());
+
+        assertEquals(2, report.getEntries().size());
+        IncomeRangeReportEntry entryA = report.getEntries().get(0);
+        assertEquals(leaseA, entryA.getLeaseId());
+        assertEquals(2, entryA.getMonthsBilled());
+        assertEquals(new BigDecimal("60000"), entryA.getBalance());
+    }
+
+    @Test
+    void generateIncomeRangeReport_shouldRejectReversedRange() {
+        assertThrows(ValidationException.class,
+                () -> reportingService.generateIncomeRangeReport(landlordId, YearMonth.of(2025, 3), YearMonth.of(2025, 1)));
+        verifyNoInteractions(jpaLeaseRepository);
+    }
+
+    @Test
+    void generateIncomeRangeReport_shouldRejectRangeLongerThanThreeYears() {
+        assertThrows(ValidationException.class,
+                () -> reportingService.generateIncomeRangeReport(landlordId, YearMonth.of(2022, 1), YearMonth.of(2025, 1)));
+        verifyNoInteractions(jpaLeaseRepository);
+    }
+
+    @Test
+    void validatePaymentHistoryRange_shouldRejectReversedDates() {
+        assertThrows(ValidationException.class,
+                () -> reportingService.validatePaymentHistoryRange(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 1, 1)));
+        assertDoesNotThrow(() -> reportingService.validatePaymentHistoryRange(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1)));
+    }
+
+    private LeaseMonthIncomeProjection row(UUID leaseId, LocalDate periodStart, String expectedRent, String amountPaid) {
+        return new LeaseMonthIncomeProjection() {
+            public UUID getLeaseId() { return leaseId; }
+            public String getTenantFirstName() { return "Jane"; }
+            public String getTenantLastName() { return "Smith"; }
+            public String getRoomNumber() { return "R101"; }
+            public String getHouseName() { return "Test House"; }
+            public LocalDate getPeriodStart() { return periodStart; }
+            public BigDecimal getExpectedRent() { return new BigDecimal(expectedRent); }
+            public BigDecimal getAmountPaid() { return new BigDecimal(amountPaid); }
+        };
+    }
+}
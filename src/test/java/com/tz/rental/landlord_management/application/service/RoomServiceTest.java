@@ -1,19 +1,32 @@
 package com.tz.rental.landlord_management.application.service;
 
 import com.tz.rental.landlord_management.application.dto.CreateRoomRequest;
+import com.tz.rental.landlord_management.application.dto.PaginatedResponse;
 import com.tz.rental.landlord_management.application.dto.RoomResponse;
 import com.tz.rental.landlord_management.application.dto.UpdateRoomStatusRequest;
+import com.tz.rental.landlord_management.domain.event.LandlordDataChangedEvent;
+import com.tz.rental.landlord_management.domain.exception.ValidationException;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
 import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.entity.RoomEntity;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
 import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -23,6 +36,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +49,9 @@ class RoomServiceTest {
     @Mock
     private JpaHouseRepository houseRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RoomService roomService;
 
@@ -44,9 +61,13 @@ class RoomServiceTest {
 
     @BeforeEach
     void setUp() {
+        LandlordEntity testLandlord = new LandlordEntity();
+        testLandlord.setId(UUID.randomUUID());
+
         testHouse = new HouseEntity();
         testHouse.setId(UUID.randomUUID());
         testHouse.setName("Test House");
+        testHouse.setLandlord(testLandlord);
 
         testRoom = new RoomEntity();
         testRoom.setId(UUID.randomUUID());
@@ -91,18 +112,51 @@ class RoomServiceTest {
     }
 
     @Test
-    void getAllRoomsForHouse_shouldReturnListOfRooms() {
+    void getAllRoomsForHouse_shouldReturnPageOfRooms() {
         // Arrange
-        when(houseRepository.findById(testHouse.getId())).thenReturn(Optional.of(testHouse));
-        when(roomRepository.findByHouse(testHouse)).thenReturn(Collections.singletonList(testRoom));
+        when(houseRepository.existsById(testHouse.getId())).thenReturn(true);
+        when(roomRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Collections.singletonList(testRoom), PageRequest.of(0, 20), 1));
 
         // Act
-        List<RoomResponse> response = roomService.getAllRoomsForHouse(testHouse.getId(), null);
+        PaginatedResponse<List<RoomResponse>> response =
+                roomService.getAllRoomsForHouse(testHouse.getId(), null, null, null, PageRequest.of(0, 20), false);
 
         // Assert
         assertNotNull(response);
-        assertEquals(1, response.size());
-        assertEquals(testRoom.getId(), response.get(0).getId());
+        assertEquals(1, response.getData().size());
+        assertEquals(testRoom.getId(), response.getData().get(0).getId());
+        assertEquals(1, response.getPagination().getTotalItems());
+    }
+
+    @Test
+    void getAllRoomsForHouse_shouldCapPageSizeAndKeepIdAsTieBreaker() {
+        // Arrange
+        when(houseRepository.existsById(testHouse.getId())).thenReturn(true);
+        when(roomRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+
+        // Act
+        roomService.getAllRoomsForHouse(testHouse.getId(), RoomStatus.VACANT, null, null,
+                PageRequest.of(0, 5_000, Sort.by(Sort.Direction.DESC, "monthlyRent")), false);
+
+        // Assert
+        verify(roomRepository).findAll(any(Specification.class), pageable.capture());
+        assertEquals(PageRequests.MAX_PAGE_SIZE, pageable.getValue().getPageSize());
+        assertEquals(Sort.by(Sort.Order.desc("monthlyRent"), Sort.Order.asc("id")), pageable.getValue().getSort());
+    }
+
+    @Test
+    void getAllRoomsForHouse_shouldRejectUnknownSortFieldAndInvertedRentRange() {
+        // Arrange
+        when(houseRepository.existsById(testHouse.getId())).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> roomService.getAllRoomsForHouse(testHouse.getId(), null, null, null,
+                PageRequest.of(0, 20, Sort.by("description")), false));
+        assertThrows(ValidationException.class, () -> roomService.getAllRoomsForHouse(testHouse.getId(), null,
+                new BigDecimal("500000"), new BigDecimal("100000"), PageRequest.of(0, 20), false));
+        verify(roomRepository, never()).findAll(any(Specification.class), any(Pageable.class));
     }
 
     @Test
@@ -137,6 +191,8 @@ class RoomServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals(RoomStatus.MAINTENANCE, response.getStatus());
+        verify(eventPublisher).publishEvent(new LandlordDataChangedEvent(
+                new Landlord.LandlordId(testHouse.getLandlord().getId()), LandlordDataChangedEvent.Source.ROOM));
     }
 
     @Test
@@ -149,5 +205,6 @@ class RoomServiceTest {
 
         // Assert
         verify(roomRepository).delete(testRoom);
+        verify(houseRepository).recalculateRoomStats(testHouse.getId(), RoomStatus.VACANT, RoomStatus.OCCUPIED);
     }
 }
\ No newline at end of file
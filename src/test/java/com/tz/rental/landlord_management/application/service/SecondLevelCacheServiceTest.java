@@ -0,0 +1,70 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.application.dto.CacheRegionStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheServiceTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    private SecondLevelCacheService secondLevelCacheService;
+
+    // Built by hand: SessionFactory is also an EntityManagerFactory, so @InjectMocks could pick either mock
+    @BeforeEach
+    void setUp() {
+        secondLevelCacheService = new SecondLevelCacheService(entityManagerFactory);
+    }
+
+    @Test
+    void getRegionStats_shouldReportHitRatioPerRegionSortedByName() {
+        // Arrange
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"users", "houses"});
+        CacheRegionStatistics users = region(90, 10, 10);
+        CacheRegionStatistics houses = region(0, 0, 0);
+        when(statistics.getCacheRegionStatistics("users")).thenReturn(users);
+        when(statistics.getCacheRegionStatistics("houses")).thenReturn(houses);
+
+        // Act
+        List<CacheRegionStatsResponse> regions = secondLevelCacheService.getRegionStats();
+
+        // Assert
+        assertEquals(2, regions.size());
+        assertEquals("houses", regions.get(0).getRegion());
+        assertEquals(0.0, regions.get(0).getHitRatio());
+        assertEquals("users", regions.get(1).getRegion());
+        assertEquals(0.9, regions.get(1).getHitRatio(), 1e-9);
+        assertEquals(10, regions.get(1).getPutCount());
+    }
+
+    private CacheRegionStatistics region(long hits, long misses, long puts) {
+        CacheRegionStatistics stats = mock(CacheRegionStatistics.class);
+        when(stats.getHitCount()).thenReturn(hits);
+        when(stats.getMissCount()).thenReturn(misses);
+        when(stats.getPutCount()).thenReturn(puts);
+        return stats;
+    }
+}
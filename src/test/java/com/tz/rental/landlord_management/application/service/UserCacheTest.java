@@ -0,0 +1,101 @@
+package com.tz.rental.landlord_management.application.service;
+
+import com.tz.rental.landlord_management.domain.event.UserSecurityChangedEvent;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.NaturalIdRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    @Mock
+    private NaturalIdRepository naturalIdRepository;
+
+    @Mock
+    private JpaUserRepository userRepository;
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(naturalIdRepository, userRepository, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void isTokenRevoked_shouldRefuseTokensIssuedBeforeTheStoredCutoff() {
+        // Arrange
+        UserEntity user = user("testuser");
+        user.revokeTokens();
+        UserEntity other = user("otheruser");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(other));
+        Date issuedBefore = new Date(System.currentTimeMillis() - 5_000);
+
+        // Act & Assert
+        assertTrue(userCache.isTokenRevoked("testuser", issuedBefore));
+        assertFalse(userCache.isTokenRevoked("testuser", new Date(System.currentTimeMillis() + 5_000)));
+        assertFalse(userCache.isTokenRevoked("otheruser", issuedBefore));
+    }
+
+    @Test
+    void isTokenRevoked_shouldRefuseTokensOfDeletedUsers() {
+        // Arrange
+        when(userRepository.findByUsername("deleteduser")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(userCache.isTokenRevoked("deleteduser", new Date()));
+    }
+
+    @Test
+    void isTokenRevoked_shouldRereadTheCutoffAfterSecurityChange() {
+        // Arrange
+        UserEntity user = user("testuser");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        Date issuedBefore = new Date(System.currentTimeMillis() - 5_000);
+        assertFalse(userCache.isTokenRevoked("testuser", issuedBefore));
+
+        // Act
+        user.revokeTokens();
+        userCache.onUserSecurityChanged(new UserSecurityChangedEvent("testuser", UserSecurityChangedEvent.Reason.PASSWORD_RESET));
+
+        // Assert
+        assertTrue(userCache.isTokenRevoked("testuser", issuedBefore));
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    void getUser_shouldReloadAfterSecurityChange() {
+        // Arrange
+        UserEntity user = user("testuser");
+        when(naturalIdRepository.findBySimpleNaturalId(UserEntity.class, "testuser")).thenReturn(Optional.of(user));
+        userCache.getUser("testuser");
+        userCache.getUser("testuser");
+
+        // Act
+        userCache.onUserSecurityChanged(new UserSecurityChangedEvent("testuser", UserSecurityChangedEvent.Reason.DEACTIVATED));
+        userCache.getUser("testuser");
+
+        // Assert
+        verify(naturalIdRepository, times(2)).findBySimpleNaturalId(UserEntity.class, "testuser");
+    }
+
+    private UserEntity user(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        return user;
+    }
+}
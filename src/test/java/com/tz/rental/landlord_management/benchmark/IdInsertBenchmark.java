@@ -0,0 +1,115 @@
+package com.tz.rental.landlord_management.benchmark;
+
+import com.tz.rental.landlord_management.domain.service.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Insert throughput into a payments-shaped table keyed by random (v4) or time-ordered (v7) UUIDs, on top of
+// an already large primary key index. Needs Docker for the Postgres container. Run with:
+//   mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+//   java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+//        com.tz.rental.landlord_management.benchmark.IdInsertBenchmark
+// The primary key index size printed at teardown shows the extra pages left behind by v4 page splits.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    private static final int PRELOADED_ROWS = 500_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"v4", "v7"})
+    private String idVersion;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private IdGenerator ids;
+    private UUID leaseId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE payments (
+                        id           UUID           NOT NULL PRIMARY KEY,
+                        lease_id     UUID           NOT NULL,
+                        amount_paid  NUMERIC(38, 2) NOT NULL,
+                        payment_date DATE           NOT NULL,
+                        created_at   TIMESTAMP(6)   NOT NULL DEFAULT now())""");
+        }
+        ids = "v7".equals(idVersion) ? IdGenerator.timeOrdered() : IdGenerator.random();
+        leaseId = UUID.randomUUID();
+        insert = connection.prepareStatement("INSERT INTO payments (id, lease_id, amount_paid, payment_date) VALUES (?, ?, ?, ?)");
+        for (int i = 0; i < PRELOADED_ROWS; i += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE payments");
+        }
+    }
+
+    // One operation is a committed batch of BATCH_SIZE payments, as a bulk import would write them
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        Date paymentDate = Date.valueOf(LocalDate.of(2025, 1, 5));
+        BigDecimal amount = new BigDecimal("150000.00");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, ids.nextId());
+            insert.setObject(2, leaseId);
+            insert.setBigDecimal(3, amount);
+            insert.setDate(4, paymentDate);
+            insert.addBatch();
+        }
+        return insert.executeBatch();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet size = statement.executeQuery(
+                     "SELECT count(*), pg_size_pretty(pg_relation_size('payments_pkey')) FROM payments")) {
+            size.next();
+            System.out.printf("%n[%s] %d rows, primary key index %s%n", idVersion, size.getLong(1), size.getString(2));
+        }
+        insert.close();
+        connection.close();
+        postgres.stop();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IdInsertBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,51 @@
+package com.tz.rental.landlord_management.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    void nextId_shouldEncodeVersionVariantAndTimestamp() {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW, () -> new Random(42));
+
+        // Act
+        UUID id = generator.nextId();
+
+        // Assert
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void nextId_shouldIncreaseWithinOneMillisecondAndWhenClockStepsBack() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        Random random = new Random(7);
+        UuidV7Generator generator = new UuidV7Generator(clock::get, () -> random);
+
+        // Act & Assert
+        UUID previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.set(NOW - 1_000);
+            }
+            UUID last = previous;
+            UUID next = generator.nextId();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), last.getMostSignificantBits()) > 0,
+                    () -> next + " is not after " + last);
+            previous = next;
+        }
+        // 10,000 ids cannot fit one millisecond's 4,096 counter values, so the timestamp was carried forward
+        assertTrue((previous.getMostSignificantBits() >>> 16) > NOW);
+    }
+}
@@ -0,0 +1,96 @@
+package com.tz.rental.landlord_management.infrastructure.persistence;
+
+import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Room writes recompute one house's stats; that must not evict the other cached houses
+@SpringBootTest
+@Testcontainers
+class HouseRoomStatsCacheTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("test_db")
+            .withUsername("test_user")
+            .withPassword("test_pass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JpaHouseRepository jpaHouseRepository;
+
+    private UUID writtenHouseId;
+    private UUID cachedHouseId;
+
+    @BeforeEach
+    void setUp() {
+        UUID landlordId = UUID.randomUUID();
+        writtenHouseId = UUID.randomUUID();
+        cachedHouseId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO landlords (id, first_name, last_name, email, phone_number, is_active, created_at, updated_at) " +
+                "VALUES (?, 'John', 'Doe', ?, ?, true, now(), now())", landlordId, "stats-" + landlordId + "@example.com",
+                landlordId.toString().substring(0, 12));
+        for (UUID houseId : new UUID[]{writtenHouseId, cachedHouseId}) {
+            jdbcTemplate.update("INSERT INTO houses (id, property_code, name, house_type, landlord_id, created_at, updated_at) " +
+                    "VALUES (?, ?, 'Stats House', 'APARTMENT', ?, now(), now())", houseId, "STATS-" + houseId, landlordId);
+        }
+        jdbcTemplate.update("INSERT INTO rooms (id, house_id, room_number, monthly_rent, status, created_at, updated_at) " +
+                "VALUES (?, ?, 'R1', 150000, 'OCCUPIED', now(), now())", UUID.randomUUID(), writtenHouseId);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void recalculateRoomStats_shouldKeepOtherHousesCached() {
+        // Arrange
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(HouseEntity.class, cachedHouseId));
+        assertTrue(entityManagerFactory.getCache().contains(HouseEntity.class, cachedHouseId));
+
+        // Act
+        transactionTemplate.executeWithoutResult(status ->
+                jpaHouseRepository.recalculateRoomStats(writtenHouseId, RoomStatus.VACANT, RoomStatus.OCCUPIED));
+
+        // Assert
+        assertTrue(entityManagerFactory.getCache().contains(HouseEntity.class, cachedHouseId));
+        HouseEntity written = transactionTemplate.execute(status -> entityManager.find(HouseEntity.class, writtenHouseId));
+        assertNotNull(written);
+        assertEquals(1, written.getTotalRooms());
+        assertEquals(1, written.getOccupiedRooms());
+        assertEquals(0, new BigDecimal("150000").compareTo(written.getOccupiedMonthlyIncome()));
+    }
+}
@@ -0,0 +1,126 @@
+package com.tz.rental.landlord_management.infrastructure.persistence;
+
+import com.tz.rental.landlord_management.domain.model.valueobject.HouseType;
+import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.HouseEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.RoomEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Counts the statements Hibernate prepares so a regression back to eager image loading shows up as extra queries
+@SpringBootTest
+@Testcontainers
+@Transactional
+class ImageUrlFetchTest {
+
+    private static final int ROOM_COUNT = 5;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("test_db")
+            .withUsername("test_user")
+            .withPassword("test_pass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID houseId;
+
+    @BeforeEach
+    void setUp() {
+        LandlordEntity landlord = new LandlordEntity();
+        landlord.setId(UUID.randomUUID());
+        landlord.setFirstName("John");
+        landlord.setLastName("Doe");
+        landlord.setEmail("images-" + landlord.getId() + "@example.com");
+        landlord.setPhoneNumber(landlord.getId().toString().substring(0, 12));
+        entityManager.persist(landlord);
+
+        HouseEntity house = new HouseEntity();
+        house.setId(UUID.randomUUID());
+        house.setPropertyCode("IMG-" + house.getId());
+        house.setName("Image House");
+        house.setHouseType(HouseType.APARTMENT);
+        house.setLandlord(landlord);
+        house.setImageUrls(new ArrayList<>(List.of("https://img.example.com/house-1.jpg", "https://img.example.com/house-2.jpg")));
+        entityManager.persist(house);
+        houseId = house.getId();
+
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            RoomEntity room = new RoomEntity();
+            room.setId(UUID.randomUUID());
+            room.setHouse(house);
+            room.setRoomNumber("R" + i);
+            room.setMonthlyRent(new BigDecimal("150000"));
+            room.setStatus(RoomStatus.VACANT);
+            room.setImageUrls(new ArrayList<>(List.of("https://img.example.com/room-" + i + ".jpg")));
+            entityManager.persist(room);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findHouse_shouldNotLoadImageUrls() {
+        // Act
+        HouseEntity house = entityManager.find(HouseEntity.class, houseId);
+
+        // Assert
+        assertFalse(Hibernate.isInitialized(house.getImageUrls()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void roomPage_shouldLoadImageUrlsOfAllRoomsInOneBatch() {
+        // Act
+        List<RoomEntity> rooms = entityManager
+                .createQuery("select r from RoomEntity r where r.house.id = :houseId order by r.roomNumber", RoomEntity.class)
+                .setParameter("houseId", houseId)
+                .getResultList();
+        long afterRoomQuery = statistics.getPrepareStatementCount();
+        rooms.forEach(room -> assertEquals(1, room.getImageUrls().size()));
+
+        // Assert
+        assertEquals(ROOM_COUNT, rooms.size());
+        assertEquals(1, afterRoomQuery);
+        // One batch for every room, where eager loading cost one query per room
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,336 @@
+package com.tz.rental.landlord_management.infrastructure.persistence;
+
+import com.tz.rental.landlord_management.application.dto.CursorPaginatedResponse;
+import com.tz.rental.landlord_management.application.service.HouseService;
+import com.tz.rental.landlord_management.application.service.RentLedgerService;
+import com.tz.rental.landlord_management.application.service.RoomService;
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.domain.model.valueobject.Role;
+import com.tz.rental.landlord_management.domain.model.valueobject.RoomStatus;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.LeaseFilter;
+import com.tz.rental.landlord_management.domain.repository.LeaseRepository;
+import com.tz.rental.landlord_management.domain.repository.PaymentFilter;
+import com.tz.rental.landlord_management.domain.repository.PaymentRepository;
+import com.tz.rental.landlord_management.domain.repository.TenantFilter;
+import com.tz.rental.landlord_management.domain.repository.TenantRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.LandlordEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.entity.UserEntity;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaHouseRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordIncomeRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLandlordRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaLeaseRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaPaymentRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRentLedgerRepository;
+import com.tz.rental.landlord_management.infrastructure.persistence.repository.jpa.JpaRoomRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the Flyway migrations against Postgres, seeds a few landlords' worth of data, calls the hot repository
+// and service methods and EXPLAINs every SELECT Hibernate sent for them, so the plans follow the real SQL.
+@SpringBootTest
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    // EXPLAIN (GENERIC_PLAN) plans the captured statements with their $n placeholders; it needs Postgres 16
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("test_db")
+            .withUsername("test_user")
+            .withPassword("test_pass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        CapturingStatementInspector capturingStatementInspector() {
+            return new CapturingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(CapturingStatementInspector inspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    // Records the SQL of every statement Hibernate prepares, unchanged
+    static class CapturingStatementInspector implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public synchronized String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        synchronized List<String> drain() {
+            List<String> drained = new ArrayList<>(statements);
+            statements.clear();
+            return drained;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CapturingStatementInspector inspector;
+
+    @Autowired
+    private HouseService houseService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private RentLedgerService rentLedgerService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private LeaseRepository leaseRepository;
+
+    @Autowired
+    private JpaHouseRepository jpaHouseRepository;
+
+    @Autowired
+    private JpaRoomRepository jpaRoomRepository;
+
+    @Autowired
+    private JpaLeaseRepository jpaLeaseRepository;
+
+    @Autowired
+    private JpaPaymentRepository jpaPaymentRepository;
+
+    @Autowired
+    private JpaRentLedgerRepository jpaRentLedgerRepository;
+
+    @Autowired
+    private JpaLandlordRepository jpaLandlordRepository;
+
+    @Autowired
+    private JpaLandlordIncomeRepository jpaLandlordIncomeRepository;
+
+    private UUID landlordId;
+    private UUID houseId;
+    private UUID roomId;
+    private UUID tenantId;
+    private UUID leaseId;
+
+    // 200 landlords, 2,000 houses, 20,000 rooms, tenants and leases, 100,000 payments, a year of rent ledger
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("""
+                INSERT INTO landlords (id, first_name, last_name, email, phone_number, is_active, created_at, updated_at)
+                SELECT gen_random_uuid(), 'Landlord', 'L' || g, 'landlord' || g || '@example.com', '+2557' || lpad(g::text, 8, '0'),
+                       true, now(), now()
+                FROM generate_series(1, 200) g""");
+        jdbcTemplate.execute("""
+                INSERT INTO houses (id, property_code, name, house_type, landlord_id, created_at, updated_at)
+                SELECT gen_random_uuid(), 'P-' || l.last_name || '-' || g, 'House ' || g, 'APARTMENT', l.id,
+                       now() - g * interval '1 hour', now()
+                FROM landlords l CROSS JOIN generate_series(1, 10) g""");
+        jdbcTemplate.execute("""
+                INSERT INTO house_image_urls (house_id, image_url)
+                SELECT id, 'https://img.example.com/' || id || '.jpg' FROM houses""");
+        jdbcTemplate.execute("""
+                INSERT INTO rooms (id, house_id, room_number, monthly_rent, status, created_at, updated_at)
+                SELECT gen_random_uuid(), h.id, 'R' || g, 150000, CASE WHEN g % 3 = 0 THEN 'VACANT' ELSE 'OCCUPIED' END,
+                       now() - g * interval '1 minute', now()
+                FROM houses h CROSS JOIN generate_series(1, 10) g""");
+        jdbcTemplate.execute("""
+                INSERT INTO room_image_urls (room_id, image_url)
+                SELECT id, 'https://img.example.com/' || id || '.jpg' FROM rooms""");
+        jdbcTemplate.execute("""
+                INSERT INTO tenants (id, landlord_id, first_name, last_name, email, phone_number, active, created_at, updated_at)
+                SELECT gen_random_uuid(), l.id, 'Tenant', l.last_name || '-' || g, 'tenant-' || l.last_name || '-' || g || '@example.com',
+                       '+2556' || lpad(((row_number() OVER ()))::text, 8, '0'), true, now(), now()
+                FROM landlords l CROSS JOIN generate_series(1, 100) g""");
+        jdbcTemplate.execute("""
+                INSERT INTO leases (id, tenant_id, room_id, start_date, end_date, rent_amount, payment_period, status, created_at, updated_at)
+                SELECT gen_random_uuid(), t.id, r.id, DATE '2025-01-01', DATE '2025-12-31', 150000, 'MONTHLY',
+                       CASE WHEN r.rn % 4 = 0 THEN 'TERMINATED' ELSE 'ACTIVE' END, now(), now()
+                FROM (SELECT id, row_number() OVER (ORDER BY id) rn FROM rooms) r
+                JOIN (SELECT id, row_number() OVER (ORDER BY id) rn FROM tenants) t ON t.rn = r.rn""");
+        jdbcTemplate.execute("""
+                INSERT INTO payments (id, lease_id, amount_paid, payment_date, status, created_at, updated_at)
+                SELECT gen_random_uuid(), l.id, 150000, DATE '2025-01-05' + (g * 30), 'PAID', now(), now()
+                FROM leases l CROSS JOIN generate_series(0, 4) g""");
+        rentLedgerService.rebuild();
+        jdbcTemplate.execute("""
+                INSERT INTO landlord_monthly_income (id, landlord_id, period_start, amount_collected, created_at, updated_at)
+                SELECT gen_random_uuid(), h.landlord_id, CAST(date_trunc('month', p.payment_date) AS DATE), SUM(p.amount_paid), now(), now()
+                FROM payments p JOIN leases l ON l.id = p.lease_id JOIN rooms r ON r.id = l.room_id JOIN houses h ON h.id = r.house_id
+                GROUP BY h.landlord_id, CAST(date_trunc('month', p.payment_date) AS DATE)""");
+        jdbcTemplate.execute("ANALYZE");
+
+        leaseId = jdbcTemplate.queryForObject("SELECT id FROM leases ORDER BY id LIMIT 1", UUID.class);
+        roomId = jdbcTemplate.queryForObject("SELECT room_id FROM leases WHERE id = ?", UUID.class, leaseId);
+        tenantId = jdbcTemplate.queryForObject("SELECT tenant_id FROM leases WHERE id = ?", UUID.class, leaseId);
+        houseId = jdbcTemplate.queryForObject("SELECT house_id FROM rooms WHERE id = ?", UUID.class, roomId);
+        landlordId = jdbcTemplate.queryForObject("SELECT landlord_id FROM houses WHERE id = ?", UUID.class, houseId);
+        signIn(landlordId);
+    }
+
+    @AfterAll
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    Stream<Arguments> hotQueries() {
+        LocalDate january = LocalDate.of(2025, 1, 1);
+        LocalDate june = LocalDate.of(2025, 6, 1);
+        // A position past the first page, so the listings below carry the (createdAt, id) seek predicate
+        KeysetRequest secondPage = new KeysetRequest(LocalDateTime.of(2025, 1, 1, 0, 0), new UUID(0, 0), false, 20);
+        return Stream.of(
+                Arguments.of("second page of a landlord's houses with images", List.of("houses", "house_image_urls"),
+                        (Runnable) () -> houseService.getHousesByCursor(
+                                houseService.getHousesByCursor(null, 3, null, false, false).getPagination().getNextCursor(),
+                                3, null, true, true)),
+                Arguments.of("second page of a house's rooms with images", List.of("rooms", "room_image_urls"),
+                        (Runnable) () -> roomService.getRoomsForHouseByCursor(houseId, null, null, null,
+                                roomService.getRoomsForHouseByCursor(houseId, null, null, null, null, 3, false, false)
+                                        .getPagination().getNextCursor(),
+                                3, true, true)),
+                Arguments.of("tenants with a lease in a landlord's houses", List.of("tenants", "leases"),
+                        (Runnable) () -> {
+                            tenantRepository.findByLandlordId(new Landlord.LandlordId(landlordId), new TenantFilter(null, null), secondPage);
+                            tenantRepository.countByLandlordId(new Landlord.LandlordId(landlordId), new TenantFilter(null, null));
+                        }),
+                Arguments.of("payments of a lease", List.of("payments"),
+                        (Runnable) () -> paymentRepository.findByLeaseId(leaseId,
+                                new PaymentFilter(null, null, null, null, null), secondPage)),
+                Arguments.of("leases in a landlord's houses", List.of("leases"),
+                        (Runnable) () -> leaseRepository.findByLandlordId(new Landlord.LandlordId(landlordId),
+                                new LeaseFilter(null, null, null, null, null), secondPage)),
+                Arguments.of("active lease of a room", List.of("leases"),
+                        (Runnable) () -> jpaLeaseRepository.findActiveLeaseByRoomId(roomId)),
+                Arguments.of("leases of a tenant", List.of("leases"),
+                        (Runnable) () -> jpaLeaseRepository.findByTenantId(tenantId)),
+                Arguments.of("payments of a lease in a date range", List.of("payments"),
+                        (Runnable) () -> jpaPaymentRepository.sumAmountByLeaseIdInAndPaymentDateBetween(List.of(leaseId),
+                                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 31))),
+                Arguments.of("vacant rooms of a landlord", List.of("rooms"),
+                        (Runnable) () -> jpaRoomRepository.findRoomsWithHouseByLandlordIdAndStatus(landlordId, RoomStatus.VACANT)),
+                Arguments.of("room stats of a house", List.of("rooms"),
+                        (Runnable) () -> jpaHouseRepository.sumRoomStatsByHouseId(houseId, RoomStatus.VACANT, RoomStatus.OCCUPIED)),
+                Arguments.of("monthly income from the ledger", List.of("rent_ledger", "leases"),
+                        (Runnable) () -> {
+                            jpaLeaseRepository.findMonthlyIncomeByLandlordId(landlordId, january);
+                            jpaLeaseRepository.sumMonthlyIncomeByLandlordId(landlordId, january);
+                        }),
+                Arguments.of("income range from the ledger", List.of("rent_ledger", "leases"),
+                        (Runnable) () -> jpaLeaseRepository.findMonthlyIncomeRangeByLandlordId(landlordId, january, june)),
+                Arguments.of("ledger rows of a lease", List.of("rent_ledger"),
+                        (Runnable) () -> jpaRentLedgerRepository.findByLeaseIdForUpdate(leaseId)),
+                Arguments.of("dashboard stats", List.of("rooms", "leases", "landlord_monthly_income"),
+                        (Runnable) () -> jpaLandlordRepository.findDashboardStats(landlordId, RoomStatus.OCCUPIED, january)),
+                Arguments.of("income counters of a landlord", List.of("landlord_monthly_income", "payments"),
+                        (Runnable) () -> {
+                            jpaLandlordIncomeRepository.findByLandlordIdForUpdate(landlordId);
+                            jpaPaymentRepository.sumAmountByLandlordIdGroupedByMonth(landlordId);
+                        }));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQuery_shouldNotScanWholeTable(String description, List<String> tables, Runnable call) {
+        // Arrange
+        entityManagerFactory.getCache().evictAll();
+        inspector.drain();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> call.run());
+        List<String> selects = inspector.drain().stream()
+                .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+
+        // Assert
+        assertFalse(selects.isEmpty(), () -> description + " sent no SELECT");
+        for (String sql : selects) {
+            String planText = String.join("\n", jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numberPlaceholders(sql), String.class));
+            for (String table : tables) {
+                assertFalse(planText.contains("Seq Scan on " + table),
+                        () -> description + " scans " + table + ":\n" + sql + "\n" + planText);
+            }
+        }
+    }
+
+    // JDBC "?" markers become the $1..$n parameters EXPLAIN understands; string literals are left alone
+    private static String numberPlaceholders(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        boolean inLiteral = false;
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private static void signIn(UUID landlordId) {
+        LandlordEntity landlord = new LandlordEntity();
+        landlord.setId(landlordId);
+        UserEntity user = new UserEntity();
+        user.setUsername("landlord-" + landlordId);
+        user.setRole(Role.ROLE_LANDLORD);
+        user.setLandlord(landlord);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.tz.rental.landlord_management.infrastructure.persistence;
+
+import com.tz.rental.landlord_management.domain.model.aggregate.Landlord;
+import com.tz.rental.landlord_management.domain.model.aggregate.Tenant;
+import com.tz.rental.landlord_management.domain.repository.KeysetRequest;
+import com.tz.rental.landlord_management.domain.repository.KeysetSlice;
+import com.tz.rental.landlord_management.domain.repository.TenantFilter;
+import com.tz.rental.landlord_management.domain.repository.TenantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The tenant cursor listing must find tenants through their leases: tenants.landlord_id is not the owner
+@SpringBootTest
+@Testcontainers
+@Transactional
+class TenantKeysetListingTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("test_db")
+            .withUsername("test_user")
+            .withPassword("test_pass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    private Landlord.LandlordId landlordId;
+    private final List<UUID> leasedTenantIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UUID owner = insertLandlord();
+        UUID other = insertLandlord();
+        landlordId = new Landlord.LandlordId(owner);
+        UUID house = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO houses (id, property_code, name, house_type, landlord_id, created_at, updated_at) " +
+                "VALUES (?, ?, 'Keyset House', 'APARTMENT', ?, now(), now())", house, "KEY-" + house, owner);
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 8, 0);
+        for (int i = 0; i < 3; i++) {
+            // Registered under another landlord's id, leased in the owner's house
+            UUID tenant = insertTenant(other, createdAt.plusMinutes(i));
+            insertLease(tenant, house, "R" + i);
+            leasedTenantIds.add(tenant);
+        }
+        // Registered under the owner's id but never leased there
+        insertTenant(owner, createdAt.plusMinutes(10));
+    }
+
+    @Test
+    void findByLandlordId_shouldPageTenantsWithALeaseInTheLandlordsHouses() {
+        // Act
+        KeysetSlice<Tenant> first = tenantRepository.findByLandlordId(landlordId, new TenantFilter(null, null), KeysetRequest.first(2));
+        Tenant last = first.items().get(first.items().size() - 1);
+        KeysetSlice<Tenant> second = tenantRepository.findByLandlordId(landlordId, new TenantFilter(null, null),
+                new KeysetRequest(last.getCreatedAt(), last.getId().value(), false, 2));
+
+        // Assert
+        assertEquals(leasedTenantIds.subList(0, 2), first.items().stream().map(tenant -> tenant.getId().value()).toList());
+        assertTrue(first.hasNext());
+        assertEquals(leasedTenantIds.subList(2, 3), second.items().stream().map(tenant -> tenant.getId().value()).toList());
+        assertFalse(second.hasNext());
+        assertEquals(3, tenantRepository.countByLandlordId(landlordId, new TenantFilter(null, null)));
+    }
+
+    private UUID insertLandlord() {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO landlords (id, first_name, last_name, email, phone_number, is_active, created_at, updated_at) " +
+                "VALUES (?, 'John', 'Doe', ?, ?, true, now(), now())", id, "keyset-" + id + "@example.com", id.toString().substring(0, 12));
+        return id;
+    }
+
+    private UUID insertTenant(UUID landlord, LocalDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tenants (id, landlord_id, first_name, last_name, email, phone_number, active, created_at, updated_at) " +
+                "VALUES (?, ?, 'Tenant', 'Keyset', ?, ?, true, ?, ?)", id, landlord, "tenant-" + id + "@example.com",
+                "+2556" + String.format("%08d", Math.floorMod(id.hashCode(), 100_000_000)), createdAt, createdAt);
+        return id;
+    }
+
+    private void insertLease(UUID tenant, UUID house, String roomNumber) {
+        UUID room = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO rooms (id, house_id, room_number, monthly_rent, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 150000, 'OCCUPIED', now(), now())", room, house, roomNumber);
+        jdbcTemplate.update("INSERT INTO leases (id, tenant_id, room_id, start_date, end_date, rent_amount, payment_period, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, DATE '2025-01-01', DATE '2025-12-31', 150000, 'MONTHLY', 'ACTIVE', now(), now())",
+                UUID.randomUUID(), tenant, room);
+    }
+}